@@ -3,6 +3,7 @@ plugins {
     java
     id("org.danilopianini.gradle-java-qa") version "0.40.0"
     id("com.github.johnrengelman.shadow") version "7.0.0"
+    id("me.champeau.jmh") version "0.6.8"
 
 }
 
@@ -43,6 +44,19 @@ application {
     mainClass.set("game.ControllerImpl")
 }
 
+// Benchmarks in src/jmh, run them all with: ./gradlew jmh
+// or a subset with: ./gradlew jmh -Pjmh.includes=Collider
+jmh {
+    jmhVersion.set("1.36")
+    profilers.add("gc")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    if (project.hasProperty("jmh.includes")) {
+        includes.add(project.property("jmh.includes").toString())
+    }
+}
+
 tasks.test {
     useJUnitPlatform()
     testLogging {
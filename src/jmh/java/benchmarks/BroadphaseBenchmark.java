@@ -0,0 +1,119 @@
+package benchmarks;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import api.Point2D;
+import api.Vector2D;
+import game.engine.gameobject.GameObject;
+import game.engine.gameobject.ObjectStore;
+import game.engine.gameobject.hitboxmodel.Broadphase;
+import game.engine.gameobject.hitboxmodel.BroadphaseType;
+import game.engine.gameobject.hitboxmodel.Collider;
+import game.engine.gameobject.hitboxmodel.ColliderImpl;
+import game.engine.gameobject.hitboxmodel.RectangleHitBoxModel;
+
+/**
+ * Benchmark of the broadphases on a field of 16:9 with growing numbers of
+ * objects of the size of the triangles of DodgeATriangle, that move
+ * horizontally as they do, to find the number of objects where a broadphase
+ * starts to pay off: with a single query per tick, as in the game over checks,
+ * and with a query per object, as for all the pairs of a stress scene.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BroadphaseBenchmark {
+    private static final int HEIGHT = 900;
+    private static final int WIDTH = HEIGHT * 16 / 9;
+    private static final int SIZE = 90;
+    private static final int SPEED = 50;
+    private static final long STEP = 5;
+    private static final long SEED = 42;
+
+    /**
+     * The number of objects in the field.
+     */
+    @Param({ "4", "16", "64", "256", "1024" })
+    private int objects;
+    /**
+     * The broadphase to use.
+     */
+    @Param({ "BRUTE_FORCE", "GRID", "SWEEP_AND_PRUNE" })
+    private BroadphaseType broadphaseType;
+
+    private final Collider collider = new ColliderImpl();
+    private final BitSet result = new BitSet();
+    private final ObjectStore store = new ObjectStore();
+    private Broadphase broadphase;
+    private GameObject probe;
+
+    /**
+     * Places the objects at random.
+     */
+    @Setup
+    public void setup() {
+        final Random r = new Random(SEED);
+        for (int i = 0; i < objects; i++) {
+            final GameObject o = new GameObject(new Point2D(r.nextInt(WIDTH), r.nextInt(HEIGHT)),
+                    new Vector2D(r.nextBoolean() ? SPEED : -SPEED, 0));
+            o.setHitBoxModel(new RectangleHitBoxModel(SIZE, SIZE));
+            store.add(o);
+        }
+        probe = store.get(0);
+        broadphase = broadphaseType.create(HEIGHT);
+    }
+
+    /**
+     * Moves and indexes the objects and checks the collisions of one of them.
+     *
+     * @return the number of collisions.
+     */
+    @Benchmark
+    public int queryOne() {
+        move();
+        return collider.collide(probe, store, broadphase, result).cardinality();
+    }
+
+    /**
+     * Moves and indexes the objects and checks the collisions of each of them.
+     *
+     * @return the number of colliding pairs, counted twice.
+     */
+    @Benchmark
+    public int allPairs() {
+        move();
+        int pairs = 0;
+        for (int i = 0; i < store.size(); i++) {
+            pairs += collider.collide(store.get(i), store, broadphase, result).cardinality();
+        }
+        return pairs;
+    }
+
+    /**
+     * Moves the objects, wrapping them around the field so that the density
+     * stays the same.
+     */
+    private void move() {
+        store.integrate(STEP);
+        for (int i = 0; i < store.size(); i++) {
+            final GameObject o = store.get(i);
+            if (o.getX() < 0) {
+                o.setCoor(o.getX() + WIDTH, o.getY());
+            } else if (o.getX() > WIDTH) {
+                o.setCoor(o.getX() - WIDTH, o.getY());
+            }
+        }
+        broadphase.update(store);
+    }
+}
@@ -0,0 +1,76 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import api.Point2D;
+import api.Vector2D;
+import game.engine.gameobject.GameObject;
+import game.engine.gameobject.hitboxmodel.CircleHitBoxModel;
+import game.engine.gameobject.hitboxmodel.Collider;
+import game.engine.gameobject.hitboxmodel.ColliderImpl;
+import game.engine.gameobject.hitboxmodel.HitBoxModel;
+import game.engine.gameobject.hitboxmodel.RectangleHitBoxModel;
+
+/**
+ * Benchmark of {@link ColliderImpl#isColliding} for each pair of hitbox shapes,
+ * with objects that overlap and objects that are far apart.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ColliderBenchmark {
+    private static final double SIZE = 100;
+    private static final double NEAR = 60;
+    private static final double FAR = 1_000;
+
+    /**
+     * The shapes of the two objects.
+     */
+    @Param({ "CIRCLE_RECTANGLE", "RECTANGLE_CIRCLE", "RECTANGLE_RECTANGLE", "CIRCLE_CIRCLE" })
+    private String shapes;
+    /**
+     * Whether the two objects overlap.
+     */
+    @Param({ "true", "false" })
+    private boolean colliding;
+
+    private final Collider collider = new ColliderImpl();
+    private GameObject first;
+    private GameObject second;
+
+    /**
+     * Creates the two objects.
+     */
+    @Setup
+    public void setup() {
+        final String[] names = shapes.split("_");
+        first = object(names[0], Point2D.origin());
+        second = object(names[1], new Point2D(colliding ? NEAR : FAR, colliding ? NEAR : FAR));
+    }
+
+    private static GameObject object(final String shape, final Point2D coor) {
+        final HitBoxModel hitBox = "CIRCLE".equals(shape)
+                ? new CircleHitBoxModel(SIZE / 2)
+                : new RectangleHitBoxModel(SIZE, SIZE);
+        return new GameObject(coor, Vector2D.nullVector(), 0, null, null, null, hitBox);
+    }
+
+    /**
+     * Checks the collision of the two objects.
+     * 
+     * @return whether they are colliding.
+     */
+    @Benchmark
+    public boolean isColliding() {
+        return collider.isColliding(first, second);
+    }
+}
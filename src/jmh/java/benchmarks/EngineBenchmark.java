@@ -0,0 +1,63 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import game.engine.Engine;
+import game.engine.EngineImpl;
+import game.engine.ExecutionMode;
+import game.headless.InputSource;
+import game.headless.RandomBotInput;
+
+/**
+ * Benchmark of a full {@link EngineImpl} tick with all four minigames active.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EngineBenchmark {
+    private static final long STEP = 5;
+    private static final long SEED = 42;
+
+    /**
+     * How the engine updates the minigames.
+     */
+    @Param({ "SERIAL", "PARALLEL" })
+    private ExecutionMode mode;
+
+    private Engine engine;
+    private InputSource input;
+    private long time;
+
+    /**
+     * Creates the engine and adds every minigame.
+     */
+    @Setup
+    public void setup() {
+        engine = new EngineImpl(Engine.FIELD_HEIGHT, mode);
+        while (engine.activeMinigames() < engine.getMinigameSequence().size()) {
+            engine.addMinigame();
+        }
+        input = new RandomBotInput(SEED);
+    }
+
+    /**
+     * Performs a tick of the engine.
+     * 
+     * @return the engine.
+     */
+    @Benchmark
+    public Engine tick() {
+        time += STEP;
+        engine.step(STEP, input.poll(time));
+        return engine;
+    }
+}
@@ -0,0 +1,158 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import game.engine.Engine;
+import game.engine.gameobject.hitboxmodel.BroadphaseType;
+import game.engine.minigame.CatchTheSquare;
+import game.engine.minigame.DodgeATriangle;
+import game.engine.minigame.FlappyBirdAlike;
+import game.engine.minigame.Minigame;
+import game.engine.minigame.whacamoleminigame.WhacAMole;
+import game.headless.InputSource;
+import game.headless.RandomBotInput;
+
+/**
+ * Benchmark of a step of each minigame, input processing and
+ * {@link Minigame#compute} included.
+ *
+ * The minigame is played by a random bot, that sooner or later loses it, so
+ * each iteration measures a window of {@value #WINDOW_STEPS} steps of a game
+ * that is still running at its end: among the bots of the first
+ * {@value #BOTS} seeds, at EARLY difficulty the window is the start of the
+ * game of the first bot that survives it, at LATE difficulty it is the end of
+ * the longest game, the hardest level a bot reaches. The game is created and
+ * brought to the window before each iteration. The minigames that check the
+ * collisions through a broadphase can be measured with each of them, DEFAULT
+ * keeps their own.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MinigameBenchmark {
+    private static final long STEP = 5;
+    private static final int WINDOW_STEPS = 2_000;
+    private static final long WINDOW = WINDOW_STEPS * STEP;
+    private static final long MAX_TIME = 600_000L;
+    private static final int BOTS = 100;
+    private static final long SEED = 42;
+    private static final Map<String, BiFunction<Integer, Random, Minigame>> FACTORIES = Map.of(
+            "CatchTheSquare", CatchTheSquare::new,
+            "DodgeATriangle", DodgeATriangle::new,
+            "FlappyBirdAlike", FlappyBirdAlike::new,
+            "WhacAMole", WhacAMole::new);
+
+    /**
+     * The minigame to benchmark.
+     */
+    @Param({ "CatchTheSquare", "DodgeATriangle", "FlappyBirdAlike", "WhacAMole" })
+    private String minigame;
+    /**
+     * The difficulty at which the minigame is measured.
+     */
+    @Param({ "EARLY", "LATE" })
+    private String difficulty;
+    /**
+     * The broadphase of the collision checks.
+     */
+    @Param({ "DEFAULT", "BRUTE_FORCE", "GRID", "SWEEP_AND_PRUNE" })
+    private String broadphase;
+
+    private long seed;
+    private long windowStart;
+    private Minigame game;
+    private InputSource input;
+    private long time;
+
+    /**
+     * Plays the games of the bots to find the window to measure.
+     */
+    @Setup(Level.Trial)
+    public void findWindow() {
+        long longest = 0;
+        for (long s = SEED; s < SEED + BOTS; s++) {
+            start(s);
+            while (!game.isGameOver() && time < MAX_TIME) {
+                step();
+            }
+            if ("EARLY".equals(difficulty) && time > WINDOW) {
+                seed = s;
+                windowStart = 0;
+                return;
+            }
+            if (time > longest) {
+                longest = time;
+                seed = s;
+            }
+        }
+        if ("EARLY".equals(difficulty) || longest <= WINDOW + STEP) {
+            throw new IllegalStateException("No bot plays " + minigame + " long enough to measure it");
+        }
+        windowStart = longest - WINDOW - STEP;
+    }
+
+    /**
+     * Creates the game again and plays it up to the window to measure.
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        start(seed);
+        while (time < windowStart) {
+            step();
+        }
+    }
+
+    /**
+     * Checks that the measured steps were taken on a game still running.
+     */
+    @TearDown(Level.Iteration)
+    public void checkNotOver() {
+        if (game.isGameOver()) {
+            throw new IllegalStateException("The game ended in the window measured");
+        }
+    }
+
+    private void start(final long botSeed) {
+        game = FACTORIES.get(minigame).apply(Engine.FIELD_HEIGHT, new Random(botSeed));
+        if (!"DEFAULT".equals(broadphase)) {
+            game.setBroadphase(BroadphaseType.valueOf(broadphase));
+        }
+        input = new RandomBotInput(botSeed);
+        time = 0;
+    }
+
+    private Minigame step() {
+        time += STEP;
+        game.step(input.poll(time), STEP);
+        return game;
+    }
+
+    /**
+     * Performs the steps of the window.
+     *
+     * @return the minigame.
+     */
+    @Benchmark
+    @OperationsPerInvocation(WINDOW_STEPS)
+    public Minigame compute() {
+        for (int i = 0; i < WINDOW_STEPS; i++) {
+            step();
+        }
+        return game;
+    }
+}
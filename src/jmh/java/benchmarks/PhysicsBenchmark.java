@@ -0,0 +1,53 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import api.Point2D;
+import api.Vector2D;
+import game.engine.gameobject.GameObject;
+import game.engine.gameobject.PhysicsModel;
+import game.engine.gameobject.SimplePhysics;
+
+/**
+ * Benchmark of {@link SimplePhysics#update}, the physics of most moving objects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PhysicsBenchmark {
+    private static final long STEP = 5;
+    private static final double SPEED = 40;
+
+    private final PhysicsModel physics = new SimplePhysics();
+    private GameObject object;
+
+    /**
+     * Creates the moving object.
+     */
+    @Setup
+    public void setup() {
+        object = new GameObject(Point2D.origin(), new Vector2D(SPEED, -SPEED));
+        object.setPhysicsModel(physics);
+    }
+
+    /**
+     * Moves the object, going back and forth so that its coordinates stay
+     * bounded.
+     * 
+     * @return the moved object.
+     */
+    @Benchmark
+    public GameObject update() {
+        physics.update(STEP, object, null);
+        object.setVel(object.getVel().invert());
+        return object;
+    }
+}
@@ -0,0 +1,131 @@
+package benchmarks;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import game.controlling.Input;
+import game.controlling.KeyboardInput;
+import game.engine.Engine;
+import game.engine.event.EventType;
+import game.engine.gameobject.GameObject;
+import game.engine.gameobject.whacamoleobjects.Mole;
+import game.engine.gameobject.whacamoleobjects.Status;
+import game.engine.gameobject.whacamoleobjects.WamObject;
+import game.engine.minigame.whacamoleminigame.WhacAMole;
+
+/**
+ * Benchmark of a step of the Whac-a-mole on boards with growing numbers of
+ * holes, played by a bot that presses the hole of each mole as soon as it
+ * comes out, so that the game is never lost: the input resolved through the
+ * slots of the holes costs the same on every board, the input shown to every
+ * object grows with the holes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WhacAMoleBenchmark {
+    private static final long STEP = 5;
+    private static final long WARM_UP = 90_000L;
+    private static final long SEED = 42;
+    private static final Optional<Integer> NO_PRESS = Optional.empty();
+
+    /**
+     * The number of holes of the board.
+     */
+    @Param({ "9", "100", "400" })
+    private int holes;
+
+    private final Input input = new KeyboardInput();
+    /* the holes of the moles out and not hit yet, twice as many as a mole comes out again after its stop */
+    private int[] toPress;
+    private int first;
+    private int count;
+    private WhacAMole game;
+
+    /**
+     * Creates the board and plays it up to the last level, before each
+     * iteration.
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        toPress = new int[2 * holes];
+        first = 0;
+        count = 0;
+        game = new WhacAMole(Engine.FIELD_HEIGHT, new Random(SEED), holes);
+        game.getEvents().subscribe(EventType.STATE_CHANGED, e -> {
+            final WamObject o = (WamObject) e.getSource();
+            if (o instanceof Mole && o.getStatus() == Status.IN_MOTION) {
+                toPress[(first + count++) % toPress.length] = o.getHoleNumber();
+            }
+        });
+        while (game.getCurrentTime() < WARM_UP) {
+            step();
+        }
+    }
+
+    /**
+     * Checks that the measured steps were taken on a game still running.
+     */
+    @TearDown(Level.Iteration)
+    public void checkNotOver() {
+        if (game.isGameOver()) {
+            throw new IllegalStateException("The bot lost the game, the steps measured are not of a running game");
+        }
+    }
+
+    /**
+     * Performs a step, with the input looked up in the slots of the holes.
+     *
+     * @return the minigame.
+     */
+    @Benchmark
+    public WhacAMole step() {
+        game.processInput(press(), STEP);
+        game.compute(STEP);
+        return game;
+    }
+
+    /**
+     * Performs a step, with the input shown to every object of the board.
+     *
+     * @return the minigame.
+     */
+    @Benchmark
+    public WhacAMole stepVisitingAll() {
+        final Input in = press();
+        for (final GameObject o : game.getObjects()) {
+            o.updateinput(in, STEP);
+        }
+        game.compute(STEP);
+        return game;
+    }
+
+    /**
+     * Presses the hole of the first mole waiting to be hit, for a single step,
+     * so that no bomb that later comes out of the same hole is hit.
+     *
+     * @return the input of the step.
+     */
+    private Input press() {
+        if (count == 0) {
+            input.setNumberPressed(NO_PRESS);
+        } else {
+            input.setNumberPressed(Optional.of(toPress[first]));
+            first = (first + 1) % toPress.length;
+            count--;
+        }
+        return input;
+    }
+}
@@ -0,0 +1,149 @@
+package api;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of small non-negative keys, like entities or indexes, by
+ * deadline, that also knows where each key is so that its deadline can be
+ * changed or removed in logarithmic time. Once it has grown to the keys in
+ * use, it doesn't allocate.
+ */
+public final class DeadlineHeap {
+    private static final int DEFAULT_CAPACITY = 8;
+    private int[] keys = new int[DEFAULT_CAPACITY];
+    private long[] deadlines = new long[DEFAULT_CAPACITY];
+    /* the index in the heap of each key, -1 if it isn't in the heap */
+    private int[] position = new int[0];
+    private int size;
+
+    /**
+     * Getter for the key with the earliest deadline.
+     *
+     * @return the key, or -1 if the heap is empty.
+     */
+    public int peek() {
+        return size == 0 ? -1 : keys[0];
+    }
+
+    /**
+     * Getter for the earliest deadline.
+     *
+     * @return the deadline of {@link #peek()}, or {@link Long#MAX_VALUE} if the
+     *         heap is empty.
+     */
+    public long peekDeadline() {
+        return size == 0 ? Long.MAX_VALUE : deadlines[0];
+    }
+
+    /**
+     * Checks if a key is in the heap.
+     *
+     * @param key the key.
+     * @return whether it has a deadline.
+     */
+    public boolean contains(final int key) {
+        return key < position.length && position[key] >= 0;
+    }
+
+    /**
+     * Adds a key, or changes its deadline if it is already in the heap.
+     *
+     * @param key      the key.
+     * @param deadline the deadline.
+     */
+    public void put(final int key, final long deadline) {
+        if (contains(key)) {
+            final int i = position[key];
+            final long old = deadlines[i];
+            deadlines[i] = deadline;
+            if (deadline < old) {
+                siftUp(i);
+            } else {
+                siftDown(i);
+            }
+            return;
+        }
+        if (key >= position.length) {
+            final int length = position.length;
+            position = Arrays.copyOf(position, Math.max(key + 1, length * 2));
+            Arrays.fill(position, length, position.length, -1);
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            deadlines = Arrays.copyOf(deadlines, size * 2);
+        }
+        keys[size] = key;
+        deadlines[size] = deadline;
+        position[key] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Removes a key, nothing changes if it isn't in the heap.
+     *
+     * @param key the key.
+     */
+    public void remove(final int key) {
+        if (!contains(key)) {
+            return;
+        }
+        final int i = position[key];
+        position[key] = -1;
+        size--;
+        if (i < size) {
+            final long moved = deadlines[size];
+            set(i, keys[size], moved);
+            if (i > 0 && moved < deadlines[(i - 1) / 2]) {
+                siftUp(i);
+            } else {
+                siftDown(i);
+            }
+        }
+    }
+
+    /**
+     * Removes all the keys.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[keys[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(final int from) {
+        final int key = keys[from];
+        final long deadline = deadlines[from];
+        int i = from;
+        while (i > 0 && deadline < deadlines[(i - 1) / 2]) {
+            final int parent = (i - 1) / 2;
+            set(i, keys[parent], deadlines[parent]);
+            i = parent;
+        }
+        set(i, key, deadline);
+    }
+
+    private void siftDown(final int from) {
+        final int key = keys[from];
+        final long deadline = deadlines[from];
+        int i = from;
+        while (i * 2 + 1 < size) {
+            int child = i * 2 + 1;
+            if (child + 1 < size && deadlines[child + 1] < deadlines[child]) {
+                child++;
+            }
+            if (deadlines[child] >= deadline) {
+                break;
+            }
+            set(i, keys[child], deadlines[child]);
+            i = child;
+        }
+        set(i, key, deadline);
+    }
+
+    private void set(final int i, final int key, final long deadline) {
+        keys[i] = key;
+        deadlines[i] = deadline;
+        position[key] = i;
+    }
+}
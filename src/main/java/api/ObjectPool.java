@@ -0,0 +1,173 @@
+package api;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Pool of reusable objects, so that short-lived entities can be recycled
+ * instead of being left to the garbage collector. It is not thread safe:
+ * each pool belongs to the single thread that updates its owner.
+ *
+ * It keeps the metrics to size it: how many requests were served with a
+ * recycled object and how many objects were in use at most at the same time.
+ *
+ * @param <T> the type of the pooled objects.
+ */
+public class ObjectPool<T> {
+    /**
+     * Default maximum number of free objects kept by a pool.
+     */
+    public static final int DEFAULT_MAX_FREE = 64;
+    private static final double PERCENT = 100;
+    private final Supplier<T> factory;
+    private final Consumer<? super T> onRelease;
+    private final int maxFree;
+    private final Deque<T> free;
+    private long hits;
+    private long misses;
+    private int inUse;
+    private int highWaterMark;
+
+    /**
+     * Constructor for a pool that keeps at most {@value #DEFAULT_MAX_FREE} free
+     * objects and doesn't reset them on release.
+     *
+     * @param factory the supplier of new objects, when none is free.
+     */
+    public ObjectPool(final Supplier<T> factory) {
+        this(factory, object -> { }, DEFAULT_MAX_FREE);
+    }
+
+    /**
+     * Constructor for a pool that keeps at most {@value #DEFAULT_MAX_FREE} free
+     * objects.
+     *
+     * @param factory   the supplier of new objects, when none is free.
+     * @param onRelease the hook that resets an object when it is released and
+     *                  kept for reuse.
+     */
+    public ObjectPool(final Supplier<T> factory, final Consumer<? super T> onRelease) {
+        this(factory, onRelease, DEFAULT_MAX_FREE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param factory   the supplier of new objects, when none is free.
+     * @param onRelease the hook that resets an object when it is released and
+     *                  kept for reuse.
+     * @param maxFree   the maximum number of free objects kept, the others are
+     *                  left to the garbage collector.
+     */
+    public ObjectPool(final Supplier<T> factory, final Consumer<? super T> onRelease, final int maxFree) {
+        if (maxFree <= 0) {
+            throw new IllegalArgumentException("The pool must be able to keep at least an object");
+        }
+        this.factory = factory;
+        this.onRelease = onRelease;
+        this.maxFree = maxFree;
+        this.free = new ArrayDeque<>(maxFree);
+    }
+
+    /**
+     * Takes a free object, or creates it if there isn't any. The caller has to
+     * initialize it, since it could have been used before.
+     *
+     * @return the object.
+     */
+    public T acquire() {
+        final T object;
+        if (free.isEmpty()) {
+            misses++;
+            object = factory.get();
+        } else {
+            hits++;
+            object = free.pop();
+        }
+        inUse++;
+        highWaterMark = Math.max(highWaterMark, inUse);
+        return object;
+    }
+
+    /**
+     * Gives back an object, that must not be used any more by the caller nor
+     * released twice. An object that wasn't taken with {@link #acquire()} is
+     * recycled as well. The release hook runs only on the objects kept, the
+     * ones past the maximum are left alone to the garbage collector.
+     *
+     * @param object the object to release.
+     */
+    public void release(final T object) {
+        inUse = Math.max(inUse - 1, 0);
+        if (free.size() < maxFree) {
+            onRelease.accept(object);
+            free.push(object);
+        }
+    }
+
+    /**
+     * Getter for the number of requests served with a recycled object.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Getter for the number of requests that needed a new object.
+     *
+     * @return the number of misses.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Method to get the fraction of requests served with a recycled object.
+     *
+     * @return the hit rate, in [0, 1], 0 if nothing has been requested.
+     */
+    public double getHitRate() {
+        final long requests = hits + misses;
+        return requests == 0 ? 0 : hits / (double) requests;
+    }
+
+    /**
+     * Getter for the number of objects currently in use.
+     *
+     * @return the objects acquired and not released.
+     */
+    public int getInUse() {
+        return inUse;
+    }
+
+    /**
+     * Getter for the number of free objects ready to be reused.
+     *
+     * @return the free objects.
+     */
+    public int getFree() {
+        return free.size();
+    }
+
+    /**
+     * Getter for the maximum number of objects in use at the same time.
+     *
+     * @return the high-water mark.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("hit rate %.1f%%, in use %d, high-water mark %d, free %d",
+                getHitRate() * PERCENT, inUse, highWaterMark, free.size());
+    }
+}
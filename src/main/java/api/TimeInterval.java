@@ -1,5 +1,6 @@
 package api;
 
+import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -44,7 +45,17 @@ public class TimeInterval {
      * @return the drawn value
      */
     public long drawInBetween() {
-        return ThreadLocalRandom.current().nextLong(this.start, this.end);
+        return drawInBetween(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Extract a value within the range with the given generator.
+     * 
+     * @param random the random generator to use
+     * @return the drawn value
+     */
+    public long drawInBetween(final Random random) {
+        return random.nextLong(this.start, this.end);
     }
 
     /**
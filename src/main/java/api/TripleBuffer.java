@@ -0,0 +1,87 @@
+package api;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Three buffers shared by a single writer thread and a single reader thread
+ * without locks: the writer fills its buffer and publishes it with one atomic
+ * swap, the reader takes the newest published buffer with another one. Neither
+ * of them ever waits for the other and the reader never sees a buffer that is
+ * being written.
+ * 
+ * @param <T> the type of the buffers, they are reused and never copied.
+ */
+public class TripleBuffer<T> {
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100;
+    private final List<T> buffers;
+    /* index of the buffer exchanged between the two threads, */
+    /* with the FRESH bit set if it hasn't been read yet      */
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int writeIndex;
+    private int readIndex = 2;
+
+    /**
+     * Constructor.
+     * 
+     * @param factory the supplier of the three buffers.
+     */
+    public TripleBuffer(final Supplier<T> factory) {
+        this.buffers = Stream.generate(factory).limit(3).toList();
+    }
+
+    /**
+     * Getter for the buffer the writer can fill, to be called by the writer
+     * thread only.
+     * 
+     * @return the buffer to fill.
+     */
+    public T getWriteBuffer() {
+        return buffers.get(writeIndex);
+    }
+
+    /**
+     * Makes the write buffer available to the reader, replacing any other
+     * published buffer that hasn't been read yet. To be called by the writer
+     * thread only, after which it gets a different write buffer.
+     */
+    public void publish() {
+        writeIndex = middle.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Tells if a buffer has been published since the last {@link #acquire()}.
+     * 
+     * @return true if there is a newer buffer to read.
+     */
+    public boolean hasNewBuffer() {
+        return (middle.get() & FRESH) != 0;
+    }
+
+    /**
+     * Takes the newest published buffer, if any, as the read buffer. To be
+     * called by the reader thread only.
+     * 
+     * @return true if the read buffer has changed.
+     */
+    public boolean acquire() {
+        if (!hasNewBuffer()) {
+            return false;
+        }
+        readIndex = middle.getAndSet(readIndex) & INDEX_MASK;
+        return true;
+    }
+
+    /**
+     * Getter for the buffer the reader can use until the next
+     * {@link #acquire()}, to be called by the reader thread only.
+     * 
+     * @return the read buffer.
+     */
+    public T getReadBuffer() {
+        return buffers.get(readIndex);
+    }
+}
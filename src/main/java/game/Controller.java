@@ -3,6 +3,8 @@ package game;
 import java.sql.Timestamp;
 import java.util.Map;
 
+import game.profiling.FrameProfiler;
+
 /**
  * Interface to model the Controller of the Game.
  */
@@ -43,6 +45,13 @@ public interface Controller {
      */
     Map<Timestamp, Long> getStats();
 
+    /**
+     * Getter for the timings of the game loop.
+     * 
+     * @return the profiler fed by the game loop.
+     */
+    FrameProfiler getProfiler();
+
     /**
      * @return the height in points of the game field that the view will display.
      */
@@ -1,11 +1,20 @@
 package game;
 
+import java.nio.file.Path;
 import java.sql.Timestamp;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
 
 import api.RecordLoaderImpl;
+import game.controlling.Input;
 import game.engine.Engine;
 import game.engine.EngineImpl;
+import game.engine.ExecutionMode;
+import game.profiling.FramePhase;
+import game.profiling.FrameProfiler;
+import game.profiling.FrameProfilerImpl;
+import game.replay.SessionRecorder;
 import game.view.View;
 import game.view.javafx.JavaFxView;
 import javafx.application.Application;
@@ -14,11 +23,26 @@ import javafx.application.Application;
  * Implementation of the controller.
  */
 public class ControllerImpl implements Controller {
-    private static final int FIELD_HEIGHT = 900; // hight in coordinate points that the view should display
-    private static final long TIME_TO_NEXT_MINIGAME = 10_000L;
+    /**
+     * Default number of simulation steps per second, it can be overridden with
+     * the {@code mtsk.tickRate} system property.
+     */
+    public static final int DEFAULT_TICK_RATE = 200;
+    /**
+     * Tick rate that selects the variable timestep loop, where each frame
+     * performs a single update as long as the time elapsed since the previous
+     * one.
+     */
+    public static final int VARIABLE_STEP = 0;
     private static final long TIME_TO_REALIZE_LOSS = 2_000L;
     private static final long PERIOD = 5;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long MILLIS_PER_SECOND = 1_000L;
+    private static final long FIXED_STEP_FRAME_PERIOD = NANOS_PER_MILLI * MILLIS_PER_SECOND / 120;
+    private static final int MAX_STEPS_PER_FRAME = 25;
     private final View view;
+    private final int tickRate;
+    private final FrameProfiler profiler = new FrameProfilerImpl();
     private boolean paused;
 
     /**
@@ -27,8 +51,25 @@ public class ControllerImpl implements Controller {
      * @param view saves the caller view.
      */
     public ControllerImpl(final View view) {
-        this.view = view;
+        this(view, Integer.getInteger("mtsk.tickRate", DEFAULT_TICK_RATE));
+    }
 
+    /**
+     * Constructor with a specific tick rate.
+     * 
+     * @param view     saves the caller view.
+     * @param tickRate the number of simulation steps per second, a divisor of
+     *                 1000 since the minigames are stepped by whole
+     *                 milliseconds, or {@value #VARIABLE_STEP} to update the
+     *                 game once per frame with the real elapsed time.
+     */
+    public ControllerImpl(final View view, final int tickRate) {
+        if (tickRate < 0 || (tickRate != VARIABLE_STEP && MILLIS_PER_SECOND % tickRate != 0)) {
+            throw new IllegalArgumentException("The tick rate must divide " + MILLIS_PER_SECOND
+                    + " or be " + VARIABLE_STEP);
+        }
+        this.view = view;
+        this.tickRate = tickRate;
     }
 
     /**
@@ -36,31 +77,69 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public void startGame() {
-        final Engine e = new EngineImpl(FIELD_HEIGHT);
+        final Engine engine = new EngineImpl(Engine.FIELD_HEIGHT,
+                Boolean.getBoolean("mtsk.serial") ? ExecutionMode.SERIAL : ExecutionMode.PARALLEL,
+                Long.getLong("mtsk.seed", new Random().nextLong()));
+        /* with -Dmtsk.record=<file> the session is saved to be replayed by SessionReplayer */
+        final Optional<SessionRecorder> recorder = Optional.ofNullable(System.getProperty("mtsk.record"))
+                .map(file -> SessionRecorder.toFile(engine, Engine.FIELD_HEIGHT, Path.of(file)));
+        final Engine e = recorder.isPresent() ? recorder.get() : engine;
+        final boolean fixedStep = tickRate != VARIABLE_STEP;
+        final long stepMillis = fixedStep ? MILLIS_PER_SECOND / tickRate : 0;
+        final long framePeriod = fixedStep ? FIXED_STEP_FRAME_PERIOD : PERIOD * NANOS_PER_MILLI;
+        final FixedStepClock clock = new FixedStepClock(Math.max(stepMillis, 1) * NANOS_PER_MILLI,
+                MAX_STEPS_PER_FRAME);
         Long lastAddedTime = 0L;
         view.showMessage(e.addMinigame());
         this.setPaused(true);
-        long previousFrame = System.currentTimeMillis();
+        long previousFrame = System.nanoTime();
         Long points = 0L;
         while (!e.isGameOver() && view.isViewActive()) {
-            final long currentFrame = System.currentTimeMillis();
-            final long elapsed = currentFrame - previousFrame;
-            if (points - lastAddedTime > TIME_TO_NEXT_MINIGAME
+            final long currentFrame = System.nanoTime();
+            if (points - lastAddedTime > Engine.TIME_TO_NEXT_MINIGAME
                     && e.activeMinigames() < e.getMinigameSequence().size()) {
                 view.showMessage(e.addMinigame());
                 this.setPaused(true);
                 lastAddedTime = points;
             }
 
-            if (!isPaused()) {
+            if (isPaused()) {
+                clock.reset(currentFrame);
+                previousFrame = currentFrame;
+            } else if (fixedStep) {
+                final int steps = clock.advance(currentFrame);
+                final long stepNanos = clock.getStepNanos();
+                /* each step sees only the key events of its own slice of real time */
+                final long lastStepEnd = currentFrame - (long) (clock.getAlpha() * stepNanos);
+                final long updateStart = System.nanoTime();
+                long inputTime = 0;
+                for (int i = 0; i < steps && !e.isGameOver(); i++) {
+                    final long inputStart = System.nanoTime();
+                    final Input input = view.pollInput(lastStepEnd - (steps - 1 - i) * stepNanos);
+                    inputTime += System.nanoTime() - inputStart;
+                    points += stepMillis;
+                    e.step(stepMillis, input);
+                }
+                profiler.record(FramePhase.INPUT, inputTime);
+                profiler.record(FramePhase.UPDATE, System.nanoTime() - updateStart - inputTime);
+            } else {
+                final long elapsed = (currentFrame - previousFrame) / NANOS_PER_MILLI;
+                previousFrame += elapsed * NANOS_PER_MILLI; // keeps the sub-millisecond remainder
                 points += elapsed;
-                e.processInput(elapsed, view.getInput());
-                e.updateGame(elapsed);
+                final long inputStart = System.nanoTime();
+                final Input input = view.pollInput(currentFrame);
+                final long inputDone = System.nanoTime();
+                profiler.record(FramePhase.INPUT, inputDone - inputStart);
+                e.step(elapsed, input);
+                profiler.record(FramePhase.UPDATE, System.nanoTime() - inputDone);
             }
-            view.render(e.getMinigameObjects());
-            waitForNextFrame(currentFrame);
-            previousFrame = currentFrame;
+            final long snapshotStart = System.nanoTime();
+            view.render(e.getMinigameObjects(), fixedStep ? clock.getAlpha() : 1);
+            profiler.record(FramePhase.SNAPSHOT, System.nanoTime() - snapshotStart);
+            waitForNextFrame(currentFrame, framePeriod);
+            profiler.frameCompleted(System.nanoTime() - currentFrame);
         }
+        recorder.ifPresent(SessionRecorder::close);
         try {
             Thread.sleep(TIME_TO_REALIZE_LOSS);
         } catch (InterruptedException e1) {
@@ -88,25 +167,35 @@ public class ControllerImpl implements Controller {
     /**
      * Waits for next frame.
      * 
-     * @param currentFrame the current frame.
+     * @param currentFrame the start of the current frame in nanoseconds.
+     * @param framePeriod  the minimum duration of a frame in nanoseconds.
      */
-    private void waitForNextFrame(final long currentFrame) {
-        final long delta = System.currentTimeMillis() - currentFrame;
-        if (delta < PERIOD) {
+    private void waitForNextFrame(final long currentFrame, final long framePeriod) {
+        final long delta = System.nanoTime() - currentFrame;
+        if (delta < framePeriod) {
+            final long wait = framePeriod - delta;
             try {
-                Thread.sleep(PERIOD - delta);
+                Thread.sleep(wait / NANOS_PER_MILLI, (int) (wait % NANOS_PER_MILLI));
             } catch (IllegalArgumentException | InterruptedException ex) {
                 return;
             }
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public int getFieldHeight() {
-        return FIELD_HEIGHT;
+        return Engine.FIELD_HEIGHT;
     }
 
     /**
@@ -0,0 +1,84 @@
+package game;
+
+/**
+ * Clock for a fixed timestep game loop: it accumulates the real time elapsed
+ * between frames and tells how many simulation steps of constant length have
+ * to be performed to keep up with it. The time left in the accumulator is
+ * exposed as the interpolation factor the view can use to draw the objects
+ * between two simulation steps.
+ */
+public class FixedStepClock {
+    private final long stepNanos;
+    private final int maxStepsPerFrame;
+    private long previousTime;
+    private long accumulator;
+    private boolean started;
+
+    /**
+     * Constructor for the clock.
+     *
+     * @param stepNanos        the length of a simulation step in nanoseconds.
+     * @param maxStepsPerFrame the maximum number of steps that can be performed
+     *                         in a single frame, the time exceeding it is
+     *                         dropped so that a slow frame can't make the next
+     *                         ones even slower.
+     */
+    public FixedStepClock(final long stepNanos, final int maxStepsPerFrame) {
+        if (stepNanos <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("Step length and maximum steps per frame must be positive");
+        }
+        this.stepNanos = stepNanos;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Restarts the clock from the given instant, discarding the accumulated time
+     * (e.g. when the game is resumed after a pause).
+     *
+     * @param now the current time in nanoseconds.
+     */
+    public void reset(final long now) {
+        this.previousTime = now;
+        this.accumulator = 0;
+        this.started = true;
+    }
+
+    /**
+     * Adds to the accumulator the time elapsed since the last call.
+     *
+     * @param now the current time in nanoseconds.
+     * @return the number of simulation steps to perform in this frame.
+     */
+    public int advance(final long now) {
+        if (!started) {
+            reset(now);
+            return 0;
+        }
+        accumulator += now - previousTime;
+        previousTime = now;
+        final int steps = (int) Math.min(accumulator / stepNanos, maxStepsPerFrame);
+        accumulator -= steps * stepNanos;
+        if (accumulator >= stepNanos) {
+            accumulator %= stepNanos; // the simulation can't keep up, it slows down instead of spiralling
+        }
+        return steps;
+    }
+
+    /**
+     * Method to get the fraction of step accumulated but not simulated yet.
+     *
+     * @return the interpolation factor, in [0, 1).
+     */
+    public double getAlpha() {
+        return accumulator / (double) stepNanos;
+    }
+
+    /**
+     * Getter for the length of a simulation step.
+     *
+     * @return the length of a step in nanoseconds.
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+}
@@ -0,0 +1,137 @@
+package game.controlling;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free single-producer/single-consumer ring buffer of timestamped key
+ * events. The view thread offers the events as they happen and the game
+ * thread drains them once per tick into an {@link Input} it owns, so the input
+ * state is never shared between threads and it doesn't have to be copied.
+ * The events are kept in primitive arrays, neither side allocates.
+ */
+public class InputEventQueue {
+    /**
+     * Default number of events the queue can hold.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+    private static final int KEY_MASK = 0xF;
+    private static final int PRESSED = 1 << 4;
+    private static final int NUMBER_SHIFT = 5;
+    private static final InputKey[] KEYS = InputKey.values();
+
+    private final long[] times;
+    private final int[] events;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private volatile boolean overflowed;
+
+    /**
+     * Constructor for a queue of {@link #DEFAULT_CAPACITY} events.
+     */
+    public InputEventQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for the queue.
+     *
+     * @param capacity the number of events the queue can hold, a power of two.
+     */
+    public InputEventQueue(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a positive power of two");
+        }
+        this.times = new long[capacity];
+        this.events = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds an event, it must be called always by the same thread. If the queue
+     * is full the event is dropped and the next drain releases every key, so
+     * that no key can remain stuck because its release was lost.
+     *
+     * @param time    the instant of the event in nanoseconds.
+     * @param key     the key of the event.
+     * @param pressed whether the key was pressed or released.
+     * @param number  the number of a {@link InputKey#NUMBER} event, ignored
+     *                otherwise.
+     * @return whether the event was added.
+     */
+    public boolean offer(final long time, final InputKey key, final boolean pressed, final int number) {
+        final long t = tail.get();
+        if (t - head.get() > mask) {
+            overflowed = true;
+            return false;
+        }
+        final int index = (int) t & mask;
+        times[index] = time;
+        events[index] = key.ordinal() | (pressed ? PRESSED : 0) | number << NUMBER_SHIFT;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Adds an event for a key without a number.
+     *
+     * @param time    the instant of the event in nanoseconds.
+     * @param key     the key of the event.
+     * @param pressed whether the key was pressed or released.
+     * @return whether the event was added.
+     * @see #offer(long, InputKey, boolean, int)
+     */
+    public boolean offer(final long time, final InputKey key, final boolean pressed) {
+        return offer(time, key, pressed, 0);
+    }
+
+    /**
+     * Applies to the input the events happened up to the given instant, it
+     * must be called always by the same thread. The release of a key pressed
+     * in the same drain is left in the queue for the next one, so a tap
+     * shorter than a tick is still seen by the engine for a tick.
+     *
+     * @param input     the input state to change.
+     * @param upToNanos the instant of the end of the tick in nanoseconds.
+     * @return the number of events applied.
+     */
+    public int drainTo(final Input input, final long upToNanos) {
+        final long t = tail.get();
+        long h = head.get();
+        int pressedNow = 0;
+        while (h < t) {
+            final int index = (int) h & mask;
+            if (times[index] - upToNanos > 0) {
+                break;
+            }
+            final int event = events[index];
+            final InputKey key = KEYS[event & KEY_MASK];
+            final boolean pressed = (event & PRESSED) != 0;
+            final int keyBit = 1 << key.ordinal();
+            if (!pressed && (pressedNow & keyBit) != 0) {
+                break;
+            }
+            if (pressed) {
+                pressedNow |= keyBit;
+            }
+            key.apply(input, pressed, event >>> NUMBER_SHIFT);
+            h++;
+        }
+        final int drained = (int) (h - head.get());
+        head.lazySet(h);
+        if (overflowed) {
+            overflowed = false;
+            input.reset();
+        }
+        return drained;
+    }
+
+    /**
+     * Method to get the number of events waiting in the queue.
+     *
+     * @return the number of events not drained yet.
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+}
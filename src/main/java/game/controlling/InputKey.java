@@ -0,0 +1,105 @@
+package game.controlling;
+
+import java.util.Optional;
+
+/**
+ * The logical keys the view can report to the engine through an
+ * {@link InputEventQueue}, each one knows how to change an {@link Input}.
+ */
+public enum InputKey {
+    /**
+     * Moves up.
+     */
+    UP {
+        @Override
+        void apply(final Input input, final boolean pressed, final int number) {
+            input.setMoveUp(pressed);
+        }
+    },
+    /**
+     * Moves down.
+     */
+    DOWN {
+        @Override
+        void apply(final Input input, final boolean pressed, final int number) {
+            input.setMoveDown(pressed);
+        }
+    },
+    /**
+     * Moves left.
+     */
+    LEFT {
+        @Override
+        void apply(final Input input, final boolean pressed, final int number) {
+            input.setMoveLeft(pressed);
+        }
+    },
+    /**
+     * Moves right.
+     */
+    RIGHT {
+        @Override
+        void apply(final Input input, final boolean pressed, final int number) {
+            input.setMoveRight(pressed);
+        }
+    },
+    /**
+     * Jumps.
+     */
+    JUMP {
+        @Override
+        void apply(final Input input, final boolean pressed, final int number) {
+            input.setJump(pressed);
+        }
+    },
+    /**
+     * Goes forward.
+     */
+    FORWARD {
+        @Override
+        void apply(final Input input, final boolean pressed, final int number) {
+            input.setForward(pressed);
+        }
+    },
+    /**
+     * Goes backwards.
+     */
+    BACKWARDS {
+        @Override
+        void apply(final Input input, final boolean pressed, final int number) {
+            input.setBackwards(pressed);
+        }
+    },
+    /**
+     * A number key, the number travels with the event. Releasing a number
+     * clears the input only if it is still the last number pressed.
+     */
+    NUMBER {
+        @Override
+        void apply(final Input input, final boolean pressed, final int number) {
+            if (pressed) {
+                input.setNumberPressed(Optional.of(number));
+            } else if (input.getNumberPressed().filter(n -> n == number).isPresent()) {
+                input.setNumberPressed(Optional.empty());
+            }
+        }
+    },
+    /**
+     * Releases every key, e.g. when the focus moves to a new minigame.
+     */
+    RESET {
+        @Override
+        void apply(final Input input, final boolean pressed, final int number) {
+            input.reset();
+        }
+    };
+
+    /**
+     * Applies the event to the input state.
+     *
+     * @param input   the input state to change.
+     * @param pressed whether the key was pressed or released.
+     * @param number  the number of a {@link #NUMBER} event, ignored otherwise.
+     */
+    abstract void apply(Input input, boolean pressed, int number);
+}
@@ -1,6 +1,9 @@
 package game.engine;
 
 import java.util.List;
+import java.util.Map;
+
+import api.ObjectPool;
 
 import game.controlling.Input;
 import game.engine.gameobject.GameObject;
@@ -11,6 +14,16 @@ import game.engine.minigame.Minigame;
  * minigames.
  */
 public interface Engine {
+    /**
+     * Height in coordinate points of the field the minigames are played in, the
+     * one the view displays.
+     */
+    int FIELD_HEIGHT = 900;
+    /**
+     * Points (milliseconds of play) after which a new minigame is added.
+     */
+    long TIME_TO_NEXT_MINIGAME = 10_000L;
+
     /**
      * 
      * To start a new minigame.
@@ -19,36 +32,66 @@ public interface Engine {
      */
     String addMinigame();
 
-    /**
-     * Method to let the minigames process a specific input.
-     * 
-     * @param elapsedTime the elapsed time since last frame in ms.
-     * @param input       the {@link Input} class with the inputs to show the
-     *                    minigames.
-     */
-    void processInput(long elapsedTime, Input input);
-
     /**
      * A getter for the list of objects for each minigame.
      * 
-     * @return the list of objects for each minigame.
+     * @return the list of objects for each minigame, a view that follows the
+     *         minigames as they are added.
      */
     List<List<GameObject>> getMinigameObjects();
 
     /**
-     * Updates the state of the minigames.
+     * Performs a whole simulation step: each minigame processes the input and
+     * then updates its state.
      * 
-     * @param elapsed the elapsed time.
+     * @param elapsed the elapsed time since last step in ms.
+     * @param input   the {@link Input} class with the inputs to show the
+     *                minigames.
      */
-    void updateGame(long elapsed);
+    void step(long elapsed, Input input);
 
     /**
-     * Tells if any of the minigame is over.
+     * Tells if any of the minigame is over. It is a flag set by the game over
+     * events of the minigames, so it is cheap to poll at each frame.
      * 
      * @return if any of the minigame is over.
      */
     boolean isGameOver();
 
+    /**
+     * Getter for the seed the random generators of the minigames are derived
+     * from.
+     * 
+     * @return the seed of this engine.
+     */
+    long getSeed();
+
+    /**
+     * Getter for the time spent by each active minigame computing its state
+     * (input processing included).
+     * 
+     * @return the total nanoseconds spent by each minigame, in the order they
+     *         were added.
+     */
+    List<Long> getComputeTimes();
+
+    /**
+     * Getter for the pairs of objects that the broadphase of each active
+     * minigame handed to the exact collision test.
+     * 
+     * @return the total candidate pairs of each minigame, in the order they
+     *         were added, 0 for the minigames without a broadphase.
+     */
+    List<Long> getCandidatePairs();
+
+    /**
+     * Getter for the pools the active minigames recycle their objects with.
+     * 
+     * @return the pools of all the active minigames, by name of the pooled
+     *         objects.
+     */
+    Map<String, ObjectPool<?>> getPools();
+
     /**
      * Tells the number of active minigames.
      * 
@@ -1,11 +1,26 @@
 package game.engine;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiFunction;
 
+import api.ObjectPool;
 import game.controlling.Input;
+import game.engine.event.EventType;
 import game.engine.gameobject.GameObject;
+import game.engine.gameobject.hitboxmodel.Broadphase;
 import game.engine.minigame.CatchTheSquare;
 import game.engine.minigame.DodgeATriangle;
 import game.engine.minigame.FlappyBirdAlike;
@@ -17,18 +32,114 @@ import game.engine.minigame.whacamoleminigame.WhacAMole;
  */
 public class EngineImpl implements Engine {
     private final int bottomLimit;
-    private static final List<Class<? extends Minigame>> MINIGAME_SEQUENCE = List.of(
-            CatchTheSquare.class, DodgeATriangle.class, WhacAMole.class, FlappyBirdAlike.class);
-    private final List<Minigame> minigameList = new LinkedList<>();
+    /* The minigames in the order they are added */
+    private static final List<MinigameFactory> MINIGAMES = List.of(
+            new MinigameFactory(CatchTheSquare.class, CatchTheSquare::new),
+            new MinigameFactory(DodgeATriangle.class, DodgeATriangle::new),
+            new MinigameFactory(WhacAMole.class, WhacAMole::new),
+            new MinigameFactory(FlappyBirdAlike.class, FlappyBirdAlike::new));
+    private static final List<Class<? extends Minigame>> MINIGAME_SEQUENCE = MINIGAMES.stream()
+            .<Class<? extends Minigame>>map(MinigameFactory::getType)
+            .toList();
+    /* Builds the next minigames of the engines not given an executor, a thread per core at most */
+    private static final ExecutorService PRELOADER = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), r -> {
+                final Thread t = new Thread(r, "minigame-preloader");
+                t.setDaemon(true);
+                return t;
+            });
+    /* Steps the minigames of the engines not given a pool, there's no point in having more workers than minigames */
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+            Math.min(Runtime.getRuntime().availableProcessors(), MINIGAME_SEQUENCE.size()));
+    private final List<Minigame> minigameList = new ArrayList<>();
+    /* the objects of each minigame, taken when it is added so that a frame doesn't build the list */
+    private final List<List<GameObject>> minigameObjects = new ArrayList<>();
+    private final List<List<GameObject>> minigameObjectsView = Collections.unmodifiableList(minigameObjects);
+    private final long[] computeTimes = new long[MINIGAME_SEQUENCE.size()];
+    /* the broadphases are taken when the minigames are added, so reading them doesn't allocate */
+    private final List<Optional<Broadphase>> broadphases = new ArrayList<>();
+    private final long[] candidatePairs = new long[MINIGAME_SEQUENCE.size()];
+    private final ExecutionMode mode;
+    private final long seed;
+    private final Random seeds;
+    private final Executor preloader;
+    private final ForkJoinPool pool;
+    /* a task per active minigame, reused at each parallel step with the arguments of the step */
+    private final List<StepTask> stepTasks = new ArrayList<>();
+    private final RecursiveAction stepAll = new StepAllTask();
+    private long stepElapsed;
+    private Input stepInput;
     private int addedMinigame;
+    private CompletableFuture<Minigame> nextMinigame;
+    /* set by the game over event of a minigame, that may be stepped by a worker */
+    private volatile boolean gameOver;
 
     /**
-     * Constructor for this {@link Engine}.
+     * Constructor for this {@link Engine}, that updates the minigames in
+     * parallel.
      * 
      * @param bottomLimit the height in points that the view will display.
      */
     public EngineImpl(final int bottomLimit) {
+        this(bottomLimit, ExecutionMode.PARALLEL);
+    }
+
+    /**
+     * Constructor for this {@link Engine}, with a random seed.
+     * 
+     * @param bottomLimit the height in points that the view will display.
+     * @param mode        how to update the active minigames at each step.
+     */
+    public EngineImpl(final int bottomLimit, final ExecutionMode mode) {
+        this(bottomLimit, mode, new Random().nextLong());
+    }
+
+    /**
+     * Constructor for this {@link Engine}. Two engines with the same seed
+     * given the same sequence of calls evolve in exactly the same way.
+     * 
+     * @param bottomLimit the height in points that the view will display.
+     * @param mode        how to update the active minigames at each step.
+     * @param seed        the seed of the random generators of the minigames.
+     */
+    public EngineImpl(final int bottomLimit, final ExecutionMode mode, final long seed) {
+        this(bottomLimit, mode, seed, PRELOADER);
+    }
+
+    /**
+     * Constructor for this {@link Engine}, that builds the next minigame with
+     * a specific executor while the current ones are played.
+     * 
+     * @param bottomLimit the height in points that the view will display.
+     * @param mode        how to update the active minigames at each step.
+     * @param seed        the seed of the random generators of the minigames.
+     * @param preloader   the executor that builds the next minigame.
+     */
+    public EngineImpl(final int bottomLimit, final ExecutionMode mode, final long seed,
+            final Executor preloader) {
+        this(bottomLimit, mode, seed, preloader, POOL);
+    }
+
+    /**
+     * Constructor for this {@link Engine}, that builds the next minigame with
+     * a specific executor and updates the minigames in parallel in a specific
+     * pool, e.g. one for each group of engines run side by side.
+     * 
+     * @param bottomLimit the height in points that the view will display.
+     * @param mode        how to update the active minigames at each step.
+     * @param seed        the seed of the random generators of the minigames.
+     * @param preloader   the executor that builds the next minigame.
+     * @param pool        the pool that updates the minigames in
+     *                    {@link ExecutionMode#PARALLEL} mode.
+     */
+    public EngineImpl(final int bottomLimit, final ExecutionMode mode, final long seed,
+            final Executor preloader, final ForkJoinPool pool) {
         this.bottomLimit = bottomLimit;
+        this.mode = mode;
+        this.seed = seed;
+        this.seeds = new Random(seed);
+        this.preloader = preloader;
+        this.pool = pool;
     }
 
     /**
@@ -36,27 +147,44 @@ public class EngineImpl implements Engine {
      */
     @Override
     public String addMinigame() {
-        Minigame newMinigame;
-        try {
-            newMinigame = MINIGAME_SEQUENCE.get(addedMinigame)
-                    .getDeclaredConstructor(int.class)
-                    .newInstance(bottomLimit);
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
-            throw new IllegalArgumentException("Unable to add minigame", e);
+        if (addedMinigame == MINIGAMES.size()) {
+            throw new IllegalStateException("All the minigames have already been added");
+        }
+        final Minigame newMinigame;
+        if (nextMinigame == null) {
+            newMinigame = MINIGAMES.get(addedMinigame).create(bottomLimit, new Random(seeds.nextLong()));
+        } else {
+            try {
+                newMinigame = nextMinigame.join();
+            } catch (CompletionException e) {
+                throw new IllegalArgumentException("Unable to add minigame", e.getCause());
+            }
         }
         minigameList.add(newMinigame);
+        broadphases.add(newMinigame.getBroadphase());
+        minigameObjects.add(newMinigame.getObjects());
+        stepTasks.add(new StepTask(minigameList.size() - 1));
+        newMinigame.getEvents().subscribe(EventType.GAME_OVER, e -> gameOver = true);
         addedMinigame++;
+        preloadNextMinigame();
         return newMinigame.getTutorial();
 
     }
 
     /**
-     * {@inheritDoc}
+     * Starts building the next minigame of the sequence in background, if any,
+     * so that adding it doesn't slow down the frame that does it. The first
+     * minigame is built by the call that adds it, so an engine that is never
+     * started costs no work.
      */
-    @Override
-    public void processInput(final long elapsedTime, final Input input) {
-        minigameList.stream().flatMap(m -> m.getObjects().stream()).forEach(o -> o.updateinput(input, elapsedTime));
+    private void preloadNextMinigame() {
+        if (addedMinigame < MINIGAMES.size()) {
+            final MinigameFactory factory = MINIGAMES.get(addedMinigame);
+            final Random random = new Random(seeds.nextLong()); // drawn here to keep the order of the minigames
+            nextMinigame = CompletableFuture.supplyAsync(() -> factory.create(bottomLimit, random), preloader);
+        } else {
+            nextMinigame = null;
+        }
     }
 
     /**
@@ -64,15 +192,44 @@ public class EngineImpl implements Engine {
      */
     @Override
     public List<List<GameObject>> getMinigameObjects() {
-        return new LinkedList<>(minigameList).stream().map(g -> g.getObjects()).toList();
+        return minigameObjectsView;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void updateGame(final long elapsed) {
-        minigameList.forEach(m -> m.compute(elapsed));
+    public void step(final long elapsed, final Input input) {
+        if (mode == ExecutionMode.SERIAL || minigameList.size() < 2) {
+            for (int i = 0; i < minigameList.size(); i++) {
+                stepMinigame(i, elapsed, input);
+            }
+        } else {
+            /* read by the tasks, the submission to the pool publishes them */
+            stepElapsed = elapsed;
+            stepInput = input;
+            stepAll.reinitialize();
+            pool.invoke(stepAll);
+        }
+    }
+
+    /**
+     * Performs a simulation step of a single minigame, which only touches its
+     * own objects and so can run concurrently with the others.
+     * 
+     * @param index   the index of the minigame to update.
+     * @param elapsed the elapsed time since last step in ms.
+     * @param input   the {@link Input} to show the minigame.
+     */
+    private void stepMinigame(final int index, final long elapsed, final Input input) {
+        final long start = System.nanoTime();
+        final Minigame m = minigameList.get(index);
+        m.step(input, elapsed);
+        computeTimes[index] += System.nanoTime() - start;
+        final Optional<Broadphase> broadphase = broadphases.get(index);
+        if (broadphase.isPresent()) {
+            candidatePairs[index] += broadphase.get().getCandidates();
+        }
     }
 
     /**
@@ -80,7 +237,49 @@ public class EngineImpl implements Engine {
      */
     @Override
     public boolean isGameOver() {
-        return minigameList.stream().anyMatch(Minigame::isGameOver);
+        return gameOver;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> getComputeTimes() {
+        final List<Long> times = new ArrayList<>(minigameList.size());
+        for (int i = 0; i < minigameList.size(); i++) {
+            times.add(computeTimes[i]);
+        }
+        return times;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> getCandidatePairs() {
+        final List<Long> pairs = new ArrayList<>(minigameList.size());
+        for (int i = 0; i < minigameList.size(); i++) {
+            pairs.add(candidatePairs[i]);
+        }
+        return pairs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, ObjectPool<?>> getPools() {
+        final Map<String, ObjectPool<?>> pools = new LinkedHashMap<>();
+        minigameList.forEach(m -> pools.putAll(m.getPools()));
+        return pools;
     }
 
     /**
@@ -98,4 +297,71 @@ public class EngineImpl implements Engine {
     public List<Class<? extends Minigame>> getMinigameSequence() {
         return MINIGAME_SEQUENCE;
     }
+
+    /**
+     * The task that updates all the active minigames at once, in the pool.
+     */
+    private final class StepAllTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Updates the minigames, each in a task of its own.
+         */
+        @Override
+        protected void compute() {
+            for (int i = 0; i < stepTasks.size(); i++) {
+                stepTasks.get(i).reinitialize();
+            }
+            invokeAll(stepTasks);
+        }
+    }
+
+    /**
+     * The task that updates a minigame with the arguments of the current step.
+     */
+    private final class StepTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int index;
+
+        StepTask(final int index) {
+            this.index = index;
+        }
+
+        /**
+         * Updates the minigame.
+         */
+        @Override
+        protected void compute() {
+            stepMinigame(index, stepElapsed, stepInput);
+        }
+    }
+
+    /**
+     * A minigame of the sequence, with its constructor.
+     */
+    private static final class MinigameFactory {
+        private final Class<? extends Minigame> type;
+        private final BiFunction<Integer, Random, Minigame> constructor;
+
+        MinigameFactory(final Class<? extends Minigame> type,
+                final BiFunction<Integer, Random, Minigame> constructor) {
+            this.type = type;
+            this.constructor = constructor;
+        }
+
+        Class<? extends Minigame> getType() {
+            return type;
+        }
+
+        /**
+         * Creates the minigame.
+         * 
+         * @param bottomLimit the height in points that the view will display.
+         * @param random      the random generator of the minigame.
+         * @return the new minigame.
+         */
+        Minigame create(final int bottomLimit, final Random random) {
+            return constructor.apply(bottomLimit, random);
+        }
+    }
 }
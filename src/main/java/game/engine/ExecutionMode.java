@@ -0,0 +1,20 @@
+package game.engine;
+
+/**
+ * The ways in which the {@link Engine} can update the active minigames.
+ */
+public enum ExecutionMode {
+
+    /**
+     * The minigames are updated one after the other on the calling thread,
+     * useful to have a deterministic order while debugging.
+     */
+    SERIAL,
+
+    /**
+     * Each minigame processes the input and computes its new state as an
+     * independent task of a shared pool, the step ends when all of them are
+     * done.
+     */
+    PARALLEL;
+}
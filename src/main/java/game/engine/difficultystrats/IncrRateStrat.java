@@ -1,12 +1,12 @@
 package game.engine.difficultystrats;
 
-import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 
 /**
  * Spawn strategy that follows an exponetial curve till a maximum steepness and
  * then keeps that one.
  */
-public class IncrRateStrat implements Function<Long, Long> {
+public class IncrRateStrat implements LongUnaryOperator {
 
     private final double difficulty;
     private final double flattenSpawnRate; // the maximum steepness of the curve.
@@ -29,7 +29,7 @@ public class IncrRateStrat implements Function<Long, Long> {
      * method to get the number of bombs to spawn.
      */
     @Override
-    public Long apply(final Long totalElapsed) {
+    public long applyAsLong(final long totalElapsed) {
         // if exponetial exeeds max steepness keeps a constant one.
         if (Math.pow(difficulty, (double) totalElapsed / 1000) * Math.log(difficulty) > flattenSpawnRate) {
             final double x = Math.log(flattenSpawnRate / Math.log(difficulty)) / Math.log(difficulty); // the x
@@ -1,13 +1,12 @@
 package game.engine.difficultystrats;
 
-import java.util.Optional;
-import java.util.function.Function;
+import java.util.function.LongToIntFunction;
 
 /**
  * Spawn strategy that follows a step-like function (similar to a floor function)
  * until it reaches the maximum value allowed.
  */
-public class StepRateStrat implements Function<Long, Integer> {
+public class StepRateStrat implements LongToIntFunction {
 
     private final int numSteps;
     private final int stepValue;
@@ -31,9 +30,8 @@ public class StepRateStrat implements Function<Long, Integer> {
      * before spawning a new one.
      */
     @Override
-    public Integer apply(final Long totalElapsed) {
-        return Optional.of(totalElapsed / stepLength)
-                .map(x -> (int) (x >= numSteps ? numSteps * stepValue : x.intValue() * stepValue))
-                .get();
+    public int applyAsInt(final long totalElapsed) {
+        final long x = totalElapsed / stepLength;
+        return x >= numSteps ? numSteps * stepValue : (int) x * stepValue;
     }
 }
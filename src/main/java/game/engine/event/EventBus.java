@@ -0,0 +1,26 @@
+package game.engine.event;
+
+import java.util.function.Consumer;
+
+/**
+ * Channel where a minigame emits its events once, when they happen, so that
+ * who is interested in them doesn't have to scan the objects at each frame.
+ * The events are delivered right away, on the thread that publishes them.
+ */
+public interface EventBus {
+    /**
+     * Adds a subscriber for a kind of events, it is called after the ones
+     * added before.
+     * 
+     * @param type       the kind of the events.
+     * @param subscriber the action to perform on each event.
+     */
+    void subscribe(EventType type, Consumer<GameEvent> subscriber);
+
+    /**
+     * Delivers an event to all the subscribers of its kind.
+     * 
+     * @param event the event.
+     */
+    void publish(GameEvent event);
+}
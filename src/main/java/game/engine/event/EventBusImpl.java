@@ -0,0 +1,44 @@
+package game.engine.event;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of the {@link EventBus} that keeps a list of subscribers for
+ * each kind of events. The subscribers are meant to be added while the
+ * minigame is set up, the events to be published by the thread that steps it.
+ */
+public class EventBusImpl implements EventBus {
+    private final Map<EventType, List<Consumer<GameEvent>>> subscribers = new EnumMap<>(EventType.class);
+
+    /**
+     * Constructor.
+     */
+    public EventBusImpl() {
+        for (final EventType type : EventType.values()) {
+            subscribers.put(type, new ArrayList<>());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void subscribe(final EventType type, final Consumer<GameEvent> subscriber) {
+        subscribers.get(type).add(subscriber);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(final GameEvent event) {
+        final List<Consumer<GameEvent>> list = subscribers.get(event.getType());
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i).accept(event);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package game.engine.event;
+
+/**
+ * The kinds of the events emitted by the minigames.
+ */
+public enum EventType {
+    /**
+     * Two objects started to collide, the source is the object hit.
+     */
+    COLLISION,
+    /**
+     * The timer of an object ran out, the source is its owner.
+     */
+    TIMER_EXPIRED,
+    /**
+     * The logical state of an object changed, the source is the object.
+     */
+    STATE_CHANGED,
+    /**
+     * The minigame is over, the source is the object that caused it.
+     */
+    GAME_OVER
+}
@@ -0,0 +1,42 @@
+package game.engine.event;
+
+import game.engine.gameobject.GameObject;
+
+/**
+ * Something that happened to an object of a minigame during a step. It is
+ * immutable, so an object can publish the same instance every time the same
+ * thing happens to it.
+ */
+public final class GameEvent {
+    private final EventType type;
+    private final GameObject source;
+
+    /**
+     * Constructor for the event.
+     * 
+     * @param type   the kind of the event.
+     * @param source the object the event happened to.
+     */
+    public GameEvent(final EventType type, final GameObject source) {
+        this.type = type;
+        this.source = source;
+    }
+
+    /**
+     * Getter for the kind of the event.
+     * 
+     * @return the type.
+     */
+    public EventType getType() {
+        return type;
+    }
+
+    /**
+     * Getter for the object the event happened to.
+     * 
+     * @return the source.
+     */
+    public GameObject getSource() {
+        return source;
+    }
+}
@@ -0,0 +1,44 @@
+package game.engine.event;
+
+import java.util.function.Consumer;
+
+/**
+ * Subscriber for the events that end a minigame: the first one sets the flag
+ * read by {@link game.engine.minigame.Minigame#isGameOver()} and emits the
+ * {@link EventType#GAME_OVER} event, the following ones are ignored.
+ */
+public class GameOverLatch implements Consumer<GameEvent> {
+    private final EventBus events;
+    private boolean over;
+
+    /**
+     * Constructor.
+     * 
+     * @param events the bus where to emit the end of the minigame.
+     */
+    public GameOverLatch(final EventBus events) {
+        this.events = events;
+    }
+
+    /**
+     * Ends the minigame, if it isn't over yet.
+     * 
+     * @param cause the event that ends the minigame.
+     */
+    @Override
+    public void accept(final GameEvent cause) {
+        if (!over) {
+            over = true;
+            events.publish(new GameEvent(EventType.GAME_OVER, cause.getSource()));
+        }
+    }
+
+    /**
+     * Tells if an event ended the minigame.
+     * 
+     * @return if the minigame is over.
+     */
+    public boolean isOver() {
+        return over;
+    }
+}
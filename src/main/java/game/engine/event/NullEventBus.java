@@ -0,0 +1,19 @@
+package game.engine.event;
+
+import java.util.function.Consumer;
+
+/**
+ * Class for the objects that aren't connected to a bus yet: it drops the
+ * events.
+ */
+public class NullEventBus implements EventBus {
+
+    @Override
+    public void subscribe(final EventType type, final Consumer<GameEvent> subscriber) {
+    }
+
+    @Override
+    public void publish(final GameEvent event) {
+    }
+
+}
@@ -1,6 +1,5 @@
 package game.engine.gameobject;
 
-import api.Vector2D;
 import game.controlling.Input;
 /**
  * Class to model a directional input with constant speed.
@@ -15,18 +14,18 @@ public class DirectionalLinearInput implements InputModel {
      */
     @Override
     public void update(final GameObject obj, final Input c, final long elapsedTime) {
-        obj.setVel(Vector2D.nullVector());
+        obj.setVel(0, 0);
         if (c.isMoveUp()) {
-            obj.setVel(obj.getVel().sum(new Vector2D(0, -CHANGE_COEFFICENT * elapsedTime)));
+            obj.setVel(obj.getVelX(), obj.getVelY() - CHANGE_COEFFICENT * elapsedTime);
         }
         if (c.isMoveDown()) {
-            obj.setVel(obj.getVel().sum(new Vector2D(0, CHANGE_COEFFICENT * elapsedTime)));
+            obj.setVel(obj.getVelX(), obj.getVelY() + CHANGE_COEFFICENT * elapsedTime);
         }
         if (c.isMoveLeft()) {
-            obj.setVel(obj.getVel().sum(new Vector2D(-CHANGE_COEFFICENT * elapsedTime, 0)));
+            obj.setVel(obj.getVelX() - CHANGE_COEFFICENT * elapsedTime, obj.getVelY());
         }
         if (c.isMoveRight()) {
-            obj.setVel(obj.getVel().sum(new Vector2D(CHANGE_COEFFICENT * elapsedTime, 0)));
+            obj.setVel(obj.getVelX() + CHANGE_COEFFICENT * elapsedTime, obj.getVelY());
         }
     }
 }
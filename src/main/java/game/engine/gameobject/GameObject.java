@@ -9,12 +9,33 @@ import api.Vector2D;
 import game.view.Drawings;
 
 /**
- * Abstract class to represent a gameobject.
+ * Abstract class to represent a gameobject. While it is in an
+ * {@link ObjectStore} its coordinates, velocity and rotation are kept in a slot
+ * of the store, otherwise in the fields of the object.
+ *
+ * The objects of a running minigame are always in its store, the fields only
+ * hold the state of an object being built or pooled. A private store of a
+ * single slot would take a dozen arrays for each object, and one more at each
+ * removal from a store, so the accessors pay a branch on the store instead:
+ * it always goes the same way in the loops of a minigame.
  */
 public class GameObject {
+    private static final HitBoxModel NO_HITBOX = new NullHitBoxModel();
+    /* null while the object isn't in a store */
+    private ObjectStore store;
+    private int slot;
+    /* the state of the object while it isn't in a store */
+    private double x;
+    private double y;
+    private double previousX;
+    private double previousY;
+    private double velX;
+    private double velY;
+    private int rotation;
+    private byte kind;
+    /* the immutable views handed out by the getters, rebuilt only after a change */
     private Point2D coor;
     private Vector2D vel;
-    private int rotation;
     private InputModel inputModel;
     private PhysicsModel physicsModel;
     private AspectModel aspectModel;
@@ -34,13 +55,12 @@ public class GameObject {
     public GameObject(final Point2D coor, final Vector2D vel, final int rotation, final InputModel inputModel,
             final PhysicsModel physicsModel,
             final AspectModel aspectModel, final HitBoxModel hitBoxModel) {
-        this.coor = coor;
-        this.vel = vel;
-        this.rotation = rotation;
+        this(coor, vel);
+        setRotation(rotation);
         this.inputModel = inputModel;
         this.physicsModel = physicsModel;
         this.aspectModel = aspectModel;
-        this.hitBoxModel = hitBoxModel;
+        setHitBoxModel(hitBoxModel);
     }
 
     /**
@@ -66,8 +86,10 @@ public class GameObject {
      * @param vel  the starting speed.
      */
     public GameObject(final Point2D coor, final Vector2D vel) {
-        this.coor = coor;
-        this.vel = vel;
+        this.hitBoxModel = NO_HITBOX;
+        setCoor(coor);
+        storePreviousCoor();
+        setVel(vel);
     }
 
     /**
@@ -94,7 +116,7 @@ public class GameObject {
      * @return the gameobject rotation.
      */
     public int getRotation() {
-        return this.rotation;
+        return store == null ? rotation : store.getRotation(slot);
     }
 
     /**
@@ -103,7 +125,11 @@ public class GameObject {
      * @param rotation the new rotation for the object.
      */
     public void setRotation(final int rotation) {
-        this.rotation = rotation;
+        if (store == null) {
+            this.rotation = rotation;
+        } else {
+            store.setRotation(slot, rotation);
+        }
     }
 
     /**
@@ -112,7 +138,13 @@ public class GameObject {
      * @return the gameobject coordinate.
      */
     public Point2D getCoor() {
-        return this.coor;
+        if (store != null) {
+            return store.getCoor(slot);
+        }
+        if (coor == null) {
+            coor = new Point2D(x, y);
+        }
+        return coor;
     }
 
     /**
@@ -121,7 +153,109 @@ public class GameObject {
      * @param coor the new coordinates for the object.
      */
     public void setCoor(final Point2D coor) {
-        this.coor = coor;
+        if (store == null) {
+            this.x = coor.getX();
+            this.y = coor.getY();
+            this.coor = coor;
+        } else {
+            store.setCoor(slot, coor);
+        }
+    }
+
+    /**
+     * Getter for the x coordinate, it doesn't allocate a {@link Point2D}.
+     * 
+     * @return the x coordinate.
+     */
+    public double getX() {
+        return store == null ? x : store.getX(slot);
+    }
+
+    /**
+     * Getter for the y coordinate, it doesn't allocate a {@link Point2D}.
+     * 
+     * @return the y coordinate.
+     */
+    public double getY() {
+        return store == null ? y : store.getY(slot);
+    }
+
+    /**
+     * A setter for the coordinates of the object that changes them in place.
+     * 
+     * @param x the new x coordinate.
+     * @param y the new y coordinate.
+     */
+    public void setCoor(final double x, final double y) {
+        if (store == null) {
+            this.x = x;
+            this.y = y;
+            this.coor = null;
+        } else {
+            store.setCoor(slot, x, y);
+        }
+    }
+
+    /**
+     * Saves the current coordinates as the ones of the previous simulation step,
+     * to be called before each update of the object.
+     */
+    public void storePreviousCoor() {
+        if (store == null) {
+            previousX = x;
+            previousY = y;
+        } else {
+            store.storePrevious(slot);
+        }
+    }
+
+    /**
+     * Getter for the coordinates the object had before the last simulation step.
+     * 
+     * @return the previous coordinates of the object.
+     */
+    public Point2D getPreviousCoor() {
+        return new Point2D(getPreviousX(), getPreviousY());
+    }
+
+    /**
+     * Getter for the x coordinate the object had before the last simulation
+     * step, it doesn't allocate a {@link Point2D}.
+     * 
+     * @return the previous x coordinate.
+     */
+    public double getPreviousX() {
+        return store == null ? previousX : store.getPreviousX(slot);
+    }
+
+    /**
+     * Getter for the y coordinate the object had before the last simulation
+     * step, it doesn't allocate a {@link Point2D}.
+     * 
+     * @return the previous y coordinate.
+     */
+    public double getPreviousY() {
+        return store == null ? previousY : store.getPreviousY(slot);
+    }
+
+    /**
+     * Method to get the coordinates between the previous and the current
+     * simulation step, used by the view to smooth the movement when it renders
+     * more (or less) often than the game is updated.
+     * 
+     * @param alpha the fraction of step elapsed, 0 for the previous coordinates
+     *              and 1 for the current ones.
+     * @return the interpolated coordinates.
+     */
+    public Point2D getInterpolatedCoor(final double alpha) {
+        final double x = getX();
+        final double y = getY();
+        final double prevX = getPreviousX();
+        final double prevY = getPreviousY();
+        if (alpha >= 1 || prevX == x && prevY == y) {
+            return getCoor();
+        }
+        return new Point2D(prevX + (x - prevX) * alpha, prevY + (y - prevY) * alpha);
     }
 
     /**
@@ -130,7 +264,13 @@ public class GameObject {
      * @return the speed vector.
      */
     public Vector2D getVel() {
-        return this.vel;
+        if (store != null) {
+            return store.getVel(slot);
+        }
+        if (vel == null) {
+            vel = new Vector2D(velX, velY);
+        }
+        return vel;
     }
 
     /**
@@ -139,7 +279,124 @@ public class GameObject {
      * @param vel the new speed vector for the object.
      */
     public void setVel(final Vector2D vel) {
+        if (store == null) {
+            this.velX = vel.getX();
+            this.velY = vel.getY();
+            this.vel = vel;
+        } else {
+            store.setVel(slot, vel);
+        }
+    }
+
+    /**
+     * Getter for the x component of the velocity, it doesn't allocate a
+     * {@link Vector2D}.
+     * 
+     * @return the x component of the velocity.
+     */
+    public double getVelX() {
+        return store == null ? velX : store.getVelX(slot);
+    }
+
+    /**
+     * Getter for the y component of the velocity, it doesn't allocate a
+     * {@link Vector2D}.
+     * 
+     * @return the y component of the velocity.
+     */
+    public double getVelY() {
+        return store == null ? velY : store.getVelY(slot);
+    }
+
+    /**
+     * A setter for the velocity of the object that changes it in place.
+     * 
+     * @param velX the new x component of the velocity.
+     * @param velY the new y component of the velocity.
+     */
+    public void setVel(final double velX, final double velY) {
+        if (store == null) {
+            this.velX = velX;
+            this.velY = velY;
+            this.vel = null;
+        } else {
+            store.setVel(slot, velX, velY);
+        }
+    }
+
+    /**
+     * Getter for the kind of the object.
+     * 
+     * @return the kind, whose meaning is decided by the minigame.
+     */
+    public byte getKind() {
+        return store == null ? kind : store.getKind(slot);
+    }
+
+    /**
+     * Setter for the kind of the object, a tag the minigame can use to tell
+     * its objects apart in the loops over an {@link ObjectStore}.
+     * 
+     * @param kind the new kind.
+     */
+    public void setKind(final byte kind) {
+        if (store == null) {
+            this.kind = kind;
+        } else {
+            store.setKind(slot, kind);
+        }
+    }
+
+    /**
+     * Getter for the store that holds the state of the object.
+     * 
+     * @return the store, null if the object isn't in a store.
+     */
+    public ObjectStore getStore() {
+        return store;
+    }
+
+    /**
+     * Getter for the slot of the object in its store.
+     * 
+     * @return the slot, meaningless if the object isn't in a store.
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Moves the handle to a slot, called by the stores only.
+     * 
+     * @param store the store that holds the state of the object.
+     * @param slot  the slot of the object in the store.
+     */
+    void attach(final ObjectStore store, final int slot) {
+        this.store = store;
+        this.slot = slot;
+        this.coor = null;
+        this.vel = null;
+    }
+
+    /**
+     * Takes the state of the object out of its store, called by the stores
+     * only before they free the slot.
+     * 
+     * @param coor the coordinates, if the store has built them.
+     * @param vel  the velocity, if the store has built it.
+     */
+    void detach(final Point2D coor, final Vector2D vel) {
+        this.x = store.getX(slot);
+        this.y = store.getY(slot);
+        this.previousX = store.getPreviousX(slot);
+        this.previousY = store.getPreviousY(slot);
+        this.velX = store.getVelX(slot);
+        this.velY = store.getVelY(slot);
+        this.rotation = store.getRotation(slot);
+        this.kind = store.getKind(slot);
+        this.coor = coor;
         this.vel = vel;
+        this.store = null;
     }
 
     /**
@@ -190,12 +447,96 @@ public class GameObject {
     }
 
     /**
-     * Setter for the HitBoxModel of the GameObject.
+     * Setter for the HitBoxModel of the GameObject, to be called again after
+     * resizing the model to update the bounding box of the object.
      * 
      * @param hitBoxModel the HitBoxModel to set.
      */
     public void setHitBoxModel(final HitBoxModel hitBoxModel) {
         this.hitBoxModel = hitBoxModel;
+        if (store != null) {
+            store.setExtents(slot, hitBoxModel.getHalfWidth(), hitBoxModel.getHalfHeight());
+        }
+    }
+
+    /**
+     * Getter for the left side of the bounding box of the hitbox.
+     * 
+     * @return the minimum x of the hitbox.
+     */
+    public double getMinX() {
+        return store == null ? getX() - hitBoxModel.getHalfWidth() : store.getMinX(slot);
+    }
+
+    /**
+     * Getter for the top side of the bounding box of the hitbox.
+     * 
+     * @return the minimum y of the hitbox.
+     */
+    public double getMinY() {
+        return store == null ? getY() - hitBoxModel.getHalfHeight() : store.getMinY(slot);
+    }
+
+    /**
+     * Getter for the right side of the bounding box of the hitbox.
+     * 
+     * @return the maximum x of the hitbox.
+     */
+    public double getMaxX() {
+        return store == null ? getX() + hitBoxModel.getHalfWidth() : store.getMaxX(slot);
+    }
+
+    /**
+     * Getter for the bottom side of the bounding box of the hitbox.
+     * 
+     * @return the maximum y of the hitbox.
+     */
+    public double getMaxY() {
+        return store == null ? getY() + hitBoxModel.getHalfHeight() : store.getMaxY(slot);
+    }
+
+    /**
+     * Getter for the left side of the box swept by the hitbox from the
+     * previous coordinates to the current ones.
+     * 
+     * @return the minimum x of the hitbox during the last step.
+     */
+    public double getSweptMinX() {
+        return store == null ? Math.min(getMinX(), getPreviousX() - hitBoxModel.getHalfWidth())
+                : store.getSweptMinX(slot);
+    }
+
+    /**
+     * Getter for the top side of the box swept by the hitbox from the
+     * previous coordinates to the current ones.
+     * 
+     * @return the minimum y of the hitbox during the last step.
+     */
+    public double getSweptMinY() {
+        return store == null ? Math.min(getMinY(), getPreviousY() - hitBoxModel.getHalfHeight())
+                : store.getSweptMinY(slot);
+    }
+
+    /**
+     * Getter for the right side of the box swept by the hitbox from the
+     * previous coordinates to the current ones.
+     * 
+     * @return the maximum x of the hitbox during the last step.
+     */
+    public double getSweptMaxX() {
+        return store == null ? Math.max(getMaxX(), getPreviousX() + hitBoxModel.getHalfWidth())
+                : store.getSweptMaxX(slot);
+    }
+
+    /**
+     * Getter for the bottom side of the box swept by the hitbox from the
+     * previous coordinates to the current ones.
+     * 
+     * @return the maximum y of the hitbox during the last step.
+     */
+    public double getSweptMaxY() {
+        return store == null ? Math.max(getMaxY(), getPreviousY() + hitBoxModel.getHalfHeight())
+                : store.getSweptMaxY(slot);
     }
 
     /**
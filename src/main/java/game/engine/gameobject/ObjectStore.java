@@ -0,0 +1,532 @@
+package game.engine.gameobject;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import api.Point2D;
+import api.Vector2D;
+
+/**
+ * Structure-of-arrays storage of the state of many {@link GameObject}s: the
+ * coordinates, velocities, rotations and kinds of all the objects of a store
+ * lie in contiguous primitive arrays, and each {@link GameObject} is a handle
+ * to a slot. A minigame can then move all its objects with a tight loop
+ * instead of walking their scattered {@link Point2D}s.
+ *
+ * The store also keeps the axis-aligned bounding box of the hitbox of each
+ * object, updated whenever the object moves, so that the collision checks
+ * read four doubles instead of asking the hitbox model.
+ *
+ * The slots are kept dense: removing an object moves the last one in its
+ * slot. A {@link GameObject} that isn't in a store keeps its state in its own
+ * fields, and takes it back when it is removed from the store.
+ */
+public class ObjectStore {
+    private static final int DEFAULT_CAPACITY = 16;
+    private double[] x;
+    private double[] y;
+    private double[] previousX;
+    private double[] previousY;
+    private double[] velX;
+    private double[] velY;
+    private double[] halfWidth;
+    private double[] halfHeight;
+    private double[] minX;
+    private double[] minY;
+    private double[] maxX;
+    private double[] maxY;
+    private int[] rotation;
+    private byte[] kind;
+    private GameObject[] owners;
+    /* the immutable views handed out by the getters, rebuilt only after a change */
+    private Point2D[] coors;
+    private Vector2D[] vels;
+    private int size;
+
+    /**
+     * Constructor for an empty store.
+     */
+    public ObjectStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for an empty store.
+     *
+     * @param capacity the number of objects the store can hold before growing.
+     */
+    public ObjectStore(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.previousX = new double[capacity];
+        this.previousY = new double[capacity];
+        this.velX = new double[capacity];
+        this.velY = new double[capacity];
+        this.halfWidth = new double[capacity];
+        this.halfHeight = new double[capacity];
+        this.minX = new double[capacity];
+        this.minY = new double[capacity];
+        this.maxX = new double[capacity];
+        this.maxY = new double[capacity];
+        this.rotation = new int[capacity];
+        this.kind = new byte[capacity];
+        this.owners = new GameObject[capacity];
+        this.coors = new Point2D[capacity];
+        this.vels = new Vector2D[capacity];
+    }
+
+    /**
+     * Getter for the number of objects in the store.
+     *
+     * @return the number of objects, that are in the slots from 0 to size - 1.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method to get the object in a slot.
+     *
+     * @param slot the slot.
+     * @return the object.
+     */
+    public GameObject get(final int slot) {
+        checkSlot(slot);
+        return owners[slot];
+    }
+
+    /**
+     * Moves an object in this store, with its current state.
+     *
+     * @param object the object to add.
+     */
+    public void add(final GameObject object) {
+        final ObjectStore from = object.getStore();
+        if (from == this) {
+            throw new IllegalArgumentException("The object is already in the store");
+        }
+        if (size == owners.length) {
+            grow();
+        }
+        if (from == null) {
+            x[size] = object.getX();
+            y[size] = object.getY();
+            previousX[size] = object.getPreviousX();
+            previousY[size] = object.getPreviousY();
+            velX[size] = object.getVelX();
+            velY[size] = object.getVelY();
+            halfWidth[size] = object.getHitBoxModel().getHalfWidth();
+            halfHeight[size] = object.getHitBoxModel().getHalfHeight();
+            rotation[size] = object.getRotation();
+            kind[size] = object.getKind();
+            coors[size] = null;
+            vels[size] = null;
+            updateBox(size);
+        } else {
+            moveFrom(from, object.getSlot());
+        }
+        owners[size] = object;
+        object.attach(this, size);
+        size++;
+    }
+
+    /**
+     * Removes an object from the store, it keeps its state in its own fields.
+     *
+     * @param object the object to remove.
+     */
+    public void remove(final GameObject object) {
+        if (object.getStore() != this) {
+            throw new IllegalArgumentException("The object is not in the store");
+        }
+        final int slot = object.getSlot();
+        object.detach(coors[slot], vels[slot]);
+        release(slot);
+    }
+
+    /**
+     * Removes from a list, and from this store, the objects of the store that
+     * satisfy a predicate. The list is compacted in linear time and without
+     * allocating, keeping the order of the other objects.
+     *
+     * @param objects the list of objects of the minigame.
+     * @param filter  the predicate of the objects to remove.
+     * @param removed the action to perform on each removed object, e.g. giving
+     *                it back to a pool; it can move the object in another
+     *                store, otherwise it leaves the store.
+     */
+    public void removeIf(final List<GameObject> objects, final Predicate<GameObject> filter,
+            final Consumer<GameObject> removed) {
+        /* from the last object, the kept ones are moved to the end of the list */
+        int kept = objects.size();
+        for (int i = objects.size() - 1; i >= 0; i--) {
+            final GameObject o = objects.get(i);
+            if (o.getStore() == this && filter.test(o)) {
+                removed.accept(o);
+                if (o.getStore() == this) {
+                    remove(o);
+                }
+            } else {
+                objects.set(--kept, o);
+            }
+        }
+        /* shifted down and trimmed from the end, a sublist would be allocated at each call */
+        if (kept > 0) {
+            final int left = objects.size() - kept;
+            for (int i = 0; i < left; i++) {
+                objects.set(i, objects.get(i + kept));
+            }
+            for (int i = objects.size() - 1; i >= left; i--) {
+                objects.remove(i);
+            }
+        }
+    }
+
+    /**
+     * Moves all the objects according to their velocity, as
+     * {@link SimplePhysics} does for a single object.
+     *
+     * @param dt the elapsed time in ms.
+     */
+    public void integrate(final long dt) {
+        final double factor = SimplePhysics.SPEED_COEFF * dt;
+        for (int i = 0; i < size; i++) {
+            x[i] += velX[i] * factor;
+            y[i] += velY[i] * factor;
+            minX[i] = x[i] - halfWidth[i];
+            maxX[i] = x[i] + halfWidth[i];
+            minY[i] = y[i] - halfHeight[i];
+            maxY[i] = y[i] + halfHeight[i];
+        }
+        Arrays.fill(coors, 0, size, null);
+    }
+
+    /**
+     * Saves the coordinates of all the objects as the ones of the previous
+     * simulation step.
+     */
+    public void storePrevious() {
+        System.arraycopy(x, 0, previousX, 0, size);
+        System.arraycopy(y, 0, previousY, 0, size);
+    }
+
+    /**
+     * Getter for the x coordinate of an object.
+     *
+     * @param slot the slot of the object.
+     * @return the x coordinate.
+     */
+    public double getX(final int slot) {
+        return x[slot];
+    }
+
+    /**
+     * Getter for the y coordinate of an object.
+     *
+     * @param slot the slot of the object.
+     * @return the y coordinate.
+     */
+    public double getY(final int slot) {
+        return y[slot];
+    }
+
+    /**
+     * Getter for the x component of the velocity of an object.
+     *
+     * @param slot the slot of the object.
+     * @return the x component of the velocity.
+     */
+    public double getVelX(final int slot) {
+        return velX[slot];
+    }
+
+    /**
+     * Getter for the y component of the velocity of an object.
+     *
+     * @param slot the slot of the object.
+     * @return the y component of the velocity.
+     */
+    public double getVelY(final int slot) {
+        return velY[slot];
+    }
+
+    /**
+     * Getter for the kind of an object.
+     *
+     * @param slot the slot of the object.
+     * @return the kind, whose meaning is decided by the minigame.
+     */
+    public byte getKind(final int slot) {
+        return kind[slot];
+    }
+
+    /**
+     * Getter for the left side of the bounding box of an object.
+     *
+     * @param slot the slot of the object.
+     * @return the minimum x of the hitbox.
+     */
+    public double getMinX(final int slot) {
+        return minX[slot];
+    }
+
+    /**
+     * Getter for the top side of the bounding box of an object.
+     *
+     * @param slot the slot of the object.
+     * @return the minimum y of the hitbox.
+     */
+    public double getMinY(final int slot) {
+        return minY[slot];
+    }
+
+    /**
+     * Getter for the right side of the bounding box of an object.
+     *
+     * @param slot the slot of the object.
+     * @return the maximum x of the hitbox.
+     */
+    public double getMaxX(final int slot) {
+        return maxX[slot];
+    }
+
+    /**
+     * Getter for the bottom side of the bounding box of an object.
+     *
+     * @param slot the slot of the object.
+     * @return the maximum y of the hitbox.
+     */
+    public double getMaxY(final int slot) {
+        return maxY[slot];
+    }
+
+    /**
+     * Getter for the left side of the box swept by the hitbox of an object
+     * from its previous coordinates to the current ones.
+     *
+     * @param slot the slot of the object.
+     * @return the minimum x of the hitbox during the last step.
+     */
+    public double getSweptMinX(final int slot) {
+        return Math.min(minX[slot], previousX[slot] - halfWidth[slot]);
+    }
+
+    /**
+     * Getter for the top side of the box swept by the hitbox of an object
+     * from its previous coordinates to the current ones.
+     *
+     * @param slot the slot of the object.
+     * @return the minimum y of the hitbox during the last step.
+     */
+    public double getSweptMinY(final int slot) {
+        return Math.min(minY[slot], previousY[slot] - halfHeight[slot]);
+    }
+
+    /**
+     * Getter for the right side of the box swept by the hitbox of an object
+     * from its previous coordinates to the current ones.
+     *
+     * @param slot the slot of the object.
+     * @return the maximum x of the hitbox during the last step.
+     */
+    public double getSweptMaxX(final int slot) {
+        return Math.max(maxX[slot], previousX[slot] + halfWidth[slot]);
+    }
+
+    /**
+     * Getter for the bottom side of the box swept by the hitbox of an object
+     * from its previous coordinates to the current ones.
+     *
+     * @param slot the slot of the object.
+     * @return the maximum y of the hitbox during the last step.
+     */
+    public double getSweptMaxY(final int slot) {
+        return Math.max(maxY[slot], previousY[slot] + halfHeight[slot]);
+    }
+
+    Point2D getCoor(final int slot) {
+        Point2D coor = coors[slot];
+        if (coor == null) {
+            coor = new Point2D(x[slot], y[slot]);
+            coors[slot] = coor;
+        }
+        return coor;
+    }
+
+    void setCoor(final int slot, final Point2D coor) {
+        x[slot] = coor.getX();
+        y[slot] = coor.getY();
+        coors[slot] = coor;
+        updateBox(slot);
+    }
+
+    void setCoor(final int slot, final double x, final double y) {
+        this.x[slot] = x;
+        this.y[slot] = y;
+        coors[slot] = null;
+        updateBox(slot);
+    }
+
+    void setExtents(final int slot, final double halfWidth, final double halfHeight) {
+        this.halfWidth[slot] = halfWidth;
+        this.halfHeight[slot] = halfHeight;
+        updateBox(slot);
+    }
+
+    /**
+     * Getter for the x coordinate of an object before the last step.
+     *
+     * @param slot the slot of the object.
+     * @return the previous x coordinate.
+     */
+    public double getPreviousX(final int slot) {
+        return previousX[slot];
+    }
+
+    /**
+     * Getter for the y coordinate of an object before the last step.
+     *
+     * @param slot the slot of the object.
+     * @return the previous y coordinate.
+     */
+    public double getPreviousY(final int slot) {
+        return previousY[slot];
+    }
+
+    void storePrevious(final int slot) {
+        previousX[slot] = x[slot];
+        previousY[slot] = y[slot];
+    }
+
+    Vector2D getVel(final int slot) {
+        Vector2D vel = vels[slot];
+        if (vel == null) {
+            vel = new Vector2D(velX[slot], velY[slot]);
+            vels[slot] = vel;
+        }
+        return vel;
+    }
+
+    void setVel(final int slot, final Vector2D vel) {
+        velX[slot] = vel.getX();
+        velY[slot] = vel.getY();
+        vels[slot] = vel;
+    }
+
+    void setVel(final int slot, final double velX, final double velY) {
+        this.velX[slot] = velX;
+        this.velY[slot] = velY;
+        vels[slot] = null;
+    }
+
+    int getRotation(final int slot) {
+        return rotation[slot];
+    }
+
+    void setRotation(final int slot, final int rotation) {
+        this.rotation[slot] = rotation;
+    }
+
+    void setKind(final int slot, final byte kind) {
+        this.kind[slot] = kind;
+    }
+
+    /**
+     * Copies the state of an object of another store in the first free slot,
+     * and frees its slot there.
+     *
+     * @param from the store of the object.
+     * @param src  the slot of the object in that store.
+     */
+    private void moveFrom(final ObjectStore from, final int src) {
+        x[size] = from.x[src];
+        y[size] = from.y[src];
+        previousX[size] = from.previousX[src];
+        previousY[size] = from.previousY[src];
+        velX[size] = from.velX[src];
+        velY[size] = from.velY[src];
+        halfWidth[size] = from.halfWidth[src];
+        halfHeight[size] = from.halfHeight[src];
+        minX[size] = from.minX[src];
+        minY[size] = from.minY[src];
+        maxX[size] = from.maxX[src];
+        maxY[size] = from.maxY[src];
+        rotation[size] = from.rotation[src];
+        kind[size] = from.kind[src];
+        coors[size] = from.coors[src];
+        vels[size] = from.vels[src];
+        from.release(src);
+    }
+
+    /**
+     * Frees a slot moving the last object in it.
+     *
+     * @param slot the slot to free.
+     */
+    private void release(final int slot) {
+        final int last = size - 1;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            previousX[slot] = previousX[last];
+            previousY[slot] = previousY[last];
+            velX[slot] = velX[last];
+            velY[slot] = velY[last];
+            halfWidth[slot] = halfWidth[last];
+            halfHeight[slot] = halfHeight[last];
+            minX[slot] = minX[last];
+            minY[slot] = minY[last];
+            maxX[slot] = maxX[last];
+            maxY[slot] = maxY[last];
+            rotation[slot] = rotation[last];
+            kind[slot] = kind[last];
+            coors[slot] = coors[last];
+            vels[slot] = vels[last];
+            owners[slot] = owners[last];
+            owners[slot].attach(this, slot);
+        }
+        owners[last] = null;
+        coors[last] = null;
+        vels[last] = null;
+        size = last;
+    }
+
+    private void updateBox(final int slot) {
+        minX[slot] = x[slot] - halfWidth[slot];
+        maxX[slot] = x[slot] + halfWidth[slot];
+        minY[slot] = y[slot] - halfHeight[slot];
+        maxY[slot] = y[slot] + halfHeight[slot];
+    }
+
+    private void grow() {
+        final int capacity = owners.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        velX = Arrays.copyOf(velX, capacity);
+        velY = Arrays.copyOf(velY, capacity);
+        halfWidth = Arrays.copyOf(halfWidth, capacity);
+        halfHeight = Arrays.copyOf(halfHeight, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        kind = Arrays.copyOf(kind, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+        coors = Arrays.copyOf(coors, capacity);
+        vels = Arrays.copyOf(vels, capacity);
+    }
+
+    private void checkSlot(final int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException(slot);
+        }
+    }
+}
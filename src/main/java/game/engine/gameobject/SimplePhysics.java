@@ -1,7 +1,5 @@
 package game.engine.gameobject;
 
-import api.Point2D;
-import api.Vector2D;
 import game.engine.minigame.Minigame;
 
 /**
@@ -9,7 +7,7 @@ import game.engine.minigame.Minigame;
  */
 public class SimplePhysics implements PhysicsModel {
 
-    private static final double SPEED_COEFF = 0.01;
+    static final double SPEED_COEFF = 0.01;
 
     /**
      * Method to update the position of a
@@ -21,8 +19,7 @@ public class SimplePhysics implements PhysicsModel {
      */
     @Override
     public void update(final long dt, final GameObject obj, final Minigame miniGame) {
-        final Point2D pos = obj.getCoor();
-        final Vector2D vel = obj.getVel();
-        obj.setCoor(pos.sum(vel.mul(SimplePhysics.SPEED_COEFF * dt)));
+        final double factor = SimplePhysics.SPEED_COEFF * dt;
+        obj.setCoor(obj.getX() + obj.getVelX() * factor, obj.getY() + obj.getVelY() * factor);
     }
 }
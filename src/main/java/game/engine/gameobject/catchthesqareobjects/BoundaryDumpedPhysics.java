@@ -1,7 +1,5 @@
 package game.engine.gameobject.catchthesqareobjects;
 
-import api.Point2D;
-import api.Vector2D;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.SimplePhysics;
 import game.engine.minigame.Minigame;
@@ -41,22 +39,21 @@ public class BoundaryDumpedPhysics extends SimplePhysics {
     @Override
     public void update(final long dt, final GameObject obj, final Minigame miniGame) {
         super.update(dt, obj, miniGame);
-        if (obj.getCoor().getY() > bottomLimit - radius) {
-            obj.setCoor(new Point2D(obj.getCoor().getX(), bottomLimit - radius));
-            obj.setVel(new Vector2D(obj.getVel().getX(), -Math.abs(obj.getVel().getY() / dumpCoefficient)));
+        if (obj.getY() > bottomLimit - radius) {
+            obj.setCoor(obj.getX(), bottomLimit - radius);
+            obj.setVel(obj.getVelX(), -Math.abs(obj.getVelY() / dumpCoefficient));
         }
-        if (obj.getCoor().getX() > rightLimit - radius) {
-            obj.setCoor(new Point2D(rightLimit - radius, obj.getCoor().getY()));
-            obj.setVel(new Vector2D(-Math.abs(obj.getVel().getX() / dumpCoefficient), obj.getVel().getY()));
+        if (obj.getX() > rightLimit - radius) {
+            obj.setCoor(rightLimit - radius, obj.getY());
+            obj.setVel(-Math.abs(obj.getVelX() / dumpCoefficient), obj.getVelY());
         }
-        if (obj.getCoor().getX() < 0 + radius) {
-            obj.setCoor(new Point2D(radius, obj.getCoor().getY()));
-            obj.setVel(new Vector2D(Math.abs(obj.getVel().getX() / dumpCoefficient), obj.getVel().getY()));
+        if (obj.getX() < 0 + radius) {
+            obj.setCoor(radius, obj.getY());
+            obj.setVel(Math.abs(obj.getVelX() / dumpCoefficient), obj.getVelY());
         }
-        if (obj.getCoor().getY() < 0 + radius) {
-            obj.setCoor(new Point2D(obj.getCoor().getX(), radius));
-            obj.setVel(new Vector2D(obj.getVel().getX(), Math.abs(obj.getVel().getY() / dumpCoefficient)));
-
+        if (obj.getY() < 0 + radius) {
+            obj.setCoor(obj.getX(), radius);
+            obj.setVel(obj.getVelX(), Math.abs(obj.getVelY() / dumpCoefficient));
         }
     }
 
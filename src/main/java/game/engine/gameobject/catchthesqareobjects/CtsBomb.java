@@ -3,19 +3,27 @@ package game.engine.gameobject.catchthesqareobjects;
 import api.ColorRGB;
 import api.Point2D;
 import api.Vector2D;
+import game.engine.event.EventType;
+import game.engine.event.GameEvent;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.NullInput;
+import game.engine.gameobject.ecs.World;
+import game.engine.gameobject.ecs.WorldImpl;
 import game.engine.gameobject.hitboxmodel.SquareHitBoxModel;
 
 /**
- * Bomb gameObject, describes a bomb with a timer.
+ * Bomb gameObject, describes a bomb with a timer. The timer is the one of an
+ * entity of a {@link World}, and it runs while the bomb is in play.
  */
 public class CtsBomb extends GameObject {
-    private long timer;
     private static final int STARTING_TIMER = 10_000;
+    private final World world;
+    private final int entity;
+    private final GameEvent expired = new GameEvent(EventType.TIMER_EXPIRED, this);
+    private final GameEvent defused = new GameEvent(EventType.COLLISION, this);
 
     /**
-     * Constructor for the object.
+     * Constructor for a bomb in a world of its own.
      * 
      * @param coor  the spaw coordinate of the center of the bomb.
      * @param side  the side lenght of the bomb or its size in case of a not square
@@ -23,9 +31,72 @@ public class CtsBomb extends GameObject {
      * @param color the color of the bomb.
      */
     public CtsBomb(final Point2D coor, final int side, final ColorRGB color) {
-        super(coor, Vector2D.nullVector(), 0, new NullInput(), new CtsBombTimerPhysics(), new CtsBombAspect(side, color),
+        this(new WorldImpl(1), coor, side, color);
+    }
+
+    /**
+     * Constructor for the object.
+     * 
+     * @param world the world where the entity of the bomb is created.
+     * @param coor  the spaw coordinate of the center of the bomb.
+     * @param side  the side lenght of the bomb or its size in case of a not square
+     *              implementation.
+     * @param color the color of the bomb.
+     */
+    public CtsBomb(final World world, final Point2D coor, final int side, final ColorRGB color) {
+        /* the bomb doesn't move, its timer is run by the systems of the world */
+        super(coor, Vector2D.nullVector(), 0, new NullInput(), (dt, o, m) -> { }, new CtsBombAspect(side, color),
                 new SquareHitBoxModel(side));
-        timer = STARTING_TIMER;
+        this.world = world;
+        this.entity = world.create();
+        world.setObject(entity, this);
+        arm();
+    }
+
+    /**
+     * Method to reuse the bomb in a new spawn point, with a full timer.
+     * 
+     * @param x the x spawn coordinate of the center of the bomb.
+     * @param y the y spawn coordinate of the center of the bomb.
+     */
+    public void respawn(final double x, final double y) {
+        this.setCoor(x, y);
+        this.storePreviousCoor();
+        arm();
+    }
+
+    /**
+     * Method to take the bomb out of play: its timer stops.
+     */
+    public void disarm() {
+        world.stop(entity);
+    }
+
+    /**
+     * Getter for the entity of the bomb.
+     * 
+     * @return the entity id in the world of the bomb.
+     */
+    public int getEntity() {
+        return entity;
+    }
+
+    /**
+     * Getter for the event of the timer of the bomb running out.
+     * 
+     * @return the {@link EventType#TIMER_EXPIRED} event of the bomb.
+     */
+    public GameEvent getExpiredEvent() {
+        return expired;
+    }
+
+    /**
+     * Getter for the event of the bomb being defused.
+     * 
+     * @return the {@link EventType#COLLISION} event of the bomb.
+     */
+    public GameEvent getDefusedEvent() {
+        return defused;
     }
 
     /**
@@ -34,7 +105,7 @@ public class CtsBomb extends GameObject {
      * @return the timer time
      */
     public long getTimer() {
-        return timer;
+        return world.getTimer(entity);
     }
 
     /**
@@ -43,6 +114,11 @@ public class CtsBomb extends GameObject {
      * @param timer the timer time.
      */
     public void setTimer(final long timer) {
-        this.timer = timer;
+        world.setTimer(entity, timer);
+    }
+
+    private void arm() {
+        world.setTimer(entity, STARTING_TIMER);
+        world.start(entity);
     }
 }
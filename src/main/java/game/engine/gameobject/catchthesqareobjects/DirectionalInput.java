@@ -1,6 +1,5 @@
 package game.engine.gameobject.catchthesqareobjects;
 
-import api.Vector2D;
 import game.controlling.Input;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.InputModel;
@@ -20,16 +19,16 @@ public class DirectionalInput implements InputModel {
     @Override
     public void update(final GameObject obj, final Input c, final long elapsedTime) {
         if (c.isMoveUp()) {
-            obj.setVel(new Vector2D(obj.getVel().getX(), obj.getVel().getY() - CHANGE_COEFFICENT * elapsedTime));
+            obj.setVel(obj.getVelX(), obj.getVelY() - CHANGE_COEFFICENT * elapsedTime);
         }
         if (c.isMoveDown()) {
-            obj.setVel(new Vector2D(obj.getVel().getX(), obj.getVel().getY() + CHANGE_COEFFICENT * elapsedTime));
+            obj.setVel(obj.getVelX(), obj.getVelY() + CHANGE_COEFFICENT * elapsedTime);
         }
         if (c.isMoveLeft()) {
-            obj.setVel(new Vector2D(obj.getVel().getX() - CHANGE_COEFFICENT * elapsedTime, obj.getVel().getY()));
+            obj.setVel(obj.getVelX() - CHANGE_COEFFICENT * elapsedTime, obj.getVelY());
         }
         if (c.isMoveRight()) {
-            obj.setVel(new Vector2D(obj.getVel().getX() + CHANGE_COEFFICENT * elapsedTime, obj.getVel().getY()));
+            obj.setVel(obj.getVelX() + CHANGE_COEFFICENT * elapsedTime, obj.getVelY());
         }
     }
 }
@@ -2,10 +2,12 @@ package game.engine.gameobject.dodgeatriangleobjects;
 
 import api.Point2D;
 import api.Vector2D;
+import game.engine.gameobject.AspectModel;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.NullInput;
 import game.engine.gameobject.SimplePhysics;
-import game.engine.gameobject.hitboxmodel.RectangleHitBoxModel;
+import game.engine.gameobject.hitboxmodel.HitBoxModel;
+import game.engine.gameobject.hitboxmodel.TriangleHitBoxModel;
 
 /**
  * Class that models the enemy in the Dodge-a-Triangle 
@@ -13,6 +15,10 @@ import game.engine.gameobject.hitboxmodel.RectangleHitBoxModel;
  * playing field from right to left or vice versa.
  */
 public class DatTriangle extends GameObject {
+    private final AspectModel fromLeft;
+    private final AspectModel fromRight;
+    private final HitBoxModel pointingRight;
+    private final HitBoxModel pointingLeft;
 
     /**
      * Simple constructor for DatTriangle fields.
@@ -25,7 +31,26 @@ public class DatTriangle extends GameObject {
         super(coor, vel);
         this.setInputModel(new NullInput());
         this.setPhysicsModel(new SimplePhysics());
-        this.setAspectModel(new DatTriangleAspectModel(side, coor.getX() > 0));
-        this.setHitBoxModel(new RectangleHitBoxModel(side * Math.sqrt(3) / 2, side));
+        this.fromLeft = new DatTriangleAspectModel(side, false);
+        this.fromRight = new DatTriangleAspectModel(side, true);
+        this.pointingRight = new TriangleHitBoxModel(side, 0);
+        this.pointingLeft = new TriangleHitBoxModel(side, Math.PI);
+        this.setAspectModel(coor.getX() > 0 ? fromRight : fromLeft);
+        this.setHitBoxModel(coor.getX() > 0 ? pointingLeft : pointingRight);
+    }
+
+    /**
+     * Reuses the triangle for a new crossing of the field.
+     * 
+     * @param x   the initial x coordinate of the triangle
+     * @param y   the initial y coordinate of the triangle
+     * @param vel the speed of the triangle
+     */
+    public void respawn(final double x, final double y, final Vector2D vel) {
+        this.setCoor(x, y);
+        this.storePreviousCoor();
+        this.setVel(vel);
+        this.setAspectModel(x > 0 ? fromRight : fromLeft);
+        this.setHitBoxModel(x > 0 ? pointingLeft : pointingRight);
     }
 }
@@ -1,7 +1,6 @@
 package game.engine.gameobject.dodgeatriangleobjects;
 
 import api.Point2D;
-import api.Vector2D;
 import game.controlling.Input;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.InputModel;
@@ -41,15 +40,15 @@ public class DodgerInputModel implements InputModel {
      */
     @Override
     public void update(final GameObject obj, final Input c, final long elapsedTime) {
-        if (!hold && c.isForward() && obj.getCoor().getY() > limitLow) {
-            obj.setCoor(obj.getCoor().sum(forward));
+        if (!hold && c.isForward() && obj.getY() > limitLow) {
+            obj.setCoor(obj.getX() + forward.getX(), obj.getY() + forward.getY());
             this.hold = true;
-        } else if (!hold && c.isBackwards() && obj.getCoor().getY() < limitHigh) {
-            obj.setCoor(obj.getCoor().sum(backwards));
+        } else if (!hold && c.isBackwards() && obj.getY() < limitHigh) {
+            obj.setCoor(obj.getX() + backwards.getX(), obj.getY() + backwards.getY());
             this.hold = true;
         } else if (!(c.isForward() || c.isBackwards())) {
             this.hold = false;
         }
-        obj.setVel(Vector2D.nullVector());
+        obj.setVel(0, 0);
     }
 }
@@ -0,0 +1,14 @@
+package game.engine.gameobject.ecs;
+
+/**
+ * A system updates, at each step, the entities of a {@link World}.
+ */
+public interface EntitySystem {
+
+    /**
+     * Method to update the entities.
+     *
+     * @param dt the elapsed time in ms.
+     */
+    void update(long dt);
+}
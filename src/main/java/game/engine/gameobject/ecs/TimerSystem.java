@@ -0,0 +1,47 @@
+package game.engine.gameobject.ecs;
+
+import java.util.function.IntConsumer;
+
+/**
+ * System that runs the timers of a world, and tells when one of them runs
+ * out. It moves the clock of the world and looks only at the earliest
+ * deadline, so an update costs the same however many timers there are; a
+ * timer that runs out is stopped.
+ */
+public class TimerSystem implements EntitySystem {
+    private final World world;
+    private final IntConsumer expired;
+
+    /**
+     * Constructor.
+     *
+     * @param world the world of the timers.
+     */
+    public TimerSystem(final World world) {
+        this(world, e -> { });
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param world   the world of the timers.
+     * @param expired the action to perform on the entities whose timer runs
+     *                out, once, in the update where it goes below zero.
+     */
+    public TimerSystem(final World world, final IntConsumer expired) {
+        this.world = world;
+        this.expired = expired;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long dt) {
+        world.advance(dt);
+        for (int e = world.nextDeadline(); e >= 0 && world.getTimer(e) < 0; e = world.nextDeadline()) {
+            world.stop(e);
+            expired.accept(e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package game.engine.gameobject.ecs;
+
+import game.engine.gameobject.GameObject;
+
+/**
+ * Storage of the timers of some entities: entities are int ids, and the timer
+ * and the object of each entity lie in dense arrays indexed by id. The timers
+ * run with the clock of the world while they are started, so advancing the
+ * clock doesn't visit them.
+ */
+public interface World {
+
+    /**
+     * Creates an entity with a stopped timer.
+     *
+     * @return the id of the entity, that can be the one of a destroyed entity.
+     */
+    int create();
+
+    /**
+     * Destroys an entity, its id can be reused.
+     *
+     * @param entity the entity to destroy.
+     */
+    void destroy(int entity);
+
+    /**
+     * Checks if an entity exists.
+     *
+     * @param entity the entity.
+     * @return whether it has been created and not destroyed.
+     */
+    boolean isAlive(int entity);
+
+    /**
+     * Starts the timer of an entity, nothing changes if it is running.
+     *
+     * @param entity the entity.
+     */
+    void start(int entity);
+
+    /**
+     * Stops the timer of an entity, nothing changes if it isn't running.
+     *
+     * @param entity the entity.
+     */
+    void stop(int entity);
+
+    /**
+     * Checks if the timer of an entity is running.
+     *
+     * @param entity the entity.
+     * @return whether the timer has been started and not stopped.
+     */
+    boolean isRunning(int entity);
+
+    /**
+     * Getter for the timer of an entity. The timers run with the clock of the
+     * world while they are started.
+     *
+     * @param entity the entity.
+     * @return the remaining time in ms.
+     */
+    long getTimer(int entity);
+
+    /**
+     * Setter for the timer of an entity.
+     *
+     * @param entity the entity.
+     * @param timer  the remaining time in ms.
+     */
+    void setTimer(int entity, long timer);
+
+    /**
+     * Moves the clock of the world on, so that all the running timers lose
+     * the elapsed time at once.
+     *
+     * @param dt the elapsed time in ms.
+     */
+    void advance(long dt);
+
+    /**
+     * Getter for the entity whose running timer runs out first.
+     *
+     * @return the entity, or -1 if no timer is running.
+     */
+    int nextDeadline();
+
+    /**
+     * Getter for the object of an entity.
+     *
+     * @param entity the entity.
+     * @return the object that represents it.
+     */
+    GameObject getObject(int entity);
+
+    /**
+     * Setter for the object of an entity.
+     *
+     * @param entity the entity.
+     * @param object the object that represents it.
+     */
+    void setObject(int entity, GameObject object);
+}
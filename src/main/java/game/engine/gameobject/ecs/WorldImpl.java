@@ -0,0 +1,189 @@
+package game.engine.gameobject.ecs;
+
+import java.util.Arrays;
+
+import api.DeadlineHeap;
+import game.engine.gameobject.GameObject;
+
+/**
+ * Implementation of a {@link World} with the data in arrays indexed by entity
+ * id. The ids of the destroyed entities are reused, so the arrays stay as
+ * long as the most entities alive at the same time.
+ *
+ * The running timers are kept as deadlines on the clock of the world, in a
+ * min-heap: advancing the clock and finding the next timer to run out cost
+ * the same however many timers there are, and the remaining time is computed
+ * only when it is read.
+ */
+public class WorldImpl implements World {
+    private static final int DEFAULT_CAPACITY = 16;
+    private boolean[] alive;
+    /* the deadline of the running timers, the remaining time of the stopped ones */
+    private long[] timers;
+    private final DeadlineHeap deadlines = new DeadlineHeap();
+    private long time;
+    private GameObject[] objects;
+    private int[] free;
+    private int freeSize;
+    private int created;
+
+    /**
+     * Constructor for an empty world.
+     */
+    public WorldImpl() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for an empty world.
+     *
+     * @param capacity the number of entities the world can hold before growing.
+     */
+    public WorldImpl(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        this.alive = new boolean[capacity];
+        this.timers = new long[capacity];
+        this.objects = new GameObject[capacity];
+        this.free = new int[capacity];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int create() {
+        final int entity;
+        if (freeSize > 0) {
+            entity = free[--freeSize];
+        } else {
+            if (created == alive.length) {
+                grow();
+            }
+            entity = created++;
+        }
+        alive[entity] = true;
+        return entity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroy(final int entity) {
+        checkAlive(entity);
+        deadlines.remove(entity);
+        alive[entity] = false;
+        objects[entity] = null;
+        timers[entity] = 0;
+        free[freeSize++] = entity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAlive(final int entity) {
+        return entity >= 0 && entity < created && alive[entity];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start(final int entity) {
+        checkAlive(entity);
+        if (!deadlines.contains(entity)) {
+            timers[entity] += time;
+            deadlines.put(entity, timers[entity]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop(final int entity) {
+        checkAlive(entity);
+        if (deadlines.contains(entity)) {
+            timers[entity] -= time;
+            deadlines.remove(entity);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning(final int entity) {
+        return deadlines.contains(entity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTimer(final int entity) {
+        return deadlines.contains(entity) ? timers[entity] - time : timers[entity];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setTimer(final int entity, final long timer) {
+        if (deadlines.contains(entity)) {
+            timers[entity] = time + timer;
+            deadlines.put(entity, timers[entity]);
+        } else {
+            timers[entity] = timer;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void advance(final long dt) {
+        time += dt;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextDeadline() {
+        return deadlines.peek();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameObject getObject(final int entity) {
+        return objects[entity];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setObject(final int entity, final GameObject object) {
+        objects[entity] = object;
+    }
+
+    private void grow() {
+        final int capacity = alive.length * 2;
+        alive = Arrays.copyOf(alive, capacity);
+        timers = Arrays.copyOf(timers, capacity);
+        objects = Arrays.copyOf(objects, capacity);
+        free = Arrays.copyOf(free, capacity);
+    }
+
+    private void checkAlive(final int entity) {
+        if (!isAlive(entity)) {
+            throw new IllegalArgumentException("The entity " + entity + " doesn't exist");
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package game.engine.gameobject.flappybirdalikeobjects;
 
-import api.Vector2D;
 import game.controlling.Input;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.InputModel;
@@ -30,7 +29,7 @@ public class FlappyInput implements InputModel {
     public void update(final GameObject obj, final Input c, final long elapsedTime) {
         if (c.isJump() && !hold) {
             this.hold = true;
-            obj.setVel(new Vector2D(0, upwardSpeed * elapsedTime));
+            obj.setVel(0, upwardSpeed * elapsedTime);
         }
 
         if (!c.isJump() && hold) {
@@ -1,7 +1,5 @@
 package game.engine.gameobject.flappybirdalikeobjects;
 
-import api.Point2D;
-import api.Vector2D;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.SimplePhysics;
 import game.engine.minigame.Minigame;
@@ -37,15 +35,15 @@ public class FlappyPhysics extends SimplePhysics {
     @Override
     public void update(final long dt, final GameObject obj, final Minigame miniGame) {
         super.update(dt, obj, miniGame);
-        final boolean onGround = obj.getCoor().getY() >= Y_MAX - cursorOffset;
-        obj.setVel(new Vector2D(0, obj.getVel().getY() + (onGround ? 0 : ACCEL * dt)));
-        if (obj.getCoor().getY() < Y_MIN + cursorOffset) {
-            obj.setCoor(new Point2D(obj.getCoor().getX(), Y_MIN + cursorOffset));
-            obj.setVel(Vector2D.nullVector());
+        final boolean onGround = obj.getY() >= Y_MAX - cursorOffset;
+        obj.setVel(0, obj.getVelY() + (onGround ? 0 : ACCEL * dt));
+        if (obj.getY() < Y_MIN + cursorOffset) {
+            obj.setCoor(obj.getX(), Y_MIN + cursorOffset);
+            obj.setVel(0, 0);
         }
-        if (obj.getCoor().getY() > Y_MAX - cursorOffset) {
-            obj.setCoor(new Point2D(obj.getCoor().getX(), Y_MAX - cursorOffset));
-            obj.setVel(Vector2D.nullVector());
+        if (obj.getY() > Y_MAX - cursorOffset) {
+            obj.setCoor(obj.getX(), Y_MAX - cursorOffset);
+            obj.setVel(0, 0);
         }
     }
 
@@ -0,0 +1,52 @@
+package game.engine.gameobject.flappybirdalikeobjects;
+
+import api.ColorRGB;
+import api.Point2D;
+import api.Vector2D;
+import game.engine.gameobject.GameObject;
+import game.engine.gameobject.NullInput;
+import game.engine.gameobject.RectangleAspect;
+import game.engine.gameobject.SimplePhysics;
+import game.engine.gameobject.hitboxmodel.RectangleHitBoxModel;
+
+/**
+ * An obstacle that crosses the field towards the cursor, it can be reused
+ * with a different height for each crossing.
+ */
+public class Obstacle extends GameObject {
+    private final RectangleAspect aspect;
+    private final RectangleHitBoxModel hitBox;
+    private final int width;
+
+    /**
+     * The constructor for the obstacle.
+     *
+     * @param width the width of the obstacle.
+     * @param vel   the speed of the obstacle.
+     */
+    public Obstacle(final int width, final Vector2D vel) {
+        super(Point2D.origin(), vel);
+        this.width = width;
+        this.aspect = new RectangleAspect(width, 0, ColorRGB.black(), false);
+        this.setInputModel(new NullInput());
+        this.setPhysicsModel(new SimplePhysics());
+        this.setAspectModel(aspect);
+        this.hitBox = new RectangleHitBoxModel(width, 0);
+        this.setHitBoxModel(hitBox);
+    }
+
+    /**
+     * Places the obstacle at the start of a new crossing.
+     *
+     * @param x      the initial x coordinate.
+     * @param y      the y coordinate of the center of the obstacle.
+     * @param height the height of the obstacle.
+     */
+    public void respawn(final double x, final double y, final int height) {
+        this.setCoor(x, y);
+        this.storePreviousCoor();
+        aspect.setHeight(height);
+        hitBox.setSize(width, height);
+        this.setHitBoxModel(hitBox);
+    }
+}
@@ -0,0 +1,57 @@
+package game.engine.gameobject.hitboxmodel;
+
+import java.util.BitSet;
+
+import game.engine.gameobject.GameObject;
+import game.engine.gameobject.ObjectStore;
+
+/**
+ * The first phase of the collision detection: it indexes the bounding boxes
+ * of the objects of a store, so that a {@link Collider} runs only on the
+ * objects whose boxes overlap the one of the object it checks.
+ *
+ * The boxes indexed are the ones swept during the last step, from the
+ * previous coordinates of the objects to the current ones, so that the
+ * candidates hold also the objects that passed through each other.
+ */
+public interface Broadphase {
+
+    /**
+     * Indexes the objects of a store, to be called after they move and before
+     * the queries.
+     * 
+     * @param store the store of the objects.
+     */
+    void update(ObjectStore store);
+
+    /**
+     * Finds the objects whose swept boxes overlap a box.
+     * 
+     * @param minX   the left side of the box.
+     * @param minY   the top side of the box.
+     * @param maxX   the right side of the box.
+     * @param maxY   the bottom side of the box.
+     * @param result the set to fill, cleared before the query.
+     * @return the result, with the slots of the candidates set.
+     */
+    BitSet query(double minX, double minY, double maxX, double maxY, BitSet result);
+
+    /**
+     * Getter for the number of candidates found by the queries since the last
+     * update, that is the pairs handed to the exact test in a tick.
+     * 
+     * @return the number of candidate pairs.
+     */
+    int getCandidates();
+
+    /**
+     * Finds the objects whose swept boxes overlap the one of an object.
+     * 
+     * @param g      the object.
+     * @param result the set to fill, cleared before the query.
+     * @return the result, with the slots of the candidates set.
+     */
+    default BitSet query(final GameObject g, final BitSet result) {
+        return query(g.getSweptMinX(), g.getSweptMinY(), g.getSweptMaxX(), g.getSweptMaxY(), result);
+    }
+}
@@ -0,0 +1,34 @@
+package game.engine.gameobject.hitboxmodel;
+
+/**
+ * The available broadphases, to choose the one that suits the way the
+ * objects of a minigame move.
+ */
+public enum BroadphaseType {
+    /**
+     * {@link BruteForceBroadphase}, for a handful of objects.
+     */
+    BRUTE_FORCE,
+    /**
+     * {@link SpatialHashGrid}, for many objects scattered over the field.
+     */
+    GRID,
+    /**
+     * {@link SweepAndPrune}, for objects that move mostly along x.
+     */
+    SWEEP_AND_PRUNE;
+
+    /**
+     * Creates a broadphase of this type.
+     *
+     * @param fieldHeight the height of the field of the minigame.
+     * @return the new broadphase.
+     */
+    public Broadphase create(final int fieldHeight) {
+        return switch (this) {
+            case BRUTE_FORCE -> new BruteForceBroadphase();
+            case GRID -> new SpatialHashGrid(fieldHeight);
+            case SWEEP_AND_PRUNE -> new SweepAndPrune();
+        };
+    }
+}
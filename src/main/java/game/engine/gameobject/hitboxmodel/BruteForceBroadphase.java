@@ -0,0 +1,48 @@
+package game.engine.gameobject.hitboxmodel;
+
+import java.util.BitSet;
+
+import game.engine.gameobject.ObjectStore;
+
+/**
+ * Broadphase that compares the box of the query with the box of every object,
+ * the cheapest one when there are few objects.
+ */
+public class BruteForceBroadphase implements Broadphase {
+    private ObjectStore store = new ObjectStore(1);
+    private int candidates;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final ObjectStore store) {
+        this.store = store;
+        candidates = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet query(final double minX, final double minY, final double maxX, final double maxY,
+            final BitSet result) {
+        result.clear();
+        for (int i = 0; i < store.size(); i++) {
+            if (store.getSweptMinX(i) <= maxX & store.getSweptMaxX(i) >= minX
+                    & store.getSweptMinY(i) <= maxY & store.getSweptMaxY(i) >= minY) {
+                result.set(i);
+                candidates++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCandidates() {
+        return candidates;
+    }
+}
@@ -1,7 +1,5 @@
 package game.engine.gameobject.hitboxmodel;
 
-import java.util.List;
-
 /**
  * HitBoxModel to model a cicular boudary.
  */
@@ -18,11 +16,35 @@ public class CircleHitBoxModel implements HitBoxModel {
         this.size = size;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Shape getShape() {
+        return Shape.CIRCLE;
+    }
+
+    /**
+     * @return the radius of the circle.
+     */
+    @Override
+    public double getHalfWidth() {
+        return size;
+    }
+
+    /**
+     * @return the radius of the circle.
+     */
+    @Override
+    public double getHalfHeight() {
+        return size;
+    }
+
     /**
      * @return the radius of the circle.
      */
     @Override
-    public List<Double> getSizes() {
-        return List.of(size);
+    public double getRadius() {
+        return size;
     }
 }
@@ -1,11 +1,20 @@
 package game.engine.gameobject.hitboxmodel;
 
+import java.util.BitSet;
+import java.util.List;
+
 import game.engine.gameobject.GameObject;
+import game.engine.gameobject.ObjectStore;
 
 /**
  * Class to check if two {@link GameObject} are colliding.
  */
 public interface Collider {
+    /**
+     * The time of impact of two objects that don't collide during a step.
+     */
+    double NO_IMPACT = Double.POSITIVE_INFINITY;
+
     /**
      * Checks if two {@link GameObject} are colliding.
      * 
@@ -14,4 +23,98 @@ public interface Collider {
      * @return if the two {@link GameObject} are colliding.
      */
     boolean isColliding(GameObject g, GameObject h);
+
+    /**
+     * Checks which objects of a store collide with a {@link GameObject}.
+     * 
+     * @param g      the {@link GameObject}.
+     * @param others the store of the other objects, g itself is skipped if it
+     *               is in the store.
+     * @param result the set to fill, cleared before the check.
+     * @return the result, with the slots of the colliding objects set.
+     */
+    BitSet collide(GameObject g, ObjectStore others, BitSet result);
+
+    /**
+     * Checks which objects of a store collide with a {@link GameObject}, running
+     * the exact test only on the candidates found by a broadphase.
+     * 
+     * @param g          the {@link GameObject}.
+     * @param others     the store of the other objects, g itself is skipped if
+     *                   it is in the store.
+     * @param broadphase the broadphase, updated with the store after the objects
+     *                   last moved.
+     * @param result     the set to fill, cleared before the check.
+     * @return the result, with the slots of the colliding objects set.
+     */
+    default BitSet collide(final GameObject g, final ObjectStore others, final Broadphase broadphase,
+            final BitSet result) {
+        broadphase.query(g, result);
+        for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+            final GameObject h = others.get(i);
+            if (h == g || !isColliding(g, h)) {
+                result.clear(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes when two {@link GameObject} first touch during the last step,
+     * moving both of them along a line from their previous coordinates to the
+     * current ones. Unlike {@link #isColliding(GameObject, GameObject)} it
+     * finds also the objects that passed through each other in a long step.
+     * The pairs of shapes that can't be swept fall back to the test of the
+     * current positions, and touch at the end of the step if they collide.
+     * 
+     * @param g the first {@link GameObject}.
+     * @param h the second {@link GameObject}.
+     * @return the fraction of the step, between 0 and 1, when the two
+     *         {@link GameObject} first touch, or {@link #NO_IMPACT}.
+     */
+    double timeOfImpact(GameObject g, GameObject h);
+
+    /**
+     * Checks which objects of a store hit a {@link GameObject} during the last
+     * step, running the swept test only on the candidates found by a
+     * broadphase. The candidates whose shapes can't be swept are reported if
+     * they collide at the end of the step.
+     * 
+     * @param g          the {@link GameObject}.
+     * @param others     the store of the other objects, g itself is skipped if
+     *                   it is in the store.
+     * @param broadphase the broadphase, updated with the store after the objects
+     *                   last moved.
+     * @param result     the set to fill, cleared before the check.
+     * @return the result, with the slots of the objects hit set.
+     */
+    default BitSet sweep(final GameObject g, final ObjectStore others, final Broadphase broadphase,
+            final BitSet result) {
+        broadphase.query(g, result);
+        for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+            final GameObject h = others.get(i);
+            if (h == g || timeOfImpact(g, h) > 1) {
+                result.clear(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks which objects of a list collide with a {@link GameObject}.
+     * 
+     * @param g      the {@link GameObject}.
+     * @param others the other objects.
+     * @param result the set to fill, cleared before the check.
+     * @return the result, with the indexes of the colliding objects set.
+     */
+    default BitSet collide(final GameObject g, final List<? extends GameObject> others, final BitSet result) {
+        result.clear();
+        for (int i = 0; i < others.size(); i++) {
+            if (isColliding(g, others.get(i))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
 }
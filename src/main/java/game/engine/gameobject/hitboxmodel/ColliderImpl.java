@@ -1,79 +1,550 @@
 package game.engine.gameobject.hitboxmodel;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 import game.engine.gameobject.GameObject;
+import game.engine.gameobject.ObjectStore;
 
 /**
- * Implementation for the Collider.
+ * Implementation for the Collider. The bounding boxes kept by the objects
+ * discard most of the pairs with four comparisons, the exact test of the
+ * shapes runs only on the pairs whose boxes touch. The exact tests are kept in
+ * a table indexed by the shapes of the pair, so a new shape adds its row
+ * without touching the other tests; the triangles are tested with the
+ * separating axis theorem.
+ *
+ * The swept tests work in the frame of the second object: the first one moves
+ * by the difference of the two displacements, and its center is cast as a ray
+ * against the second shape grown by the first one, or the separating axis
+ * theorem is run along the motion for the triangles. They are kept in a table
+ * like the exact tests; the pairs without a swept test, a circle and a
+ * triangle, are tested at the end of the step.
  */
 public class ColliderImpl implements Collider {
+    private static final PairTest NEVER = (g, h) -> false;
+    /* the two axes of the boxes, then the sides of the first triangle and of the second one */
+    private static final int AXES = 2 + 2 * TriangleHitBoxModel.VERTICES;
+    private static final PairTest[][] TESTS = buildTests();
+    private static final SweptTest[][] SWEPT_TESTS = buildSweptTests();
+
+    /**
+     * Exact test of a pair of shapes.
+     */
+    @FunctionalInterface
+    private interface PairTest {
+        /**
+         * Checks if two objects of the shapes of the test are colliding.
+         * 
+         * @param g the first object.
+         * @param h the second object.
+         * @return if the two objects are colliding.
+         */
+        boolean test(GameObject g, GameObject h);
+    }
+
+    /**
+     * Swept test of a pair of shapes, in the frame of the second object.
+     */
+    @FunctionalInterface
+    private interface SweptTest {
+        /**
+         * Finds when an object of the first shape, moving, first touches a
+         * still object of the second shape.
+         * 
+         * @param px the x of the start of the first object, from the second.
+         * @param py the y of the start of the first object, from the second.
+         * @param dx the x of the displacement of the first object.
+         * @param dy the y of the displacement of the first object.
+         * @param g  the hitbox of the first object.
+         * @param h  the hitbox of the second object.
+         * @return the fraction of the displacement when they touch, or
+         *         {@link Collider#NO_IMPACT}.
+         */
+        double timeOfImpact(double px, double py, double dx, double dy, HitBoxModel g, HitBoxModel h);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean isColliding(final GameObject g, final GameObject h) {
-        if (g.getHitBoxModel() instanceof CircleHitBoxModel && h.getHitBoxModel() instanceof RectangleHitBoxModel) {
-            return circleRectangleCompare(g, h);
+        return g.getMinX() <= h.getMaxX() & g.getMaxX() >= h.getMinX()
+                & g.getMinY() <= h.getMaxY() & g.getMaxY() >= h.getMinY()
+                && shapesCollide(g, h);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet collide(final GameObject g, final ObjectStore others, final BitSet result) {
+        result.clear();
+        final double minX = g.getMinX();
+        final double minY = g.getMinY();
+        final double maxX = g.getMaxX();
+        final double maxY = g.getMaxY();
+        for (int i = 0; i < others.size(); i++) {
+            if (others.getMinX(i) <= maxX & others.getMaxX(i) >= minX
+                    & others.getMinY(i) <= maxY & others.getMaxY(i) >= minY) {
+                final GameObject h = others.get(i);
+                if (h != g && shapesCollide(g, h)) {
+                    result.set(i);
+                }
+            }
         }
-        if (h.getHitBoxModel() instanceof CircleHitBoxModel && g.getHitBoxModel() instanceof RectangleHitBoxModel) {
-            return circleRectangleCompare(h, g);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc} A pair of shapes without a swept test, a circle and a
+     * triangle, hits at the end of the step if it collides there.
+     */
+    @Override
+    public double timeOfImpact(final GameObject g, final GameObject h) {
+        final SweptTest test = SWEPT_TESTS[g.getHitBoxModel().getShape().ordinal()]
+                [h.getHitBoxModel().getShape().ordinal()];
+        if (test == null) {
+            return isColliding(g, h) ? 1 : NO_IMPACT;
         }
-        if (h.getHitBoxModel() instanceof RectangleHitBoxModel && g.getHitBoxModel() instanceof RectangleHitBoxModel) {
-            return rectangleRectangleCompare(h, g);
+        /* start and displacement of g as seen from h */
+        final double px = g.getPreviousX() - h.getPreviousX();
+        final double py = g.getPreviousY() - h.getPreviousY();
+        final double dx = g.getX() - g.getPreviousX() - (h.getX() - h.getPreviousX());
+        final double dy = g.getY() - g.getPreviousY() - (h.getY() - h.getPreviousY());
+        return test.timeOfImpact(px, py, dx, dy, g.getHitBoxModel(), h.getHitBoxModel());
+    }
+
+    /**
+     * Casts a ray against a box centered in the origin, with the slab test.
+     * As for the rectangles, the ray has to enter the box by more than a side.
+     * 
+     * @param px the x of the start of the ray.
+     * @param py the y of the start of the ray.
+     * @param dx the x of the displacement along the ray.
+     * @param dy the y of the displacement along the ray.
+     * @param hx the half width of the box.
+     * @param hy the half height of the box.
+     * @return the fraction of the displacement when the ray enters the box, or
+     *         {@link #NO_IMPACT}.
+     */
+    private static double rayBox(final double px, final double py, final double dx, final double dy,
+            final double hx, final double hy) {
+        if (Math.abs(px) < hx && Math.abs(py) < hy) {
+            return 0;
         }
-        return false;
+        double enter = 0;
+        double exit = 1;
+        if (dx == 0) {
+            if (Math.abs(px) >= hx) {
+                return NO_IMPACT;
+            }
+        } else {
+            final double t1 = (-hx - px) / dx;
+            final double t2 = (hx - px) / dx;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        if (dy == 0) {
+            if (Math.abs(py) >= hy) {
+                return NO_IMPACT;
+            }
+        } else {
+            final double t1 = (-hy - py) / dy;
+            final double t2 = (hy - py) / dy;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        return enter < exit ? enter : NO_IMPACT;
     }
 
     /**
-     * Checks if two rectangles are colliding.
+     * Finds when a moving rectangle or triangle first overlaps a still one
+     * centered in the origin, with the separating axis theorem: on each axis
+     * the projections overlap during an interval of the step, and the shapes
+     * touch when all the intervals do. As for the exact tests, the shapes have
+     * to overlap by more than a point.
      * 
-     * @param g the first rectangle.
-     * @param h the second rectangle.
-     * @return if the two rectangles are colliding.
+     * @param px the x of the start of the first shape.
+     * @param py the y of the start of the first shape.
+     * @param dx the x of the displacement of the first shape.
+     * @param dy the y of the displacement of the first shape.
+     * @param g  the hitbox of the first shape.
+     * @param h  the hitbox of the second shape.
+     * @return the fraction of the displacement when the shapes first overlap,
+     *         or {@link #NO_IMPACT}.
      */
-    private boolean rectangleRectangleCompare(final GameObject h, final GameObject g) {
-        return h.getCoor().getX() - h.getHitBoxModel().getSizes().get(0) / 2 < g.getCoor().getX()
-                + g.getHitBoxModel().getSizes().get(0) / 2
-                && h.getCoor().getX() + h.getHitBoxModel().getSizes().get(0) / 2 > g.getCoor().getX()
-                        - g.getHitBoxModel().getSizes().get(0) / 2
-                &&
-                h.getCoor().getY() - h.getHitBoxModel().getSizes().get(1) / 2 < g.getCoor().getY()
-                        + g.getHitBoxModel().getSizes().get(1) / 2
-                &&
-                h.getCoor().getY() + h.getHitBoxModel().getSizes().get(1) / 2 > g.getCoor().getY()
-                        - g.getHitBoxModel().getSizes().get(1) / 2;
+    private static double sweptPolygons(final double px, final double py, final double dx, final double dy,
+            final HitBoxModel g, final HitBoxModel h) {
+        double enter = 0;
+        double exit = 1;
+        for (int i = 0; i < AXES && enter < exit; i++) {
+            final HitBoxModel side = i < 2 + TriangleHitBoxModel.VERTICES ? g : h;
+            if (i >= 2 && side.getShape() != Shape.TRIANGLE) {
+                continue;
+            }
+            final int vertex = (i - 2) % TriangleHitBoxModel.VERTICES;
+            final double nx = i < 2 ? 1 - i : ((TriangleHitBoxModel) side).getNormalX(vertex);
+            final double ny = i < 2 ? i : ((TriangleHitBoxModel) side).getNormalY(vertex);
+            /* the offset of g along the axis overlaps h while it is in (low, high) */
+            final double low = projectMin(h, nx, ny) - projectMax(g, nx, ny);
+            final double high = projectMax(h, nx, ny) - projectMin(g, nx, ny);
+            final double offset = px * nx + py * ny;
+            final double speed = dx * nx + dy * ny;
+            if (speed == 0) {
+                if (offset <= low || offset >= high) {
+                    return NO_IMPACT;
+                }
+            } else {
+                final double t1 = (low - offset) / speed;
+                final double t2 = (high - offset) / speed;
+                enter = Math.max(enter, Math.min(t1, t2));
+                exit = Math.min(exit, Math.max(t1, t2));
+            }
+        }
+        return enter < exit ? enter : NO_IMPACT;
     }
 
     /**
-     * Checks if a circle and a rectangle are colliding.
+     * Projects a rectangle or a triangle centered in the origin on an axis.
      * 
-     * @param circle    the circle.
-     * @param rectangle the rectangle.
-     * @return if the circle and the rectangle are collidign.
+     * @param m  the hitbox.
+     * @param nx the x of the axis.
+     * @param ny the y of the axis.
+     * @return the lowest projection.
      */
-    private boolean circleRectangleCompare(final GameObject circle, final GameObject rectangle) {
-        final double circleDistancex = Math.abs(circle.getCoor().getX() - rectangle.getCoor().getX());
-        final double rectWidth = rectangle.getHitBoxModel().getSizes().get(0);
-        final double circleRad = circle.getHitBoxModel().getSizes().get(0);
-        if (circleDistancex > (rectWidth / 2 + circleRad)) {
-            return false;
+    private static double projectMin(final HitBoxModel m, final double nx, final double ny) {
+        return m.getShape() == Shape.TRIANGLE ? triangleMin((TriangleHitBoxModel) m, nx, ny)
+                : -m.getHalfWidth() * Math.abs(nx) - m.getHalfHeight() * Math.abs(ny);
+    }
+
+    /**
+     * Projects a rectangle or a triangle centered in the origin on an axis.
+     * 
+     * @param m  the hitbox.
+     * @param nx the x of the axis.
+     * @param ny the y of the axis.
+     * @return the highest projection.
+     */
+    private static double projectMax(final HitBoxModel m, final double nx, final double ny) {
+        return m.getShape() == Shape.TRIANGLE ? triangleMax((TriangleHitBoxModel) m, nx, ny)
+                : m.getHalfWidth() * Math.abs(nx) + m.getHalfHeight() * Math.abs(ny);
+    }
+
+    /**
+     * Casts a ray against a box centered in the origin grown by a radius, that
+     * is the union of two boxes and of a circle on each corner.
+     * 
+     * @param px     the x of the start of the ray.
+     * @param py     the y of the start of the ray.
+     * @param dx     the x of the displacement along the ray.
+     * @param dy     the y of the displacement along the ray.
+     * @param hx     the half width of the box.
+     * @param hy     the half height of the box.
+     * @param radius the radius.
+     * @return the fraction of the displacement when the ray enters the shape,
+     *         or {@link #NO_IMPACT}.
+     */
+    private static double rayRoundedBox(final double px, final double py, final double dx, final double dy,
+            final double hx, final double hy, final double radius) {
+        double t = Math.min(rayBox(px, py, dx, dy, hx + radius, hy), rayBox(px, py, dx, dy, hx, hy + radius));
+        t = Math.min(t, rayCircle(px - hx, py - hy, dx, dy, radius));
+        t = Math.min(t, rayCircle(px + hx, py - hy, dx, dy, radius));
+        t = Math.min(t, rayCircle(px - hx, py + hy, dx, dy, radius));
+        return Math.min(t, rayCircle(px + hx, py + hy, dx, dy, radius));
+    }
+
+    /**
+     * Casts a ray against a circle centered in the origin.
+     * 
+     * @param px     the x of the start of the ray.
+     * @param py     the y of the start of the ray.
+     * @param dx     the x of the displacement along the ray.
+     * @param dy     the y of the displacement along the ray.
+     * @param radius the radius of the circle.
+     * @return the fraction of the displacement when the ray enters the circle,
+     *         or {@link #NO_IMPACT}.
+     */
+    private static double rayCircle(final double px, final double py, final double dx, final double dy,
+            final double radius) {
+        final double c = px * px + py * py - radius * radius;
+        if (c <= 0) {
+            return 0;
         }
-        final double circleDistancey = Math.abs(circle.getCoor().getY() - rectangle.getCoor().getY());
-        final double rectHeight = rectangle.getHitBoxModel().getSizes().get(1);
-        if (circleDistancey > (rectHeight / 2 + circleRad)) {
-            return false;
+        final double a = dx * dx + dy * dy;
+        final double b = px * dx + py * dy;
+        final double discriminant = b * b - a * c;
+        if (a == 0 || b >= 0 || discriminant < 0) {
+            return NO_IMPACT;
         }
+        final double t = (-b - Math.sqrt(discriminant)) / a;
+        return t <= 1 ? t : NO_IMPACT;
+    }
 
-        if (circleDistancex <= (rectWidth / 2)) {
-            return true;
+    /**
+     * Exact test of two objects whose bounding boxes touch.
+     * 
+     * @param g the first object.
+     * @param h the second object.
+     * @return if the shapes of the two objects are colliding.
+     */
+    private boolean shapesCollide(final GameObject g, final GameObject h) {
+        return TESTS[g.getHitBoxModel().getShape().ordinal()][h.getHitBoxModel().getShape().ordinal()].test(g, h);
+    }
+
+    /**
+     * Builds the table of the tests, where the pairs without a test never
+     * collide.
+     * 
+     * @return the tests indexed by the ordinals of the two shapes.
+     */
+    private static PairTest[][] buildTests() {
+        final int shapes = Shape.values().length;
+        final PairTest[][] tests = new PairTest[shapes][shapes];
+        for (final PairTest[] row : tests) {
+            Arrays.fill(row, NEVER);
+        }
+        put(tests, Shape.CIRCLE, Shape.CIRCLE, ColliderImpl::circleCircleCompare);
+        put(tests, Shape.CIRCLE, Shape.RECTANGLE, ColliderImpl::circleRectangleCompare);
+        put(tests, Shape.RECTANGLE, Shape.RECTANGLE, ColliderImpl::rectangleRectangleCompare);
+        put(tests, Shape.CIRCLE, Shape.TRIANGLE, ColliderImpl::circleTriangleCompare);
+        put(tests, Shape.RECTANGLE, Shape.TRIANGLE, ColliderImpl::rectangleTriangleCompare);
+        put(tests, Shape.TRIANGLE, Shape.TRIANGLE, ColliderImpl::triangleTriangleCompare);
+        return tests;
+    }
+
+    /**
+     * Puts a test in the table, also for the pair in the opposite order.
+     * 
+     * @param tests  the table.
+     * @param first  the shape of the first object of the test.
+     * @param second the shape of the second object of the test.
+     * @param test   the test.
+     */
+    private static void put(final PairTest[][] tests, final Shape first, final Shape second, final PairTest test) {
+        tests[first.ordinal()][second.ordinal()] = test;
+        if (first != second) {
+            tests[second.ordinal()][first.ordinal()] = (g, h) -> test.test(h, g);
         }
-        if (circleDistancey <= (rectHeight / 2)) {
+    }
+
+    /**
+     * Builds the table of the swept tests, where the pairs without a swept
+     * test are left null.
+     * 
+     * @return the swept tests indexed by the ordinals of the two shapes.
+     */
+    private static SweptTest[][] buildSweptTests() {
+        final int shapes = Shape.values().length;
+        final SweptTest[][] tests = new SweptTest[shapes][shapes];
+        putSwept(tests, Shape.RECTANGLE, Shape.RECTANGLE, (px, py, dx, dy, g, h) -> rayBox(px, py, dx, dy,
+                g.getHalfWidth() + h.getHalfWidth(), g.getHalfHeight() + h.getHalfHeight()));
+        putSwept(tests, Shape.CIRCLE, Shape.RECTANGLE, (px, py, dx, dy, g, h) -> rayRoundedBox(px, py, dx, dy,
+                h.getHalfWidth(), h.getHalfHeight(), g.getRadius()));
+        putSwept(tests, Shape.CIRCLE, Shape.CIRCLE, (px, py, dx, dy, g, h) -> rayCircle(px, py, dx, dy,
+                g.getRadius() + h.getRadius()));
+        putSwept(tests, Shape.RECTANGLE, Shape.TRIANGLE, ColliderImpl::sweptPolygons);
+        putSwept(tests, Shape.TRIANGLE, Shape.TRIANGLE, ColliderImpl::sweptPolygons);
+        return tests;
+    }
+
+    /**
+     * Puts a swept test in the table, also for the pair in the opposite order,
+     * that sees the motion from the other object.
+     * 
+     * @param tests  the table.
+     * @param first  the shape of the first object of the test.
+     * @param second the shape of the second object of the test.
+     * @param test   the swept test.
+     */
+    private static void putSwept(final SweptTest[][] tests, final Shape first, final Shape second,
+            final SweptTest test) {
+        tests[first.ordinal()][second.ordinal()] = test;
+        if (first != second) {
+            tests[second.ordinal()][first.ordinal()] = (px, py, dx, dy, g, h) -> test.timeOfImpact(-px, -py, -dx, -dy,
+                    h, g);
+        }
+    }
+
+    /**
+     * Checks if two circles are colliding, comparing the distance of the
+     * centers with the sum of the radii.
+     * 
+     * @param g the first circle.
+     * @param h the second circle.
+     * @return if the two circles are colliding.
+     */
+    private static boolean circleCircleCompare(final GameObject g, final GameObject h) {
+        final double radii = g.getHitBoxModel().getRadius() + h.getHitBoxModel().getRadius();
+        final double dx = g.getX() - h.getX();
+        final double dy = g.getY() - h.getY();
+        return dx * dx + dy * dy <= radii * radii;
+    }
+
+    /**
+     * Checks if a circle and a triangle are colliding: they are apart if the
+     * axis of a side, or the one from the nearest vertex to the center of the
+     * circle, separates them.
+     * 
+     * @param circle   the circle.
+     * @param triangle the triangle.
+     * @return if the circle and the triangle are colliding.
+     */
+    private static boolean circleTriangleCompare(final GameObject circle, final GameObject triangle) {
+        final TriangleHitBoxModel t = (TriangleHitBoxModel) triangle.getHitBoxModel();
+        final double radius = circle.getHitBoxModel().getRadius();
+        final double cx = circle.getX() - triangle.getX();
+        final double cy = circle.getY() - triangle.getY();
+        for (int i = 0; i < TriangleHitBoxModel.VERTICES; i++) {
+            final double nx = t.getNormalX(i);
+            final double ny = t.getNormalY(i);
+            final double center = cx * nx + cy * ny;
+            if (center - radius > triangleMax(t, nx, ny) || center + radius < triangleMin(t, nx, ny)) {
+                return false;
+            }
+        }
+        double nearest = Double.POSITIVE_INFINITY;
+        double ax = 0;
+        double ay = 0;
+        for (int i = 0; i < TriangleHitBoxModel.VERTICES; i++) {
+            final double dx = cx - t.getVertexX(i);
+            final double dy = cy - t.getVertexY(i);
+            if (dx * dx + dy * dy < nearest) {
+                nearest = dx * dx + dy * dy;
+                ax = dx;
+                ay = dy;
+            }
+        }
+        if (nearest == 0) {
             return true;
         }
+        final double length = Math.sqrt(nearest);
+        final double nx = ax / length;
+        final double ny = ay / length;
+        final double center = cx * nx + cy * ny;
+        return center - radius <= triangleMax(t, nx, ny) && center + radius >= triangleMin(t, nx, ny);
+    }
+
+    /**
+     * Checks if a rectangle and a triangle are colliding: they are apart if
+     * the axes or the axis of a side of the triangle separate them by more
+     * than a point, as for two rectangles.
+     * 
+     * @param rectangle the rectangle.
+     * @param triangle  the triangle.
+     * @return if the rectangle and the triangle are colliding.
+     */
+    private static boolean rectangleTriangleCompare(final GameObject rectangle, final GameObject triangle) {
+        final TriangleHitBoxModel t = (TriangleHitBoxModel) triangle.getHitBoxModel();
+        final HitBoxModel r = rectangle.getHitBoxModel();
+        final double cx = rectangle.getX() - triangle.getX();
+        final double cy = rectangle.getY() - triangle.getY();
+        if (cx - r.getHalfWidth() >= triangleMax(t, 1, 0) || cx + r.getHalfWidth() <= triangleMin(t, 1, 0)
+                || cy - r.getHalfHeight() >= triangleMax(t, 0, 1) || cy + r.getHalfHeight() <= triangleMin(t, 0, 1)) {
+            return false;
+        }
+        for (int i = 0; i < TriangleHitBoxModel.VERTICES; i++) {
+            final double nx = t.getNormalX(i);
+            final double ny = t.getNormalY(i);
+            final double center = cx * nx + cy * ny;
+            final double extent = r.getHalfWidth() * Math.abs(nx) + r.getHalfHeight() * Math.abs(ny);
+            if (center - extent >= triangleMax(t, nx, ny) || center + extent <= triangleMin(t, nx, ny)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if two triangles are colliding: they are apart if the axis of a
+     * side of one of them separates them by more than a point.
+     * 
+     * @param g the first triangle.
+     * @param h the second triangle.
+     * @return if the two triangles are colliding.
+     */
+    private static boolean triangleTriangleCompare(final GameObject g, final GameObject h) {
+        return !separatedBySides(g, h) && !separatedBySides(h, g);
+    }
+
+    /**
+     * Checks if the axis of a side of the first triangle separates it from the
+     * second one.
+     * 
+     * @param g the triangle whose sides give the axes.
+     * @param h the other triangle.
+     * @return if the triangles are apart.
+     */
+    private static boolean separatedBySides(final GameObject g, final GameObject h) {
+        final TriangleHitBoxModel gt = (TriangleHitBoxModel) g.getHitBoxModel();
+        final TriangleHitBoxModel ht = (TriangleHitBoxModel) h.getHitBoxModel();
+        final double cx = h.getX() - g.getX();
+        final double cy = h.getY() - g.getY();
+        for (int i = 0; i < TriangleHitBoxModel.VERTICES; i++) {
+            final double nx = gt.getNormalX(i);
+            final double ny = gt.getNormalY(i);
+            final double offset = cx * nx + cy * ny;
+            if (offset + triangleMin(ht, nx, ny) >= triangleMax(gt, nx, ny)
+                    || offset + triangleMax(ht, nx, ny) <= triangleMin(gt, nx, ny)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Projects a triangle on an axis.
+     * 
+     * @param t  the triangle.
+     * @param nx the x of the axis.
+     * @param ny the y of the axis.
+     * @return the lowest projection of a vertex, relative to the centroid.
+     */
+    private static double triangleMin(final TriangleHitBoxModel t, final double nx, final double ny) {
+        return Math.min(t.getVertexX(0) * nx + t.getVertexY(0) * ny,
+                Math.min(t.getVertexX(1) * nx + t.getVertexY(1) * ny, t.getVertexX(2) * nx + t.getVertexY(2) * ny));
+    }
+
+    /**
+     * Projects a triangle on an axis.
+     * 
+     * @param t  the triangle.
+     * @param nx the x of the axis.
+     * @param ny the y of the axis.
+     * @return the highest projection of a vertex, relative to the centroid.
+     */
+    private static double triangleMax(final TriangleHitBoxModel t, final double nx, final double ny) {
+        return Math.max(t.getVertexX(0) * nx + t.getVertexY(0) * ny,
+                Math.max(t.getVertexX(1) * nx + t.getVertexY(1) * ny, t.getVertexX(2) * nx + t.getVertexY(2) * ny));
+    }
 
-        final double cornerDistanceSq = Math.pow(circleDistancex - rectWidth / 2, 2)
-                + Math.pow(circleDistancey - rectHeight / 2, 2);
+    /**
+     * Checks if two rectangles are colliding, that is if their boxes overlap
+     * by more than a side.
+     * 
+     * @param g the first rectangle.
+     * @param h the second rectangle.
+     * @return if the two rectangles are colliding.
+     */
+    private static boolean rectangleRectangleCompare(final GameObject h, final GameObject g) {
+        return h.getMinX() < g.getMaxX() & h.getMaxX() > g.getMinX()
+                & h.getMinY() < g.getMaxY() & h.getMaxY() > g.getMinY();
+    }
 
-        return cornerDistanceSq <= Math.pow(circleRad, 2);
+    /**
+     * Checks if a circle and a rectangle are colliding, comparing the radius
+     * with the distance of the center of the circle from the rectangle.
+     * 
+     * @param circle    the circle.
+     * @param rectangle the rectangle.
+     * @return if the circle and the rectangle are collidign.
+     */
+    private static boolean circleRectangleCompare(final GameObject circle, final GameObject rectangle) {
+        final HitBoxModel rect = rectangle.getHitBoxModel();
+        final double radius = circle.getHitBoxModel().getRadius();
+        final double dx = Math.max(Math.abs(circle.getX() - rectangle.getX()) - rect.getHalfWidth(), 0);
+        final double dy = Math.max(Math.abs(circle.getY() - rectangle.getY()) - rect.getHalfHeight(), 0);
+        return dx * dx + dy * dy <= radius * radius;
     }
 
 }
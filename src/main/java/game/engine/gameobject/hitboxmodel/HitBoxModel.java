@@ -1,16 +1,37 @@
 package game.engine.gameobject.hitboxmodel;
 
-import java.util.List;
-
 /**
  * Interface to model an hitboxmodel, the component that dictates the boudary
- * for the collisions of the object.
+ * for the collisions of the object. The hitbox is centered in the coordinates
+ * of the object.
  */
 public interface HitBoxModel {
     /**
-     * To get the sizes of the object's hitbox.
+     * Getter for the shape of the hitbox.
+     * 
+     * @return the shape.
+     */
+    Shape getShape();
+
+    /**
+     * Getter for half the width of the box that contains the hitbox.
+     * 
+     * @return the horizontal half-extent.
+     */
+    double getHalfWidth();
+
+    /**
+     * Getter for half the height of the box that contains the hitbox.
+     * 
+     * @return the vertical half-extent.
+     */
+    double getHalfHeight();
+
+    /**
+     * Getter for the radius of the hitbox, that for a shape other than a
+     * circle is the one of the smallest circle containing it.
      * 
-     * @return the list of sizes of the hitbox.
+     * @return the radius.
      */
-    List<Double> getSizes();
+    double getRadius();
 }
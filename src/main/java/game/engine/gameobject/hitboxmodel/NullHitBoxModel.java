@@ -1,17 +1,39 @@
 package game.engine.gameobject.hitboxmodel;
 
-import java.util.List;
-
 /**
  * Class to model a null HitBox.
  */
 public class NullHitBoxModel implements HitBoxModel {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Shape getShape() {
+        return Shape.NONE;
+    }
+
+    /**
+     * @return nothing.
+     */
+    @Override
+    public double getHalfWidth() {
+        return 0;
+    }
+
+    /**
+     * @return nothing.
+     */
+    @Override
+    public double getHalfHeight() {
+        return 0;
+    }
+
     /**
      * @return nothing.
      */
     @Override
-    public List<Double> getSizes() {
-        return List.of(0d);
+    public double getRadius() {
+        return 0;
     }
 
 }
@@ -1,14 +1,12 @@
 package game.engine.gameobject.hitboxmodel;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Class to model a rectangle hitbox.
  */
 public class RectangleHitBoxModel implements HitBoxModel {
 
-    private final List<Double> sizes;
+    private double halfWidth;
+    private double halfHeight;
 
     /**
      * Constructor for the hitbox.
@@ -17,15 +15,51 @@ public class RectangleHitBoxModel implements HitBoxModel {
      * @param side2 the height of the rectangle.
      */
     public RectangleHitBoxModel(final double side1, final double side2) {
-        sizes = List.of(side1, side2);
+        setSize(side1, side2);
+    }
+
+    /**
+     * Method to resize the rectangle in place. The object that owns it has to
+     * set it again as its hitbox, to update its bounding box.
+     * 
+     * @param side1 the with of the rectangle.
+     * @param side2 the height of the rectangle.
+     */
+    public final void setSize(final double side1, final double side2) {
+        this.halfWidth = side1 / 2;
+        this.halfHeight = side2 / 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Shape getShape() {
+        return Shape.RECTANGLE;
+    }
+
+    /**
+     * @return half the width of the rectangle.
+     */
+    @Override
+    public double getHalfWidth() {
+        return halfWidth;
+    }
+
+    /**
+     * @return half the height of the rectangle.
+     */
+    @Override
+    public double getHalfHeight() {
+        return halfHeight;
     }
 
     /**
-     * @return the sizes of the rectangle.
+     * @return half the diagonal of the rectangle.
      */
     @Override
-    public List<Double> getSizes() {
-        return new ArrayList<>(sizes);
+    public double getRadius() {
+        return Math.hypot(halfWidth, halfHeight);
     }
 
 }
@@ -0,0 +1,24 @@
+package game.engine.gameobject.hitboxmodel;
+
+/**
+ * The shapes of the hitboxes, used by the {@link Collider} to pick the test
+ * for a pair of objects.
+ */
+public enum Shape {
+    /**
+     * A hitbox that never collides.
+     */
+    NONE,
+    /**
+     * A circle, whose size is the radius.
+     */
+    CIRCLE,
+    /**
+     * An axis-aligned rectangle, whose size is the pair of half-extents.
+     */
+    RECTANGLE,
+    /**
+     * A triangle, whose size is the set of its vertices.
+     */
+    TRIANGLE
+}
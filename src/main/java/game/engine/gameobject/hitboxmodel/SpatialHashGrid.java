@@ -0,0 +1,153 @@
+package game.engine.gameobject.hitboxmodel;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import game.engine.gameobject.ObjectStore;
+
+/**
+ * Broadphase that divides the plane in square cells and hashes each cell in a
+ * bucket. Every object is listed in the buckets of the cells its bounding box
+ * covers, so a query visits only the objects near its box: the cost of the
+ * queries doesn't grow with the objects far away.
+ *
+ * The buckets are rebuilt at each {@link #update(ObjectStore)} with a counting
+ * sort in flat arrays, that don't allocate once they are large enough. Only a
+ * few buckets per object are used, so a rebuild costs as much as the objects
+ * and not as the whole table. The cells should be about as large as the
+ * objects: smaller ones list an object many times, larger ones put many
+ * objects in the same cell.
+ */
+public class SpatialHashGrid implements Broadphase {
+    /**
+     * Number of columns of cells over the 16:9 field.
+     */
+    public static final int COLUMNS = 16;
+    /**
+     * Number of rows of cells over the 16:9 field.
+     */
+    public static final int ROWS = 9;
+    private static final int DEFAULT_BUCKETS = 256;
+    private static final int BUCKETS_PER_OBJECT = 4;
+    private static final int DEFAULT_ENTRIES = 64;
+    private static final int PRIME_X = 73_856_093;
+    private static final int PRIME_Y = 19_349_663;
+    private final double inverseCellSize;
+    private int mask;
+    /* the entries of bucket b are entries[start[b]] ... entries[start[b + 1] - 1] */
+    private final int[] start;
+    private final int[] cursor;
+    private int[] entries = new int[DEFAULT_ENTRIES];
+    private ObjectStore store = new ObjectStore(1);
+    private int candidates;
+
+    /**
+     * Constructor for a grid of {@value #COLUMNS}x{@value #ROWS} cells over the
+     * field of a minigame.
+     *
+     * @param fieldHeight the height of the field.
+     */
+    public SpatialHashGrid(final int fieldHeight) {
+        this(fieldHeight / (double) ROWS, DEFAULT_BUCKETS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param cellSize the side of the cells.
+     * @param buckets  the maximum number of buckets, a power of two.
+     */
+    public SpatialHashGrid(final double cellSize, final int buckets) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("The cells must have a positive size");
+        }
+        if (buckets <= 0 || Integer.bitCount(buckets) != 1) {
+            throw new IllegalArgumentException("The number of buckets must be a power of two");
+        }
+        this.inverseCellSize = 1 / cellSize;
+        this.mask = buckets - 1;
+        this.start = new int[buckets + 1];
+        this.cursor = new int[buckets];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final ObjectStore store) {
+        this.store = store;
+        final int buckets = Math.min(cursor.length,
+                Integer.highestOneBit(Math.max(store.size() * BUCKETS_PER_OBJECT, 1)));
+        mask = buckets - 1;
+        Arrays.fill(start, 0, buckets + 1, 0);
+        int total = 0;
+        for (int i = 0; i < store.size(); i++) {
+            final int x1 = cell(store.getSweptMaxX(i));
+            final int y1 = cell(store.getSweptMaxY(i));
+            for (int cy = cell(store.getSweptMinY(i)); cy <= y1; cy++) {
+                for (int cx = cell(store.getSweptMinX(i)); cx <= x1; cx++) {
+                    start[bucket(cx, cy) + 1]++;
+                    total++;
+                }
+            }
+        }
+        for (int b = 0; b < buckets; b++) {
+            start[b + 1] += start[b];
+        }
+        if (entries.length < total) {
+            entries = new int[Math.max(total, entries.length * 2)];
+        }
+        System.arraycopy(start, 0, cursor, 0, buckets);
+        for (int i = 0; i < store.size(); i++) {
+            final int x1 = cell(store.getSweptMaxX(i));
+            final int y1 = cell(store.getSweptMaxY(i));
+            for (int cy = cell(store.getSweptMinY(i)); cy <= y1; cy++) {
+                for (int cx = cell(store.getSweptMinX(i)); cx <= x1; cx++) {
+                    entries[cursor[bucket(cx, cy)]++] = i;
+                }
+            }
+        }
+        candidates = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet query(final double minX, final double minY, final double maxX, final double maxY,
+            final BitSet result) {
+        result.clear();
+        final int x1 = cell(maxX);
+        final int y1 = cell(maxY);
+        for (int cy = cell(minY); cy <= y1; cy++) {
+            for (int cx = cell(minX); cx <= x1; cx++) {
+                final int b = bucket(cx, cy);
+                for (int k = start[b]; k < start[b + 1]; k++) {
+                    final int i = entries[k];
+                    if (store.getSweptMinX(i) <= maxX & store.getSweptMaxX(i) >= minX
+                            & store.getSweptMinY(i) <= maxY & store.getSweptMaxY(i) >= minY) {
+                        result.set(i);
+                    }
+                }
+            }
+        }
+        candidates += result.cardinality();
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCandidates() {
+        return candidates;
+    }
+
+    private int cell(final double coordinate) {
+        return (int) Math.floor(coordinate * inverseCellSize);
+    }
+
+    private int bucket(final int cx, final int cy) {
+        return (cx * PRIME_X ^ cy * PRIME_Y) & mask;
+    }
+}
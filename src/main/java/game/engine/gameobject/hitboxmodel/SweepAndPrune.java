@@ -0,0 +1,117 @@
+package game.engine.gameobject.hitboxmodel;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import game.engine.gameobject.ObjectStore;
+
+/**
+ * Broadphase that keeps the objects sorted by the left side of their boxes,
+ * so that a query only scans the objects whose x range can overlap its own.
+ *
+ * The order is kept between the updates and fixed with an insertion sort:
+ * since the objects move little from a tick to the next, and in the minigames
+ * mostly along x all together, it is almost sorted already and an update
+ * costs about as much as the objects.
+ */
+public class SweepAndPrune implements Broadphase {
+    private static final int DEFAULT_CAPACITY = 16;
+    private int[] order = new int[DEFAULT_CAPACITY];
+    private int size;
+    private ObjectStore store = new ObjectStore(1);
+    private double maxWidth;
+    private int candidates;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final ObjectStore store) {
+        if (store != this.store) {
+            this.store = store;
+            size = 0;
+        }
+        /*
+         * the slots are dense, the store moves its last object in the slot freed
+         * by a removal: the slots past the new size are dropped and the new ones
+         * appended, a slot that now holds a moved object is put back in place by
+         * the insertion sort below
+         */
+        final int n = store.size();
+        if (size > n) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (order[i] < n) {
+                    order[kept++] = order[i];
+                }
+            }
+            size = kept;
+        }
+        if (order.length < n) {
+            order = Arrays.copyOf(order, Math.max(n, order.length * 2));
+        }
+        while (size < n) {
+            order[size] = size;
+            size++;
+        }
+        maxWidth = 0;
+        for (int i = 0; i < size; i++) {
+            final int slot = order[i];
+            final double minX = store.getSweptMinX(slot);
+            int j = i - 1;
+            while (j >= 0 && store.getSweptMinX(order[j]) > minX) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = slot;
+            maxWidth = Math.max(maxWidth, store.getSweptMaxX(slot) - minX);
+        }
+        candidates = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet query(final double minX, final double minY, final double maxX, final double maxY,
+            final BitSet result) {
+        result.clear();
+        for (int i = firstFrom(minX - maxWidth); i < size && store.getSweptMinX(order[i]) <= maxX; i++) {
+            final int slot = order[i];
+            if (store.getSweptMaxX(slot) >= minX
+                    & store.getSweptMinY(slot) <= maxY & store.getSweptMaxY(slot) >= minY) {
+                result.set(slot);
+                candidates++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Binary search of the first object whose box starts at x or after it.
+     *
+     * @param x the x coordinate.
+     * @return the index in the order.
+     */
+    private int firstFrom(final double x) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (store.getSweptMinX(order[mid]) < x) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,120 @@
+package game.engine.gameobject.hitboxmodel;
+
+/**
+ * Class to model an equilateral triangle hitbox, centered in its centroid and
+ * rotated as the triangles drawn by the view.
+ */
+public class TriangleHitBoxModel implements HitBoxModel {
+    /**
+     * The number of vertices, and of sides, of the triangle.
+     */
+    public static final int VERTICES = 3;
+
+    private final double radius;
+    private final double[] vertexX = new double[VERTICES];
+    private final double[] vertexY = new double[VERTICES];
+    private final double[] normalX = new double[VERTICES];
+    private final double[] normalY = new double[VERTICES];
+    private double halfWidth;
+    private double halfHeight;
+
+    /**
+     * Constructor for the hitbox.
+     * 
+     * @param side  the side of the triangle.
+     * @param angle the angle of the first vertex from the x axis, in radians.
+     */
+    public TriangleHitBoxModel(final double side, final double angle) {
+        this.radius = side / Math.sqrt(VERTICES);
+        for (int i = 0; i < VERTICES; i++) {
+            final double a = angle + Math.PI * 2 * i / VERTICES;
+            vertexX[i] = radius * Math.cos(a);
+            vertexY[i] = radius * Math.sin(a);
+            halfWidth = Math.max(halfWidth, Math.abs(vertexX[i]));
+            halfHeight = Math.max(halfHeight, Math.abs(vertexY[i]));
+        }
+        /* the side i goes from the vertex i to the next one, its normal points outwards */
+        for (int i = 0; i < VERTICES; i++) {
+            final int next = (i + 1) % VERTICES;
+            final double nx = vertexY[next] - vertexY[i];
+            final double ny = vertexX[i] - vertexX[next];
+            final double length = Math.hypot(nx, ny);
+            normalX[i] = nx / length;
+            normalY[i] = ny / length;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Shape getShape() {
+        return Shape.TRIANGLE;
+    }
+
+    /**
+     * @return the largest horizontal distance of a vertex from the centroid.
+     */
+    @Override
+    public double getHalfWidth() {
+        return halfWidth;
+    }
+
+    /**
+     * @return the largest vertical distance of a vertex from the centroid.
+     */
+    @Override
+    public double getHalfHeight() {
+        return halfHeight;
+    }
+
+    /**
+     * @return the distance of the vertices from the centroid.
+     */
+    @Override
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * Getter for the x of a vertex, relative to the centroid.
+     * 
+     * @param i the index of the vertex.
+     * @return the x of the vertex.
+     */
+    public double getVertexX(final int i) {
+        return vertexX[i];
+    }
+
+    /**
+     * Getter for the y of a vertex, relative to the centroid.
+     * 
+     * @param i the index of the vertex.
+     * @return the y of the vertex.
+     */
+    public double getVertexY(final int i) {
+        return vertexY[i];
+    }
+
+    /**
+     * Getter for the x of the unit normal of a side, the one from the vertex i
+     * to the next.
+     * 
+     * @param i the index of the side.
+     * @return the x of the normal.
+     */
+    public double getNormalX(final int i) {
+        return normalX[i];
+    }
+
+    /**
+     * Getter for the y of the unit normal of a side, the one from the vertex i
+     * to the next.
+     * 
+     * @param i the index of the side.
+     * @return the y of the normal.
+     */
+    public double getNormalY(final int i) {
+        return normalY[i];
+    }
+}
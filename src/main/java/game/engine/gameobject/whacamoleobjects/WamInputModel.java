@@ -1,5 +1,6 @@
 package game.engine.gameobject.whacamoleobjects;
 
+import api.Vector2D;
 import game.controlling.Input;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.InputModel;
@@ -24,8 +25,9 @@ public class WamInputModel implements InputModel {
                 && (wamObj.getStatus().equals(Status.IN_MOTION)
                 ||  wamObj.getStatus().equals(Status.HALFWAY))) {
                 wamObj.setStatus(Status.HIT);
-                if (wamObj.getVel().getY() <= 0) {
-                    wamObj.setVel(wamObj.getLevel().getObjSpeed().invert());
+                if (wamObj.getVelY() <= 0) {
+                    final Vector2D speed = wamObj.getLevel().getObjSpeed();
+                    wamObj.setVel(-speed.getX(), -speed.getY());
                 }
             }
         }
@@ -2,6 +2,10 @@ package game.engine.gameobject.whacamoleobjects;
 
 import api.Point2D;
 import api.Vector2D;
+import game.engine.event.EventBus;
+import game.engine.event.EventType;
+import game.engine.event.GameEvent;
+import game.engine.event.NullEventBus;
 import game.engine.gameobject.AspectModel;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.InputModel;
@@ -23,11 +27,13 @@ public abstract class WamObject extends GameObject {
     public static final int DELTA_Y = 110; 
 
     private Status status;
-    private final Level level;
-    private final int holeNumber;
-    private final Point2D startCoor;
-    private final long appearanceTime;
+    private Level level;
+    private int holeNumber;
+    private Point2D startCoor;
+    private long appearanceTime;
     private long motionRestartTime;
+    private EventBus events = new NullEventBus();
+    private final GameEvent stateChanged = new GameEvent(EventType.STATE_CHANGED, this);
 
     /**
      * Basic initialization of the various fields.
@@ -56,6 +62,30 @@ public abstract class WamObject extends GameObject {
         motionRestartTime = 0L;
     }
 
+    /**
+     * Method to reuse the object for a new appearance, as if 
+     * it had just been created with the given parameters.
+     * 
+     * @param startCoor      the initial coordinates of the object
+     * @param appearanceTime the time it actually comes into play
+     * @param currentLevel   lv from which to take the difficulty parameters
+     * @param holeNumber     assigned hole number
+     */
+    public void respawn(final Point2D startCoor,
+                        final long appearanceTime,
+                        final Level currentLevel,
+                        final int holeNumber) {
+        this.setCoor(startCoor);
+        this.storePreviousCoor();
+        this.setVel(0, 0);
+        this.status = Status.WAITING;
+        this.level = currentLevel;
+        this.holeNumber = holeNumber;
+        this.appearanceTime = appearanceTime;
+        this.startCoor = startCoor;
+        motionRestartTime = 0L;
+    }
+
     /**
      * Method that checks whether or not the object caused the 
      * GameOver, with a different check routine depending on 
@@ -86,12 +116,26 @@ public abstract class WamObject extends GameObject {
 
     /**
      * Setter method for the current 
-     * logical state of the GameObject.
+     * logical state of the GameObject, 
+     * a change is emitted on its bus.
      * 
      * @param status the new status
      */
     public void setStatus(final Status status) {
-        this.status = status;
+        if (this.status != status) {
+            this.status = status;
+            this.events.publish(this.stateChanged);
+        }
+    }
+
+    /**
+     * Setter method for the bus where the 
+     * object emits the changes of its status.
+     * 
+     * @param events the bus of the minigame
+     */
+    public void setEventBus(final EventBus events) {
+        this.events = events;
     }
 
     /**
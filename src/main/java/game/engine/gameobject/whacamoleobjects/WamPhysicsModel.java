@@ -1,6 +1,5 @@
 package game.engine.gameobject.whacamoleobjects;
 
-import api.Vector2D;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.SimplePhysics;
 import game.engine.minigame.Minigame;
@@ -23,10 +22,10 @@ public class WamPhysicsModel extends SimplePhysics {
         if (obj instanceof WamObject && miniGame instanceof WhacAMole) {
             final WamObject wamObj = (WamObject) obj;
             final long currentTime = ((WhacAMole) miniGame).getCurrentTime();
-            if (wamObj.getCoor().getY() <= wamObj.getStartCoor().getY() - WamObject.DELTA_Y
+            if (wamObj.getY() <= wamObj.getStartCoor().getY() - WamObject.DELTA_Y
                     && !wamObj.getStatus().equals(Status.HALFWAY)) {
                 wamObj.setStatus(Status.HALFWAY);
-                wamObj.setVel(Vector2D.nullVector());
+                wamObj.setVel(0, 0);
                 wamObj.setMotionRestartTime(currentTime + wamObj.getLevel().getHalfwayTime());
             }
         }
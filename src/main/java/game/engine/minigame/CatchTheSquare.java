@@ -1,24 +1,41 @@
 package game.engine.minigame;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 
 import api.ColorRGB;
+import api.ObjectPool;
 import api.Point2D;
+import api.Vector2D;
 import game.engine.difficultystrats.IncrRateStrat;
+import game.engine.event.EventBus;
+import game.engine.event.EventBusImpl;
+import game.engine.event.EventType;
+import game.engine.event.GameOverLatch;
 import game.engine.gameobject.CircleAspect;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.InputModel;
-import game.engine.gameobject.RectangleAspect;
+import game.engine.gameobject.ObjectStore;
 import game.engine.gameobject.catchthesqareobjects.BoundaryDumpedPhysics;
 import game.engine.gameobject.catchthesqareobjects.CtsBomb;
 import game.engine.gameobject.catchthesqareobjects.Defuser;
 import game.engine.gameobject.catchthesqareobjects.DirectionalInput;
+import game.engine.gameobject.ecs.EntitySystem;
+import game.engine.gameobject.ecs.TimerSystem;
+import game.engine.gameobject.ecs.World;
+import game.engine.gameobject.ecs.WorldImpl;
+import game.engine.gameobject.hitboxmodel.Broadphase;
+import game.engine.gameobject.hitboxmodel.BroadphaseType;
 import game.engine.gameobject.hitboxmodel.Collider;
 import game.engine.gameobject.hitboxmodel.ColliderImpl;
+import game.engine.spawnstrats.GridSpawnPlacer;
+import game.engine.spawnstrats.SpawnPlacer;
 
 /**
  * Minigame where the player has to catch sqares before the time runs out.
@@ -32,15 +49,34 @@ public class CatchTheSquare implements Minigame {
     private static final double BOMB_SPAWN_DIFF = 1.05;
     private static final double DUMP_COEFFICIENT = 2;
     private static final double RATIO = 16 / 9d;
+    private static final int SPAWN_CELL = BOMB_SIDE / 2;
 
     private final int rightBound;
     private final int bottomBound;
     private long totalElapsed;
     private int totalBombsSpawned;
     private final Defuser defuser;
-    private final List<GameObject> gObjects;
+    private final List<GameObject> gObjects = new ArrayList<>();
+    private final List<GameObject> view = Collections.unmodifiableList(gObjects);
     private final Random r;
-    private final Function<Long, Long> spawnFreqStrat;
+    private final LongUnaryOperator spawnFreqStrat;
+    private final SpawnPlacer spawnPlacer;
+    /* moved by the spawn placer to the point of the next bomb */
+    private final GameObject spawnPoint = new GameObject(Point2D.origin(), Vector2D.nullVector());
+    /* the timers of the bombs, run by the entities of this world */
+    private final World world = new WorldImpl();
+    private final EventBus events = new EventBusImpl();
+    private final GameOverLatch gameOver = new GameOverLatch(events);
+    private final EntitySystem timers = new TimerSystem(world,
+            e -> events.publish(((CtsBomb) world.getObject(e)).getExpiredEvent()));
+    private final Collider collider = new ColliderImpl();
+    /* the bombs in play, indexed by the broadphase, and the ones waiting in the pool */
+    private final ObjectStore armed = new ObjectStore();
+    private final ObjectStore parked = new ObjectStore();
+    private Broadphase broadphase;
+    private final BitSet touched = new BitSet();
+    private final ObjectPool<CtsBomb> bombs = new ObjectPool<>(
+            () -> new CtsBomb(world, Point2D.origin(), BOMB_SIDE, ColorRGB.black()), parked::add);
 
     /**
      * Constructor for the minigame, it initializes its fields.
@@ -52,18 +88,38 @@ public class CatchTheSquare implements Minigame {
      * @param bottomBound       the height in points that the View will
      *                          display.
      */
-    public CatchTheSquare(final Function<Long, Long> spawnFreqStrat, final InputModel defuserInputModel,
+    public CatchTheSquare(final LongUnaryOperator spawnFreqStrat, final InputModel defuserInputModel,
             final int bottomBound) {
-        this.gObjects = new ArrayList<>();
+        this(spawnFreqStrat, defuserInputModel, bottomBound, new Random());
+    }
+
+    /**
+     * Constructor for the minigame with a specific random generator for the
+     * spawn points.
+     * 
+     * @param spawnFreqStrat    the function strategy to regulate the spawn
+     *                          frequency
+     *                          of the boms.
+     * @param defuserInputModel the InputModel to be used my the defuser.
+     * @param bottomBound       the height in points that the View will
+     *                          display.
+     * @param r                 the random generator to use.
+     */
+    public CatchTheSquare(final LongUnaryOperator spawnFreqStrat, final InputModel defuserInputModel,
+            final int bottomBound, final Random r) {
         this.bottomBound = bottomBound;
         this.rightBound = (int) (bottomBound * RATIO);
         this.totalElapsed = 0;
         this.totalBombsSpawned = 0;
-        this.r = new Random();
+        this.r = r;
         this.spawnFreqStrat = spawnFreqStrat;
+        this.spawnPlacer = new GridSpawnPlacer(BOMB_SIDE / 2, BOMB_SIDE / 2,
+                rightBound - BOMB_SIDE / 2, bottomBound - BOMB_SIDE / 2, BOMB_SIDE * 2, SPAWN_CELL);
         defuser = new Defuser(new Point2D(rightBound / 2d, bottomBound / 2d), DEFUSER_RADIUS, defuserInputModel,
                 new BoundaryDumpedPhysics(rightBound, bottomBound, DEFUSER_RADIUS, DUMP_COEFFICIENT));
         gObjects.add(defuser);
+        broadphase = BroadphaseType.GRID.create(bottomBound);
+        events.subscribe(EventType.TIMER_EXPIRED, gameOver);
     }
 
     /**
@@ -72,7 +128,17 @@ public class CatchTheSquare implements Minigame {
      * @param bottomBound the height in points that the View will display.
      */
     public CatchTheSquare(final int bottomBound) {
-        this(new IncrRateStrat(BOMB_SPAWN_DIFF, MAX_BOMB_RATE), new DirectionalInput(), bottomBound);
+        this(bottomBound, new Random());
+    }
+
+    /**
+     * Constructor with default values and a specific random generator.
+     * 
+     * @param bottomBound the height in points that the View will display.
+     * @param r           the random generator to use.
+     */
+    public CatchTheSquare(final int bottomBound, final Random r) {
+        this(new IncrRateStrat(BOMB_SPAWN_DIFF, MAX_BOMB_RATE), new DirectionalInput(), bottomBound, r);
     }
 
     /**
@@ -82,10 +148,15 @@ public class CatchTheSquare implements Minigame {
      */
     @Override
     public boolean isGameOver() {
-        return !gObjects.stream()
-                .filter(o -> o instanceof CtsBomb)
-                .map(obj -> (CtsBomb) obj)
-                .allMatch(b -> b.getTimer() >= 0);
+        return gameOver.isOver();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventBus getEvents() {
+        return events;
     }
 
     /**
@@ -96,52 +167,41 @@ public class CatchTheSquare implements Minigame {
     @Override
     public void compute(final long elapsed) {
         totalElapsed += elapsed;
-        final Optional<GameObject> collider = checkCollision(defuser);
-        if (collider.isPresent()) {
-            gObjects.remove(collider.get());
+        final int defused = checkCollision();
+        if (defused >= 0) {
+            final CtsBomb bomb = (CtsBomb) armed.get(defused);
+            events.publish(bomb.getDefusedEvent());
+            bomb.disarm();
+            armed.remove(bomb);
+            gObjects.remove(bomb);
+            bombs.release(bomb);
         }
-        if (totalBombsSpawned < spawnFreqStrat.apply(totalElapsed) && gObjects.size() < MAX_OBJECT) {
-            gObjects.add(new CtsBomb(randSpawnPoint(), BOMB_SIDE, ColorRGB.black())); // if changing bomb shape, also
-                                                                                      // change
-                                                                                      // checkCollision method
-            totalBombsSpawned++;
-        }
-        gObjects.forEach(b -> b.updatePhysics(elapsed, this));
-
-    }
-
-    private Optional<GameObject> checkCollision(final Defuser defuser) {
-        if (defuser.getAspectModel() instanceof CircleAspect) { // check if the bounding box is a circle
-            final List<GameObject> bombs = gObjects.stream()
-                    .filter(o -> o instanceof CtsBomb)
-                    .filter(b -> b.getAspectModel() instanceof RectangleAspect) // check if bounding box is a square
-                    .toList();
-            for (final GameObject bomb : bombs) {
-                final Collider c = new ColliderImpl();
-                if (c.isColliding(bomb, defuser)) {
-                    return Optional.of(bomb);
-                }
+        if (totalBombsSpawned < spawnFreqStrat.applyAsLong(totalElapsed) && gObjects.size() < MAX_OBJECT) {
+            /* with no space left the bomb is spawned at a later compute, when some is freed */
+            if (spawnPlacer.place(gObjects, r, spawnPoint)) {
+                final CtsBomb bomb = bombs.acquire(); // if changing bomb shape, also change checkCollision method
+                bomb.respawn(spawnPoint.getX(), spawnPoint.getY());
+                armed.add(bomb);
+                gObjects.add(bomb);
+                totalBombsSpawned++;
             }
         }
-        return Optional.empty();
+        defuser.updatePhysics(elapsed, this);
+        timers.update(elapsed);
     }
 
     /**
-     * A method to get a random spawn point that is at least {@value #BOMB_SIDE}*2
-     * distant from other objects.
+     * Method to find the bomb touched by the defuser.
      * 
-     * @return the new spawn point.
+     * @return the slot of the bomb in the armed store, or -1 if the defuser
+     *         isn't touching any.
      */
-    private Point2D randSpawnPoint() {
-        final Point2D p = new Point2D(r.nextInt(BOMB_SIDE / 2, rightBound - BOMB_SIDE / 2),
-                r.nextInt(BOMB_SIDE / 2, bottomBound - BOMB_SIDE / 2));
-        for (final GameObject gameObject : gObjects) {
-            if (p.distance(gameObject.getCoor()) < BOMB_SIDE * 2) {
-                return randSpawnPoint(); // Throws exeption if there's no space for new object, adjust sizes and spawn
-                                         // frequency
-            }
+    private int checkCollision() {
+        if (defuser.getAspectModel() instanceof CircleAspect) { // check if the bounding box is a circle
+            broadphase.update(armed);
+            return collider.collide(defuser, armed, broadphase, touched).nextSetBit(0);
         }
-        return p;
+        return -1;
     }
 
     /**
@@ -151,7 +211,32 @@ public class CatchTheSquare implements Minigame {
      */
     @Override
     public List<GameObject> getObjects() {
-        return new ArrayList<>(gObjects);
+        return view;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setBroadphase(final BroadphaseType type) {
+        broadphase = type.create(bottomBound);
+        broadphase.update(armed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Broadphase> getBroadphase() {
+        return Optional.of(broadphase);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, ObjectPool<?>> getPools() {
+        return Map.of("CtsBomb", bombs);
     }
 
     /**
@@ -1,22 +1,35 @@
 package game.engine.minigame;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.function.Consumer;
+import java.util.function.LongToIntFunction;
+import java.util.function.Predicate;
 
+import api.ObjectPool;
 import api.Point2D;
 import api.Vector2D;
 import game.engine.difficultystrats.StepRateStrat;
+import game.engine.event.EventBus;
+import game.engine.event.EventBusImpl;
+import game.engine.event.EventType;
+import game.engine.event.GameEvent;
+import game.engine.event.GameOverLatch;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.NullInput;
+import game.engine.gameobject.ObjectStore;
 import game.engine.gameobject.SimplePhysics;
 import game.engine.gameobject.dodgeatriangleobjects.DatTriangle;
 import game.engine.gameobject.dodgeatriangleobjects.Dodger;
 import game.engine.gameobject.dodgeatriangleobjects.DodgerInputModel;
 import game.engine.gameobject.dodgeatriangleobjects.SlotAspect;
+import game.engine.gameobject.hitboxmodel.Broadphase;
+import game.engine.gameobject.hitboxmodel.BroadphaseType;
 import game.engine.gameobject.hitboxmodel.Collider;
 import game.engine.gameobject.hitboxmodel.ColliderImpl;
 
@@ -35,20 +48,33 @@ public class DodgeATriangle implements Minigame {
     private static final int NUM_SLOTS = 5;
     private static final int NUM_STEPS = 8;
     private static final long MS_TO_ADD_ENEMY = 10_000L;
+    private static final int PLAYER_INDEX = 1;
+    private static final int FIRST_ENEMY_INDEX = 2;
 
     private final int width;
+    private final int height;
     private final int initialY;
     private final int sideLength;
     private final int spawnLeft;
     private final int spawnRight;
     private final Vector2D enemySpeed;
+    private final Vector2D enemySpeedBack;
     private final List<GameObject> l = new ArrayList<>();
-    private final GameObject slots;
+    private final List<GameObject> view = Collections.unmodifiableList(l);
+    private final ObjectStore enemies = new ObjectStore();
+    /* the triangles waiting in the pool are kept out of the enemies store */
+    private final ObjectStore parked = new ObjectStore();
+    private final ObjectPool<DatTriangle> triangles;
+    private final Predicate<GameObject> outOfField;
+    private final Consumer<GameObject> recycle;
     private final Collider c = new ColliderImpl();
-    private final Random rand = new Random();
+    private Broadphase broadphase;
+    private final BitSet hits = new BitSet();
+    private final Random rand;
     private long totalElapsed;
-    private final Function<Long, Integer> diff;
-    private boolean gameOver;
+    private final LongToIntFunction diff;
+    private final EventBus events = new EventBusImpl();
+    private final GameOverLatch gameOver = new GameOverLatch(events);
 
     /**
      * Constructor that initializes the
@@ -57,6 +83,18 @@ public class DodgeATriangle implements Minigame {
      * @param height the height of the game's world
      */
     public DodgeATriangle(final int height) {
+        this(height, new Random());
+    }
+
+    /**
+     * Constructor with a specific random generator
+     * for the enemies.
+     * 
+     * @param height the height of the game's world
+     * @param rand   the random generator to use
+     */
+    public DodgeATriangle(final int height, final Random rand) {
+        this.rand = rand;
         this.width = (int) (height * RATIO);
         final int initialX = (int) (width / 2);
         this.initialY = height / 2;
@@ -64,14 +102,23 @@ public class DodgeATriangle implements Minigame {
         this.spawnLeft = -sideLength;
         this.spawnRight = (int) (width + sideLength);
         this.enemySpeed = DEFAULT_SPEED.mul(height / (double) DEFAULT_HEIGHT);
+        this.enemySpeedBack = enemySpeed.invert();
+        this.triangles = new ObjectPool<>(
+                () -> new DatTriangle(Point2D.origin(), Vector2D.nullVector(), sideLength), parked::add);
+        this.outOfField = o -> o.getX() < spawnLeft || o.getX() > spawnRight;
+        this.recycle = o -> triangles.release((DatTriangle) o);
+        this.height = height;
+        this.broadphase = BroadphaseType.SWEEP_AND_PRUNE.create(height);
         this.diff = new StepRateStrat(NUM_STEPS, height / DEFAULT_HEIGHT * DIFFICULTY_OFFSET, MS_TO_ADD_ENEMY);
+        final GameObject slots = new GameObject(new Point2D(initialX, initialY), enemySpeed);
+        slots.setAspectModel(new SlotAspect(sideLength, new Point2D(initialX, initialY), NUM_SLOTS));
+        slots.setInputModel(new NullInput());
+        slots.setPhysicsModel(new SimplePhysics());
+        slots.setVel(Vector2D.nullVector());
+        this.l.add(slots);
         this.l.add(new Dodger(initialY, sideLength,
                 new DodgerInputModel(sideLength, initialY)));
-        this.slots = new GameObject(new Point2D(initialX, initialY), enemySpeed);
-        this.slots.setAspectModel(new SlotAspect(sideLength, new Point2D(initialX, initialY), NUM_SLOTS));
-        this.slots.setInputModel(new NullInput());
-        this.slots.setPhysicsModel(new SimplePhysics());
-        this.slots.setVel(Vector2D.nullVector());
+        events.subscribe(EventType.COLLISION, gameOver);
     }
 
     /**
@@ -86,13 +133,15 @@ public class DodgeATriangle implements Minigame {
      */
     @Override
     public boolean isGameOver() {
-        if (!gameOver) {
-            final GameObject pl = l.get(0);
-            gameOver = l.stream()
-                    .skip(1)
-                    .anyMatch(o -> c.isColliding(pl, o));
-        }
-        return gameOver;
+        return gameOver.isOver();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventBus getEvents() {
+        return events;
     }
 
     /**
@@ -101,20 +150,27 @@ public class DodgeATriangle implements Minigame {
     @Override
     public void compute(final long elapsed) {
         this.totalElapsed += elapsed;
-        if (l.size() == 1 || canSpawnNewEnemy()) {
-            final int enemyY = Optional.of(rand.nextInt(NUM_SLOTS))
-                    .map(y -> initialY + (y - 2) * sideLength)
-                    .get();
-            final int enemyX = Optional.of(rand.nextInt(2))
-                    .map(x -> x == 0 ? spawnLeft : spawnRight)
-                    .get();
-            l.add(new DatTriangle(new Point2D(enemyX, enemyY),
-                    enemyX < 0 ? enemySpeed : enemySpeed.invert(),
-                    sideLength));
+        if (l.size() == FIRST_ENEMY_INDEX || canSpawnNewEnemy()) {
+            final int enemyY = initialY + (rand.nextInt(NUM_SLOTS) - 2) * sideLength;
+            final int enemyX = rand.nextInt(2) == 0 ? spawnLeft : spawnRight;
+            final DatTriangle enemy = triangles.acquire();
+            enemy.respawn(enemyX, enemyY, enemyX < 0 ? enemySpeed : enemySpeedBack);
+            enemies.add(enemy);
+            l.add(enemy);
+        }
+        enemies.removeIf(l, outOfField, recycle);
+        for (int i = 0; i < FIRST_ENEMY_INDEX; i++) {
+            l.get(i).updatePhysics(elapsed, this);
+        }
+        /* the triangles only move straight, all together */
+        enemies.integrate(elapsed);
+        broadphase.update(enemies);
+        if (!gameOver.isOver()) {
+            final int hit = c.sweep(l.get(PLAYER_INDEX), enemies, broadphase, hits).nextSetBit(0);
+            if (hit >= 0) {
+                events.publish(new GameEvent(EventType.COLLISION, enemies.get(hit)));
+            }
         }
-        l.removeIf(o -> o.getCoor().getX() < spawnLeft
-                || o.getCoor().getX() > spawnRight);
-        l.forEach(e -> e.updatePhysics(elapsed, this));
     }
 
     /**
@@ -124,19 +180,44 @@ public class DodgeATriangle implements Minigame {
      * @return whether a new enemy can appear or not
      */
     private boolean canSpawnNewEnemy() {
-        return l.get(l.size() - 1).getVel().getX() < 0
-                && l.get(l.size() - 1).getCoor().getX() < diff.apply(totalElapsed)
-                || l.get(l.size() - 1).getVel().getX() > 0
-                        && l.get(l.size() - 1).getCoor().getX() > width - diff.apply(totalElapsed);
+        return l.get(l.size() - 1).getVelX() < 0
+                && l.get(l.size() - 1).getX() < diff.applyAsInt(totalElapsed)
+                || l.get(l.size() - 1).getVelX() > 0
+                        && l.get(l.size() - 1).getX() > width - diff.applyAsInt(totalElapsed);
     }
 
     /**
-     * The slots object is only used to add visual cells to the
-     * game, therefore it's not in the main gameobject list.
+     * The first object is the slots one, only used to add visual
+     * cells to the game, followed by the player and the enemies.
      */
     @Override
     public List<GameObject> getObjects() {
-        return Stream.concat(Stream.of(slots), l.stream()).toList();
+        return view;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setBroadphase(final BroadphaseType type) {
+        broadphase = type.create(height);
+        broadphase.update(enemies);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Broadphase> getBroadphase() {
+        return Optional.of(broadphase);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, ObjectPool<?>> getPools() {
+        return Map.of("DatTriangle", triangles);
     }
 
     /**
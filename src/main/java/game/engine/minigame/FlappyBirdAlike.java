@@ -1,20 +1,32 @@
 package game.engine.minigame;
 
 import java.util.List;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
-import java.util.function.Function;
+import java.util.function.Consumer;
+import java.util.function.LongToIntFunction;
+import java.util.function.Predicate;
 import java.util.ArrayList;
+import java.util.Collections;
 
 import game.engine.difficultystrats.StepRateStrat;
+import game.engine.event.EventBus;
+import game.engine.event.EventBusImpl;
+import game.engine.event.EventType;
+import game.engine.event.GameEvent;
+import game.engine.event.GameOverLatch;
 import game.engine.gameobject.GameObject;
-import game.engine.gameobject.NullInput;
-import game.engine.gameobject.RectangleAspect;
-import game.engine.gameobject.SimplePhysics;
+import game.engine.gameobject.ObjectStore;
 import game.engine.gameobject.flappybirdalikeobjects.Cursor;
 import game.engine.gameobject.flappybirdalikeobjects.FlappyInput;
+import game.engine.gameobject.flappybirdalikeobjects.Obstacle;
+import game.engine.gameobject.hitboxmodel.Broadphase;
+import game.engine.gameobject.hitboxmodel.BroadphaseType;
+import game.engine.gameobject.hitboxmodel.Collider;
 import game.engine.gameobject.hitboxmodel.ColliderImpl;
-import game.engine.gameobject.hitboxmodel.RectangleHitBoxModel;
-import api.ColorRGB;
+import api.ObjectPool;
 import api.Point2D;
 import api.Vector2D;
 
@@ -36,11 +48,22 @@ public class FlappyBirdAlike implements Minigame {
     private final int enemyWidth;
     private final int enemySpawn;
     private final List<GameObject> l = new ArrayList<>();
-    private final Random rand = new Random();
-    private final Function<Long, Integer> freqStrat;
+    private final List<GameObject> view = Collections.unmodifiableList(l);
+    private final ObjectStore obstacles = new ObjectStore();
+    /* the obstacles waiting in the pool are kept out of the obstacles store */
+    private final ObjectStore parked = new ObjectStore();
+    private final ObjectPool<Obstacle> pool;
+    private final Predicate<GameObject> outOfField;
+    private final Consumer<GameObject> recycle;
+    private final Collider collider = new ColliderImpl();
+    private final BitSet hits = new BitSet();
+    private Broadphase broadphase;
+    private final Random rand;
+    private final LongToIntFunction freqStrat;
     private long totalElapsed;
     private int enemyHeight;
-    private boolean gameOver;
+    private final EventBus events = new EventBusImpl();
+    private final GameOverLatch gameOver = new GameOverLatch(events);
 
     /**
     * Contructs an instance of the flappy bird minigame.
@@ -48,19 +71,36 @@ public class FlappyBirdAlike implements Minigame {
     * @param height the height of the game's world
     */
     public FlappyBirdAlike(final int height) {
+        this(height, new Random());
+    }
+
+    /**
+    * Contructs an instance of the flappy bird minigame
+    * with a specific random generator for the obstacles.
+    * 
+    * @param height the height of the game's world
+    * @param rand   the random generator to use
+    */
+    public FlappyBirdAlike(final int height, final Random rand) {
         this.height = height;
+        this.rand = rand;
         this.enemySpeed = (int) (-height * RATIO / 32);
         final double cursorSize = height * RATIO / 8;
         this.heightOffset = (int) (height * RATIO / 16);
         this.enemyWidth = heightOffset;
         this.maxHeight = height - (int) cursorSize - 2 * heightOffset;
         this.enemySpawn = (int) (height * RATIO) + enemyWidth;
+        this.pool = new ObjectPool<>(() -> new Obstacle(enemyWidth, new Vector2D(enemySpeed, 0)), parked::add);
+        this.outOfField = e -> e.getX() < -enemyWidth;
+        this.recycle = e -> pool.release((Obstacle) e);
+        this.broadphase = BroadphaseType.SWEEP_AND_PRUNE.create(height);
         this.freqStrat = new StepRateStrat(NUM_STEPS, height / DEFAULT_HEIGHT * DIFFICULTY_OFFSET, INC_DIFF_TIME_WINDOW);
         this.l.add(new Cursor(new Point2D(cursorSize / 2 + height * RATIO / 32, height - cursorSize / 2),
                 Vector2D.nullVector(),
                 cursorSize,
                 -enemySpeed,
                 new FlappyInput(height)));
+        events.subscribe(EventType.COLLISION, gameOver);
     }
 
     /**
@@ -78,34 +118,47 @@ public class FlappyBirdAlike implements Minigame {
     */
     @Override
     public boolean isGameOver() {
-        if (!gameOver) {
-            gameOver = l.size() > 1
-                && new ColliderImpl().isColliding(l.get(0), l.get(1));
-        }
-        return gameOver;
+        return gameOver.isOver();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventBus getEvents() {
+        return events;
     }
 
     /**
-    * Computes the state of the objects in the minigame.
+    * Computes the state of the objects in the minigame. The cursor and the
+    * obstacles are swept along the step, so that a long frame doesn't let the
+    * cursor pass through a thin obstacle.
     *
     * @param elapsed the time passed since last compute.
     */
     @Override
     public void compute(final long elapsed) {
         totalElapsed += elapsed;
-        if (l.size() == 1 || l.get(l.size() - 1).getCoor().getX() < freqStrat.apply(totalElapsed)) {
+        if (l.size() == 1 || l.get(l.size() - 1).getX() < freqStrat.applyAsInt(totalElapsed)) {
             enemyHeight = rand.nextInt(maxHeight) + heightOffset;
             final double y = rand.nextInt(2) == 1 ? enemyHeight / 2.0 : height - enemyHeight / 2.0;
-            l.add(new GameObject(new Point2D(enemySpawn, y),
-                    new Vector2D(enemySpeed, 0),
-                    0, new NullInput(),
-                    new SimplePhysics(),
-                    new RectangleAspect(enemyWidth, enemyHeight, ColorRGB.black(), false),
-                    new RectangleHitBoxModel(enemyWidth, enemyHeight)));
+            final Obstacle obstacle = pool.acquire();
+            obstacle.respawn(enemySpawn, y, enemyHeight);
+            obstacles.add(obstacle);
+            l.add(obstacle);
         }
 
-        l.removeIf(e -> e.getCoor().getX() < -enemyWidth);
-        l.forEach(e -> e.updatePhysics(elapsed, this));
+        obstacles.removeIf(l, outOfField, recycle);
+        l.get(0).updatePhysics(elapsed, this);
+        /* the obstacles only move straight, all together */
+        obstacles.integrate(elapsed);
+        broadphase.update(obstacles);
+        if (!gameOver.isOver()) {
+            final int hit = collider.sweep(l.get(0), obstacles, broadphase, hits).nextSetBit(0);
+            if (hit >= 0) {
+                events.publish(new GameEvent(EventType.COLLISION, obstacles.get(hit)));
+            }
+        }
     }
 
     /**
@@ -115,7 +168,32 @@ public class FlappyBirdAlike implements Minigame {
     */
     @Override
     public List<GameObject> getObjects() {
-        return new ArrayList<>(this.l);
+        return this.view;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setBroadphase(final BroadphaseType type) {
+        broadphase = type.create(height);
+        broadphase.update(obstacles);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Broadphase> getBroadphase() {
+        return Optional.of(broadphase);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, ObjectPool<?>> getPools() {
+        return Map.of("Obstacle", pool);
     }
 
     /**
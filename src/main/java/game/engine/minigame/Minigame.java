@@ -1,13 +1,25 @@
 package game.engine.minigame;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import api.ObjectPool;
+
+import game.controlling.Input;
+import game.engine.event.EventBus;
 import game.engine.gameobject.GameObject;
+import game.engine.gameobject.hitboxmodel.Broadphase;
+import game.engine.gameobject.hitboxmodel.BroadphaseType;
 
 /**
  * General interface of a minigame.
  * 
- * !!EACH MINIGAME SHALL HAVE A CONSTRUCTOR WITH ONE INT ARGUMENT (the hight that will be displayed)!!
+ * The engine builds the minigames through the factories of its sequence, that
+ * take the height of the field that will be displayed and the random
+ * generator of the draws of the minigame: each minigame shall have a
+ * constructor with these two arguments, that can run on a background thread
+ * and depends on nothing else, so that the same seed gives the same game.
  */
 public interface Minigame {
 
@@ -18,6 +30,31 @@ public interface Minigame {
      */
     boolean isGameOver();
 
+    /**
+     * Getter for the bus where the minigame emits its events, once when they
+     * happen: an {@link game.engine.event.EventType#GAME_OVER} event is
+     * emitted when {@link #isGameOver()} becomes true.
+     * 
+     * @return the events of the minigame.
+     */
+    EventBus getEvents();
+
+    /**
+     * Shows the input of the player to the objects of the minigame, before
+     * {@link #compute(long)}. By default each object reads it, the minigames
+     * that know which objects an input can reach override it to visit only
+     * those.
+     * 
+     * @param input   the input of the player.
+     * @param elapsed milliseconds elapsed.
+     */
+    default void processInput(final Input input, final long elapsed) {
+        final List<GameObject> objects = getObjects();
+        for (int i = 0; i < objects.size(); i++) {
+            objects.get(i).updateinput(input, elapsed);
+        }
+    }
+
     /**
      * Computes the new minigame status.
      * 
@@ -25,6 +62,23 @@ public interface Minigame {
      */
     void compute(long elapsed);
 
+    /**
+     * Performs a step of the minigame: the coordinates of the objects are
+     * stored as the start of the step swept by the collisions, then the
+     * input is processed and the status computed.
+     * 
+     * @param input   the input of the player.
+     * @param elapsed milliseconds elapsed.
+     */
+    default void step(final Input input, final long elapsed) {
+        final List<GameObject> objects = getObjects();
+        for (int i = 0; i < objects.size(); i++) {
+            objects.get(i).storePreviousCoor();
+        }
+        processInput(input, elapsed);
+        compute(elapsed);
+    }
+
     /**
      * Method to get the list of game objects.
      * 
@@ -39,4 +93,33 @@ public interface Minigame {
      */
     String getTutorial();
 
+    /**
+     * Method to get the pools the minigame recycles its objects with, to
+     * monitor how well they are sized.
+     * 
+     * @return the pools by name of the pooled objects, empty if the minigame
+     *         doesn't recycle objects.
+     */
+    default Map<String, ObjectPool<?>> getPools() {
+        return Map.of();
+    }
+
+    /**
+     * Method to choose the broadphase of the collision checks, the minigames
+     * that don't index their objects ignore it.
+     * 
+     * @param type the type of the broadphase.
+     */
+    default void setBroadphase(final BroadphaseType type) {
+    }
+
+    /**
+     * Getter for the broadphase of the collision checks, to read how many
+     * pairs it finds at each tick.
+     * 
+     * @return the broadphase, empty if the minigame doesn't use one.
+     */
+    default Optional<Broadphase> getBroadphase() {
+        return Optional.empty();
+    }
 }
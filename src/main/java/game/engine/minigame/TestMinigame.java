@@ -1,11 +1,14 @@
 package game.engine.minigame;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import api.ColorRGB;
 import api.Point2D;
 import api.Vector2D;
+import game.engine.event.EventBus;
+import game.engine.event.EventBusImpl;
 import game.engine.gameobject.Circle;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.NullInput;
@@ -25,6 +28,7 @@ public class TestMinigame implements Minigame {
     // private static final int FLOOR_GAME_OVER = 2000;
     private static final double CIRCLE_RADIUS = 100;
     private final List<GameObject> l;
+    private final EventBus events = new EventBusImpl();
 
     /**
      * Constructor for the test minigame.
@@ -50,6 +54,16 @@ public class TestMinigame implements Minigame {
         // return l.get(0).getCoor().getY() > FLOOR_GAME_OVER;
     }
 
+    /**
+     * Getter for the events of the minigame, it never emits any.
+     * 
+     * @return the bus of the minigame.
+     */
+    @Override
+    public EventBus getEvents() {
+        return events;
+    }
+
     /**
      * A method to compute the new positions of the gameobjects after the elapsed
      * time.
@@ -68,7 +82,7 @@ public class TestMinigame implements Minigame {
      */
     @Override
     public List<GameObject> getObjects() {
-        return new ArrayList<>(l);
+        return Collections.unmodifiableList(l);
     }
 
     /**
@@ -1,6 +1,9 @@
 package game.engine.minigame.whacamoleminigame;
 
+import java.util.Map;
 import java.util.Set;
+
+import api.ObjectPool;
 import game.engine.gameobject.GameObject;
 
 /**
@@ -22,4 +25,23 @@ public interface DrawStrategy {
      * @return a Set containing the new GameObjects to add to the game
      */
     Set<GameObject> draw(Level currentLevel, long currentTime);
+
+    /**
+     * Method to give back an object drawn before, that is no 
+     * longer in the game, so that a later draw can reuse it.
+     * 
+     * @param gameObject the object to recycle
+     */
+    default void recycle(final GameObject gameObject) {
+    }
+
+    /**
+     * Getter method for the pools of the drawn objects, 
+     * if the strategy recycles them.
+     * 
+     * @return the pools, by the name of the objects they contain
+     */
+    default Map<String, ObjectPool<?>> getPools() {
+        return Map.of();
+    }
 }
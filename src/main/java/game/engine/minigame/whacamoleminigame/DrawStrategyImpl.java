@@ -1,13 +1,14 @@
 package game.engine.minigame.whacamoleminigame;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 
+import api.ObjectPool;
+import api.Point2D;
 import game.engine.gameobject.GameObject;
 import game.engine.gameobject.whacamoleobjects.WamBomb;
 import game.engine.gameobject.whacamoleobjects.WamBombAspectModel;
@@ -17,12 +18,20 @@ import game.engine.gameobject.whacamoleobjects.MoleAspectModel;
 import game.engine.gameobject.whacamoleobjects.WamPhysicsModel;
 
 /**
- * Class that implements a simple draw of GameObjects.
+ * Class that implements a simple draw of GameObjects. 
+ * The holes are assigned with a partial Fisher-Yates shuffle of 
+ * their numbers, so each assignment takes a single random number, 
+ * also when most of the holes are already taken.
  */
 public class DrawStrategyImpl implements DrawStrategy {
     private static final long SAFETY_TIME_MARGIN = 10L;
-    private static final Random RANDOM = new Random();
     private final List<GameObject> holes;
+    private final Random random;
+    private final ObjectPool<Mole> moles;
+    private final ObjectPool<WamBomb> bombs;
+    /* the numbers of the free holes are order[0] ... order[free - 1] */
+    private final int[] order;
+    private int free;
 
     /**
      * Constructor that takes the list of holes 
@@ -32,8 +41,28 @@ public class DrawStrategyImpl implements DrawStrategy {
      * @param holes the list of holes 
      */
     public DrawStrategyImpl(final List<GameObject> holes) {
+        this(holes, new Random());
+    }
+
+    /**
+     * Constructor that also takes the random generator 
+     * of the draws, to make them reproducible.
+     * 
+     * @param holes the list of holes 
+     * @param random the random generator to use
+     */
+    public DrawStrategyImpl(final List<GameObject> holes, final Random random) {
         this.holes = new ArrayList<>();
         holes.forEach(h -> this.holes.add(h));
+        this.random = random;
+        this.order = new int[this.holes.size()];
+        for (int i = 0; i < this.order.length; i++) {
+            this.order[i] = i + 1;
+        }
+        this.moles = new ObjectPool<>(() -> new Mole(Point2D.origin(), 0, new LevelNull(), 0,
+                new WamPhysicsModel(), new MoleAspectModel(), new WamInputModel()));
+        this.bombs = new ObjectPool<>(() -> new WamBomb(Point2D.origin(), 0, new LevelNull(), 0,
+                new WamPhysicsModel(), new WamBombAspectModel(), new WamInputModel()));
     }
 
     /**
@@ -41,64 +70,64 @@ public class DrawStrategyImpl implements DrawStrategy {
      */
     @Override
     public Set<GameObject> draw(final Level currentLevel, final long currentTime) {
-        final Set<GameObject> newGameObjs = new HashSet<>();
-        final int maxObjs = currentLevel.getMaxObjsSimultaneouslyOut();
-        final Map<Integer, Boolean> holesOccupied = new HashMap<>();
-        for (int i = 1; i <= holes.size(); i++) {
-            holesOccupied.put(i, false);
-        }
-        final int nMoles = RANDOM.nextInt(maxObjs + 1);
-        final int nBombs = RANDOM.nextInt(maxObjs - nMoles + 1); 
+        final Set<GameObject> newGameObjs = new LinkedHashSet<>(); // keeps the draw order
+        final int maxObjs = Math.min(currentLevel.getMaxObjsSimultaneouslyOut(), order.length);
+        free = order.length;
+        final int nMoles = random.nextInt(maxObjs + 1);
+        final int nBombs = random.nextInt(maxObjs - nMoles + 1); 
         /* To avoid assigning an appearance time so close that */
         /* the program is still executing the underlying loops */
         final long lowerBound = currentTime + SAFETY_TIME_MARGIN;
         for (int i = 0; i < nMoles; i++) {
-            final int holeAssigned = assignHole(holesOccupied);
-            final long appearanceTime = lowerBound + currentLevel.getSpawnWaitingTime().drawInBetween();
-            newGameObjs.add(
-                new Mole(holes.get(holeAssigned - 1).getCoor(),
-                        appearanceTime, 
-                        currentLevel, 
-                        holeAssigned, 
-                        new WamPhysicsModel(), 
-                        new MoleAspectModel(), 
-                        new WamInputModel())
-            );
+            final int holeAssigned = assignHole();
+            final long appearanceTime = lowerBound + currentLevel.getSpawnWaitingTime().drawInBetween(random);
+            final Mole mole = moles.acquire();
+            mole.respawn(holes.get(holeAssigned - 1).getCoor(), appearanceTime, currentLevel, holeAssigned);
+            newGameObjs.add(mole);
         }
         for (int i = 0; i < nBombs; i++) {
-            final int holeAssigned = assignHole(holesOccupied);
-            final long appearanceTime = lowerBound + currentLevel.getSpawnWaitingTime().drawInBetween();
-            newGameObjs.add(
-                new WamBomb(holes.get(holeAssigned - 1).getCoor(),
-                        appearanceTime,
-                        currentLevel, 
-                        holeAssigned,
-                        new WamPhysicsModel(),
-                        new WamBombAspectModel(), 
-                        new WamInputModel())
-            );
+            final int holeAssigned = assignHole();
+            final long appearanceTime = lowerBound + currentLevel.getSpawnWaitingTime().drawInBetween(random);
+            final WamBomb bomb = bombs.acquire();
+            bomb.respawn(holes.get(holeAssigned - 1).getCoor(), appearanceTime, currentLevel, holeAssigned);
+            newGameObjs.add(bomb);
         }
         return newGameObjs; 
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recycle(final GameObject gameObject) {
+        if (gameObject instanceof Mole) {
+            moles.release((Mole) gameObject);
+        } else if (gameObject instanceof WamBomb) {
+            bombs.release((WamBomb) gameObject);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, ObjectPool<?>> getPools() {
+        return Map.of("Mole", moles, "WamBomb", bombs);
+    }
+
     /**
      * Method that randomly assigns a Hole from 
-     * which to make the bomb or mole emerge.
+     * which to make the bomb or mole emerge, 
+     * among the ones still free in this draw.
      * 
-     * @param holesOccupied from the hole's number
-     * to 'true' if it has already been assigned
      * @return the integer representing the hole
      */
-    private Integer assignHole(final Map<Integer, Boolean> holesOccupied) {
-        final Boolean holeFound = false;
-        Integer holeAssigned = RANDOM.nextInt(holesOccupied.size()) + 1;
-        while (!holeFound) {
-            if (!holesOccupied.get(holeAssigned)) {
-                holesOccupied.replace(holeAssigned, true);
-                return holeAssigned;
-            } 
-            holeAssigned = RANDOM.nextInt(holesOccupied.size()) + 1;
-        }
+    private int assignHole() {
+        final int picked = random.nextInt(free);
+        final int holeAssigned = order[picked];
+        free--;
+        order[picked] = order[free];
+        order[free] = holeAssigned;
         return holeAssigned;
     }
 }
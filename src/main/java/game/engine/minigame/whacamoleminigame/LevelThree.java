@@ -10,6 +10,7 @@ import api.Vector2D;
 public class LevelThree implements Level {
     private static final int MAX_OBJS_OUT_AT_ONCE = 3;
     private static final double VECTOR_ORDINATE = -100;
+    private static final Vector2D OBJ_SPEED = new Vector2D(0, LevelThree.VECTOR_ORDINATE);
     private static final long MIN_WAIT_TO_SPAWN = 5_000L;
     private static final long MAX_WAIT_TO_SPAWN = 10_000L;
     private static final long STATIONARY_TIME = 2000L;
@@ -27,7 +28,7 @@ public class LevelThree implements Level {
      */
     @Override
     public Vector2D getObjSpeed() {
-        return new Vector2D(0, LevelThree.VECTOR_ORDINATE);
+        return LevelThree.OBJ_SPEED;
     }
 
     /**
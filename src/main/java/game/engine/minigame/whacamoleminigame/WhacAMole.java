@@ -1,15 +1,33 @@
 package game.engine.minigame.whacamoleminigame;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import api.DeadlineHeap;
+import api.ObjectPool;
 import api.Vector2D;
+import game.controlling.Input;
+import game.engine.event.EventBus;
+import game.engine.event.EventBusImpl;
+import game.engine.event.EventType;
+import game.engine.event.GameOverLatch;
 import game.engine.minigame.Minigame;
 import game.engine.gameobject.GameObject;
+import game.engine.gameobject.whacamoleobjects.HolePart;
 import game.engine.gameobject.whacamoleobjects.Status;
 import game.engine.gameobject.whacamoleobjects.WamObject;
 
 /**
  * Class that implements the Whac-a-mole minigame logic.
+ * Each hole has a slot with the mole or the bomb that comes out of it, 
+ * so a frame visits only the holes in use and the input reaches the 
+ * hit object with a single lookup, also on a large board. The transitions 
+ * that happen at a given time (the appearance and the restart of the 
+ * motion) are kept in a heap of the holes ordered by time, so only 
+ * the due ones are visited.
  */
 public class WhacAMole implements Minigame {
     /**
@@ -18,12 +36,24 @@ public class WhacAMole implements Minigame {
     public static final int NUM_HOLES = 9;
     private static final int DRAWS_TO_NEXT_LEVEL = 3;
 
-    private List<WamObject> objs;
+    private final int numHoles;
+    private final List<WamObject> holes;
+    private final WamObject[] slots;
+    /* the indexes of the slots in use are active[0] ... active[activeCount - 1] */
+    private final int[] active;
+    private int activeCount;
+    /* the parts of the holes around the moles and the bombs, in the order they are drawn */
+    private final List<GameObject> objs = new ArrayList<>();
+    private final List<GameObject> objsView = Collections.unmodifiableList(objs);
+    /* the holes by the time of the next transition of their object */
+    private final DeadlineHeap schedule = new DeadlineHeap();
     private final List<Level> levels; 
     private long currentTime;
     private final DrawStrategy draw;
     private Level currentLevel;
     private int numDraws;
+    private final EventBus events = new EventBusImpl();
+    private final GameOverLatch gameOver = new GameOverLatch(events);
 
     /**
      * General initialization of the fields. The start time 
@@ -34,88 +64,212 @@ public class WhacAMole implements Minigame {
      * @param fieldHeight the height of the playing field
      */
     public WhacAMole(final int fieldHeight) {
+        this(fieldHeight, new Random());
+    }
+
+    /**
+     * Initialization with a specific random generator, 
+     * used for the draws of the moles and the bombs. 
+     * 
+     * @param fieldHeight the height of the playing field
+     * @param random the random generator of the draws
+     */
+    public WhacAMole(final int fieldHeight, final Random random) {
+        this(fieldHeight, random, NUM_HOLES);
+    }
+
+    /**
+     * Initialization of a board with a specific number of holes, 
+     * placed in as many rows as columns. The keyboard only reaches 
+     * the holes from 1 to {@value #NUM_HOLES} and the engine always 
+     * builds the board of {@value #NUM_HOLES} holes, so a larger 
+     * board is only built directly, by the benchmarks and the tests.
+     * 
+     * @param fieldHeight the height of the playing field
+     * @param random the random generator of the draws
+     * @param numHoles the number of holes, a square
+     */
+    public WhacAMole(final int fieldHeight, final Random random, final int numHoles) {
+        final int side = (int) Math.round(Math.sqrt(numHoles));
+        if (numHoles <= 0 || side * side != numHoles) {
+            throw new IllegalArgumentException("The number of holes must be a positive square");
+        }
+        this.numHoles = numHoles;
+        this.slots = new WamObject[numHoles];
+        this.active = new int[numHoles];
         this.currentTime = 0L;
         this.levels = List.of(new LevelOne(), new LevelTwo(), new LevelThree());
         final HolesGeneratorStrategy holesGen = new SquareHolesGenerator(fieldHeight);
-        this.objs = new ArrayList<>(holesGen.generate(NUM_HOLES));
-        this.draw = new DrawStrategyImpl(new ArrayList<>(this.objs.subList(NUM_HOLES, this.objs.size())));
+        this.holes = List.copyOf(holesGen.generate(numHoles));
+        this.draw = new DrawStrategyImpl(new ArrayList<>(this.holes.subList(numHoles, this.holes.size())), random);
         this.currentLevel = this.levels.get(0);
         this.numDraws = 0;
+        this.holes.forEach(o -> o.setEventBus(this.events));
+        this.events.subscribe(EventType.STATE_CHANGED, e -> {
+            if (((WamObject) e.getSource()).isGameOver()) {
+                this.gameOver.accept(e);
+            }
+        });
+        this.rebuildObjects();
     }
 
     /**
      * Checks if one of the bombs in the game was hit by the user 
      * or if a mole managed to re-enter its hole without being 
-     * crushed (both sufficient conditions for the game to end).
+     * crushed (both sufficient conditions for the game to end), 
+     * as told by the status changes of the objects.
      * 
      * @return whether the game is over or not
      */
     @Override
     public boolean isGameOver() { 
-        return this.objs.stream()
-            .anyMatch(o -> o.isGameOver());
+        return this.gameOver.isOver();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventBus getEvents() {
+        return this.events;
+    }
+
+    /**
+     * The input can only hit the object in the hole of the number 
+     * pressed, so I show it to that object only.
+     * 
+     * @param input the input of the player
+     * @param elapsed time elapsed since the last frame
+     */
+    @Override
+    public void processInput(final Input input, final long elapsed) {
+        final int hole = input.getNumberPressed().orElse(0);
+        if (hole >= 1 && hole <= this.numHoles && this.slots[hole - 1] != null) {
+            this.slots[hole - 1].updateinput(input, elapsed);
+        }
     }
 
     /**
      * At this point each object that has been hit will have been notified 
      * by the InputModel, so now I need to update the logical state 
-     * of all the others and manage the physics of the moving objects.
-     * Finally I check if a new extraction is necessary.
+     * of all the others and manage the physics of the moving objects, 
+     * in a single pass over the holes. Then I check if a new extraction 
+     * is necessary and I perform the transitions that are due.
      * 
      * @param elapsed time elapsed since the last frame
      */
     @Override
     public void compute(final long elapsed) {
         this.currentTime += elapsed;
-        this.deleteOldObjs();
+        boolean changed = false;
+        int kept = 0;
+        for (int i = 0; i < this.activeCount; i++) {
+            final int h = this.active[i];
+            final WamObject o = this.slots[h];
+            if (!o.isStillInUse()) {
+                this.slots[h] = null;
+                this.draw.recycle(o);
+                changed = true;
+                continue;
+            }
+            this.active[kept++] = h;
+            if (o.getStatus() != Status.WAITING) {
+                final Status before = o.getStatus();
+                o.updatePhysics(elapsed, this);
+                if (o.getStatus() == Status.HALFWAY && before != Status.HALFWAY) {
+                    this.schedule.put(h, o.getMotionRestartTime());
+                }
+            }
+            if (o.getY() > o.getStartCoor().getY()) {
+                o.setVel(0, 0);
+                if (o.getStatus() != Status.HIT) {
+                    o.setStatus(Status.MISSED);
+                }
+            }
+        }
+        this.activeCount = kept;
         this.calculateLevel();
-        this.drawIfNecessary();
+        if (this.activeCount == 0) {
+            this.drawObjects();
+            changed = true;
+        }
+        this.runDueTransitions();
+        if (changed) {
+            this.rebuildObjects();
+        }
+    }
 
-        this.objs.stream()
-            .filter(o -> !o.getStatus().equals(Status.WAITING))
-            .forEach(o -> o.updatePhysics(elapsed, this));
+    /**
+     * Method that performs a draw, to be called 
+     * when there are no more moles or bombs out.
+     */
+    private void drawObjects() {
+        for (final GameObject o : this.draw.draw(this.currentLevel, this.currentTime)) {
+            final WamObject drawn = (WamObject) o;
+            drawn.setEventBus(this.events);
+            this.place(drawn);
+        }
+        this.numDraws = this.numDraws + 1;
+    }
+
+    /**
+     * Method that puts an object in the slot of its hole and 
+     * schedules its next timed transition, if it waits for one.
+     * 
+     * @param o the mole or the bomb
+     */
+    private void place(final WamObject o) {
+        final int h = o.getHoleNumber() - 1;
+        this.slots[h] = o;
+        this.active[this.activeCount++] = h;
+        if (o.getStatus() == Status.WAITING) {
+            this.schedule.put(h, o.getAppearanceTime());
+        } else if (o.getStatus() == Status.HALFWAY) {
+            this.schedule.put(h, o.getMotionRestartTime());
+        } else {
+            this.schedule.remove(h);
+        }
+    }
 
-        this.objs.stream()
-            .filter(o -> o.getStatus().equals(Status.WAITING))
-            .filter(o -> o.getAppearanceTime() <= this.currentTime)
-            .forEach(o -> {
+    /**
+     * Method that makes the objects whose appearance time has come 
+     * out of their hole, and the ones whose halfway stop is over go 
+     * back in. A hole has a transition at a time, the one of the last 
+     * object put in it, and it is dropped if the hole has been emptied 
+     * in the meantime.
+     */
+    private void runDueTransitions() {
+        while (this.schedule.peekDeadline() <= this.currentTime) {
+            final int h = this.schedule.peek();
+            this.schedule.remove(h);
+            final WamObject o = this.slots[h];
+            if (o == null) {
+                continue;
+            }
+            if (o.getStatus() == Status.WAITING) {
                 o.setStatus(Status.IN_MOTION);
                 o.setVel(o.getLevel().getObjSpeed());
-            });
-
-        this.objs.stream()
-            .filter(o -> o.getCoor().getY() > o.getStartCoor().getY())
-            .forEach(o -> {
-                o.setVel(Vector2D.nullVector());
-                if (!o.getStatus().equals(Status.HIT)) {
-                    o.setStatus(Status.MISSED);
-                }
-            });
-
-        this.objs.stream()
-            .filter(o -> o.getStatus().equals(Status.HALFWAY))
-            .filter(o -> o.getMotionRestartTime() <= this.currentTime)
-            .forEach(o -> {
+            } else if (o.getStatus() == Status.HALFWAY) {
                 o.setStatus(Status.IN_MOTION);
-                o.setVel(this.currentLevel.getObjSpeed().invert());
-            });
+                final Vector2D speed = this.currentLevel.getObjSpeed();
+                o.setVel(-speed.getX(), -speed.getY());
+            }
+        }
     }
 
     /**
-     * Method that checks whether it is time 
-     * to perform a draw, and if so, does it.
+     * Method that lists the objects again after a draw or a deletion. 
+     * Since the visualization of the layers when they overlap depends 
+     * on the print order, the moles and the bombs are put between 
+     * the two parts of the holes.
      */
-    private void drawIfNecessary() {
-        if (this.objs.size() == WhacAMole.NUM_HOLES * 2) {
-            this.draw.draw(this.currentLevel, this.currentTime).stream()
-                .forEach(
-                    /* Since the visualization of the layers when they   */
-                    /* overlap depends on the print order, I have to put */
-                    /* all the objects after the upper part of the holes */
-                    o -> this.objs.add(NUM_HOLES, (WamObject) o)
-                );
-            this.numDraws = this.numDraws + 1;
+    private void rebuildObjects() {
+        this.objs.clear();
+        this.objs.addAll(this.holes.subList(0, this.numHoles));
+        for (int i = 0; i < this.activeCount; i++) {
+            this.objs.add(this.slots[this.active[i]]);
         }
+        this.objs.addAll(this.holes.subList(this.numHoles, this.holes.size()));
     }
 
     /**
@@ -125,7 +279,7 @@ public class WhacAMole implements Minigame {
      */
     @Override
     public List<GameObject> getObjects() {
-        return new ArrayList<>(objs);
+        return this.objsView;
     }
 
     /**
@@ -143,14 +297,11 @@ public class WhacAMole implements Minigame {
     }
 
     /**
-     * Method to clean the lists from GameObjects no longer in use.
+     * {@inheritDoc}
      */
-    private void deleteOldObjs() {
-        this.objs.removeAll(
-            this.objs.stream()
-                .filter(o -> !o.isStillInUse())
-                .toList()
-        );
+    @Override
+    public Map<String, ObjectPool<?>> getPools() {
+        return this.draw.getPools();
     }
 
     /**
@@ -163,6 +314,15 @@ public class WhacAMole implements Minigame {
              + "the hole the mole came out of, but be careful not to hit the bombs!";
     }
 
+    /**
+     * Getter method for the number of holes of the board.
+     * 
+     * @return the number of holes
+     */
+    public int getNumHoles() {
+        return this.numHoles;
+    }
+
     /**
      * Getter method for the local time of this minigame.
      * 
@@ -175,11 +335,21 @@ public class WhacAMole implements Minigame {
     /**
      * Method that allows you to update the list of objects (It is 
      * used to test that the bombs work correctly, eliminating the 
-     * moles to ensure that they do not interfere with the test result).
+     * moles to ensure that they do not interfere with the test result). 
+     * The holes of the game are kept, the other objects take their slots.
      * 
      * @param objs the new object list
      */
     public void setObjects(final List<WamObject> objs) {
-        this.objs = new ArrayList<>(objs);
+        Arrays.fill(this.slots, null);
+        this.activeCount = 0;
+        this.schedule.clear();
+        for (final WamObject o : objs) {
+            if (!(o instanceof HolePart)) {
+                o.setEventBus(this.events);
+                this.place(o);
+            }
+        }
+        this.rebuildObjects();
     }
 }
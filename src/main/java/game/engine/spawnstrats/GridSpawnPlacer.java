@@ -0,0 +1,110 @@
+package game.engine.spawnstrats;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import game.engine.gameobject.GameObject;
+
+/**
+ * Spawn placer that divides the area of the field in cells and marks the ones
+ * too close to the occupants, then picks a point in a free cell at random.
+ * A cell is free only if all its points keep the distance, so the point is
+ * always valid and no retry is needed: the cost is the cells plus the few
+ * cells around each occupant, and a crowded field is told apart from an
+ * unlucky draw.
+ */
+public class GridSpawnPlacer implements SpawnPlacer {
+
+    private final double minX;
+    private final double minY;
+    private final int columns;
+    private final int rows;
+    private final double cellWidth;
+    private final double cellHeight;
+    /* the distance of the center of a cell from an occupant that keeps all the cell away from it */
+    private final double reach;
+    private final boolean[] blocked;
+
+    /**
+     * Constructor for the placer.
+     * 
+     * @param minX        the left side of the area of the spawn points
+     * @param minY        the top side of the area of the spawn points
+     * @param maxX        the right side of the area of the spawn points
+     * @param maxY        the bottom side of the area of the spawn points
+     * @param minDistance the minimum distance of a spawn point from the
+     *                    occupants
+     * @param cellSize    the side of the cells, smaller cells waste less space
+     *                    near the occupants but cost more
+     */
+    public GridSpawnPlacer(final double minX, final double minY, final double maxX, final double maxY,
+            final double minDistance, final double cellSize) {
+        if (maxX <= minX || maxY <= minY) {
+            throw new IllegalArgumentException("The area of the spawn points is empty");
+        }
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("The cells must have a positive size");
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.columns = Math.max(1, (int) Math.ceil((maxX - minX) / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil((maxY - minY) / cellSize));
+        this.cellWidth = (maxX - minX) / columns;
+        this.cellHeight = (maxY - minY) / rows;
+        this.reach = minDistance + Math.hypot(cellWidth, cellHeight) / 2;
+        this.blocked = new boolean[columns * rows];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean place(final List<? extends GameObject> occupants, final Random random, final GameObject target) {
+        Arrays.fill(blocked, false);
+        int free = blocked.length;
+        for (int i = 0; i < occupants.size(); i++) {
+            final GameObject o = occupants.get(i);
+            final int lastColumn = column(o.getX() + reach);
+            final int lastRow = row(o.getY() + reach);
+            for (int r = row(o.getY() - reach); r <= lastRow; r++) {
+                for (int c = column(o.getX() - reach); c <= lastColumn; c++) {
+                    final int cell = r * columns + c;
+                    if (!blocked[cell] && Math.hypot(centerX(c) - o.getX(), centerY(r) - o.getY()) < reach) {
+                        blocked[cell] = true;
+                        free--;
+                    }
+                }
+            }
+        }
+        if (free == 0) {
+            return false;
+        }
+        int k = random.nextInt(free);
+        int cell = 0;
+        while (blocked[cell] || k-- > 0) {
+            cell++;
+        }
+        final int c = cell % columns;
+        final int r = cell / columns;
+        target.setCoor(minX + (c + random.nextDouble()) * cellWidth,
+                minY + (r + random.nextDouble()) * cellHeight);
+        return true;
+    }
+
+    private int column(final double x) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor((x - minX) / cellWidth)));
+    }
+
+    private int row(final double y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor((y - minY) / cellHeight)));
+    }
+
+    private double centerX(final int c) {
+        return minX + (c * 2 + 1) * cellWidth / 2;
+    }
+
+    private double centerY(final int r) {
+        return minY + (r * 2 + 1) * cellHeight / 2;
+    }
+}
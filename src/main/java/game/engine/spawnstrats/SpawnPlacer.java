@@ -0,0 +1,24 @@
+package game.engine.spawnstrats;
+
+import java.util.List;
+import java.util.Random;
+
+import game.engine.gameobject.GameObject;
+
+/**
+ * Interface for the algorithms that find where to spawn a new object, far
+ * enough from the ones already in the field.
+ */
+public interface SpawnPlacer {
+
+    /**
+     * Method to move an object to a random free point of the field, in a time
+     * that doesn't depend on how crowded the field is.
+     * 
+     * @param occupants the objects the point has to keep the distance from
+     * @param random    the random generator of the minigame
+     * @param target    the object moved to the point
+     * @return whether the point was found, false if there is no space left
+     */
+    boolean place(List<? extends GameObject> occupants, Random random, GameObject target);
+}
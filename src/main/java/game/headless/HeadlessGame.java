@@ -0,0 +1,86 @@
+package game.headless;
+
+import game.engine.Engine;
+
+/**
+ * A single game played without a view: it advances the {@link Engine} with
+ * synthetic time, adding a minigame every
+ * {@value Engine#TIME_TO_NEXT_MINIGAME} points as the real game does.
+ */
+public class HeadlessGame {
+    private final Engine engine;
+    private final InputSource inputSource;
+    private long points;
+    private long lastAddedTime;
+    private long ticks;
+
+    /**
+     * Constructor, the first minigame is added immediately.
+     * 
+     * @param engine      the engine to drive, without minigames.
+     * @param inputSource the source of the input for each step.
+     */
+    public HeadlessGame(final Engine engine, final InputSource inputSource) {
+        if (engine.activeMinigames() != 0) {
+            throw new IllegalArgumentException("The engine must not have been started yet");
+        }
+        this.engine = engine;
+        this.inputSource = inputSource;
+        engine.addMinigame();
+    }
+
+    /**
+     * Performs a single step of the game.
+     * 
+     * @param elapsed the simulated time of the step in ms.
+     */
+    public void step(final long elapsed) {
+        if (isOver()) {
+            throw new IllegalStateException("The game is over");
+        }
+        if (points - lastAddedTime > Engine.TIME_TO_NEXT_MINIGAME
+                && engine.activeMinigames() < engine.getMinigameSequence().size()) {
+            engine.addMinigame();
+            lastAddedTime = points;
+        }
+        points += elapsed;
+        engine.step(elapsed, inputSource.poll(points));
+        ticks++;
+    }
+
+    /**
+     * Tells if the game is over.
+     * 
+     * @return true if a minigame has been lost.
+     */
+    public boolean isOver() {
+        return engine.isGameOver();
+    }
+
+    /**
+     * Getter for the points, that are the simulated ms survived.
+     * 
+     * @return the points.
+     */
+    public long getPoints() {
+        return points;
+    }
+
+    /**
+     * Getter for the number of steps performed.
+     * 
+     * @return the number of steps.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Getter for the engine.
+     * 
+     * @return the engine driven by this game.
+     */
+    public Engine getEngine() {
+        return engine;
+    }
+}
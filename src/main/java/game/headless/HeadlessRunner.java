@@ -0,0 +1,96 @@
+package game.headless;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+import game.engine.Engine;
+import game.engine.EngineImpl;
+import game.engine.ExecutionMode;
+
+/**
+ * Runs games back to back without a view, as fast as the CPU allows, and
+ * reports the throughput of the {@link Engine}.
+ */
+public class HeadlessRunner {
+    private static final int DEFAULT_GAMES = 1_000;
+    private static final long DEFAULT_STEP = 5;
+    private static final long DEFAULT_MAX_TIME = 600_000L;
+    private final long step;
+    private final long maxTime;
+    private final ExecutionMode mode;
+
+    /**
+     * Constructor.
+     * 
+     * @param step    the simulated time of each step in ms.
+     * @param maxTime the maximum simulated time of a game in ms, so that a bot
+     *                that never loses can't run forever.
+     * @param mode    how the engine updates the minigames.
+     */
+    public HeadlessRunner(final long step, final long maxTime, final ExecutionMode mode) {
+        if (step <= 0 || maxTime <= 0) {
+            throw new IllegalArgumentException("Step and maximum time must be positive");
+        }
+        this.step = step;
+        this.maxTime = maxTime;
+        this.mode = mode;
+    }
+
+    /**
+     * Plays some games one after the other.
+     * 
+     * @param games  the number of games to play.
+     * @param inputs the source of the input of each game, given its index,
+     *               that is also the seed of its engine so that the same
+     *               sources always give the same games.
+     * @return the report of the simulation.
+     */
+    public SimulationReport run(final int games, final LongFunction<InputSource> inputs) {
+        final Map<String, MinigameStats> minigames = new LinkedHashMap<>();
+        final Map<String, PoolStats> pools = new LinkedHashMap<>();
+        long ticks = 0;
+        long simulated = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            final Engine engine = new EngineImpl(Engine.FIELD_HEIGHT, mode, i);
+            final HeadlessGame game = new HeadlessGame(engine, inputs.apply(i));
+            final long[] addedAt = new long[engine.getMinigameSequence().size()];
+            int active = engine.activeMinigames();
+            while (!game.isOver() && game.getPoints() < maxTime) {
+                game.step(step);
+                for (; active < engine.activeMinigames(); active++) {
+                    addedAt[active] = game.getTicks() - 1;
+                }
+            }
+            final List<Long> times = engine.getComputeTimes();
+            final List<Long> pairs = engine.getCandidatePairs();
+            for (int m = 0; m < times.size(); m++) {
+                final String name = engine.getMinigameSequence().get(m).getSimpleName();
+                minigames.merge(name, new MinigameStats(times.get(m), game.getTicks() - addedAt[m], pairs.get(m)),
+                        MinigameStats::plus);
+            }
+            engine.getPools().forEach((name, pool) -> pools.merge(name, PoolStats.of(pool), PoolStats::plus));
+            ticks += game.getTicks();
+            simulated += game.getPoints();
+        }
+        return new SimulationReport(games, ticks, simulated, System.nanoTime() - start, minigames, pools);
+    }
+
+    /**
+     * Runs the simulation with random bots and prints the report.
+     * 
+     * @param args optionally the number of games, the step in ms and the seed of
+     *             the bots.
+     */
+    public static void main(final String[] args) {
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        final long step = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_STEP;
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        final ExecutionMode mode = Boolean.getBoolean("mtsk.serial") ? ExecutionMode.SERIAL : ExecutionMode.PARALLEL;
+        final SimulationReport report = new HeadlessRunner(step, DEFAULT_MAX_TIME, mode)
+                .run(games, i -> new RandomBotInput(seed + i));
+        System.out.print(report);
+    }
+}
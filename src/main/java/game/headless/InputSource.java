@@ -0,0 +1,19 @@
+package game.headless;
+
+import game.controlling.Input;
+
+/**
+ * Source of the {@link Input} that drives a game without a view, like a
+ * script or a bot.
+ */
+@FunctionalInterface
+public interface InputSource {
+
+    /**
+     * Method to get the input to use for the next step of the game.
+     * 
+     * @param time the simulated time elapsed since the start of the game in ms.
+     * @return the input to show the engine, it is read only until the next call.
+     */
+    Input poll(long time);
+}
@@ -0,0 +1,82 @@
+package game.headless;
+
+/**
+ * Counters of a minigame summed over the games of a simulation.
+ */
+public final class MinigameStats {
+    private final long computeNanos;
+    private final long ticks;
+    private final long candidatePairs;
+
+    /**
+     * Constructor.
+     *
+     * @param computeNanos   the time spent computing the minigame in ns.
+     * @param ticks          the number of steps the minigame was active for.
+     * @param candidatePairs the pairs its broadphase handed to the exact
+     *                       collision test.
+     */
+    public MinigameStats(final long computeNanos, final long ticks, final long candidatePairs) {
+        this.computeNanos = computeNanos;
+        this.ticks = ticks;
+        this.candidatePairs = candidatePairs;
+    }
+
+    /**
+     * Adds up the counters of two runs of the same minigame.
+     *
+     * @param other the counters of the other run.
+     * @return the counters of both runs.
+     */
+    public MinigameStats plus(final MinigameStats other) {
+        return new MinigameStats(computeNanos + other.computeNanos, ticks + other.ticks,
+                candidatePairs + other.candidatePairs);
+    }
+
+    /**
+     * Getter for the time spent computing the minigame.
+     *
+     * @return the total ns.
+     */
+    public long getComputeNanos() {
+        return computeNanos;
+    }
+
+    /**
+     * Getter for the number of steps the minigame was active for.
+     *
+     * @return the number of steps.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Getter for the pairs handed to the exact collision test.
+     *
+     * @return the number of candidate pairs, 0 if the minigame has no
+     *         broadphase.
+     */
+    public long getCandidatePairs() {
+        return candidatePairs;
+    }
+
+    /**
+     * Method to get the average cost of a step.
+     *
+     * @return the average ns per step, 0 if the minigame was never active.
+     */
+    public double getNanosPerTick() {
+        return ticks == 0 ? 0 : computeNanos / (double) ticks;
+    }
+
+    /**
+     * Method to get the average number of pairs tested at each step.
+     *
+     * @return the average candidate pairs per step, 0 if the minigame was
+     *         never active.
+     */
+    public double getPairsPerTick() {
+        return ticks == 0 ? 0 : candidatePairs / (double) ticks;
+    }
+}
@@ -0,0 +1,93 @@
+package game.headless;
+
+import api.ObjectPool;
+
+/**
+ * Counters of an {@link ObjectPool} summed over the games of a simulation.
+ */
+public final class PoolStats {
+    private static final double PERCENT = 100;
+    private final long hits;
+    private final long misses;
+    private final int highWaterMark;
+
+    /**
+     * Constructor.
+     *
+     * @param hits          the number of objects reused.
+     * @param misses        the number of objects created.
+     * @param highWaterMark the highest number of objects in use at once.
+     */
+    public PoolStats(final long hits, final long misses, final int highWaterMark) {
+        this.hits = hits;
+        this.misses = misses;
+        this.highWaterMark = highWaterMark;
+    }
+
+    /**
+     * Takes the counters of a pool.
+     *
+     * @param pool the pool.
+     * @return the counters of the pool.
+     */
+    public static PoolStats of(final ObjectPool<?> pool) {
+        return new PoolStats(pool.getHits(), pool.getMisses(), pool.getHighWaterMark());
+    }
+
+    /**
+     * Adds up the counters of two runs of the same pool: the hits and the
+     * misses are summed, the high-water mark is the highest of the two.
+     *
+     * @param other the counters of the other run.
+     * @return the counters of both runs.
+     */
+    public PoolStats plus(final PoolStats other) {
+        return new PoolStats(hits + other.hits, misses + other.misses, Math.max(highWaterMark, other.highWaterMark));
+    }
+
+    /**
+     * Getter for the number of objects reused.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Getter for the number of objects created.
+     *
+     * @return the number of misses.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Method to get the fraction of the requests served by a reused object.
+     *
+     * @return the hit rate, 0 if nothing was requested.
+     */
+    public double getHitRate() {
+        final long requests = hits + misses;
+        return requests == 0 ? 0 : hits / (double) requests;
+    }
+
+    /**
+     * Getter for the highest number of objects in use at once.
+     *
+     * @return the high-water mark.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("hit rate %5.1f%%, %d hits, %d misses, high-water mark %d",
+                getHitRate() * PERCENT, hits, misses, highWaterMark);
+    }
+}
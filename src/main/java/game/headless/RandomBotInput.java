@@ -0,0 +1,57 @@
+package game.headless;
+
+import java.util.Optional;
+import java.util.Random;
+
+import game.controlling.Input;
+import game.controlling.KeyboardInput;
+
+/**
+ * {@link InputSource} that presses random keys and keeps them pressed for a
+ * random time, like a player mashing the keyboard. The same seed always
+ * produces the same sequence of inputs.
+ */
+public class RandomBotInput implements InputSource {
+    private static final long MIN_HOLD = 50;
+    private static final long MAX_HOLD = 500;
+    private static final double PRESS_PROBABILITY = 0.3;
+    private static final double NUMBER_PROBABILITY = 0.2;
+    private static final int MAX_NUMBER = 9;
+    private final Random random;
+    private final Input input = new KeyboardInput();
+    private long nextChange;
+
+    /**
+     * Constructor.
+     * 
+     * @param seed the seed of the random keys.
+     */
+    public RandomBotInput(final long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Input poll(final long time) {
+        if (time >= nextChange) {
+            input.setMoveUp(press());
+            input.setMoveDown(press());
+            input.setMoveLeft(press());
+            input.setMoveRight(press());
+            input.setJump(press());
+            input.setForward(press());
+            input.setBackwards(press());
+            input.setNumberPressed(random.nextDouble() < NUMBER_PROBABILITY
+                    ? Optional.of(random.nextInt(MAX_NUMBER) + 1)
+                    : Optional.empty());
+            nextChange = time + MIN_HOLD + (long) (random.nextDouble() * (MAX_HOLD - MIN_HOLD));
+        }
+        return input;
+    }
+
+    private boolean press() {
+        return random.nextDouble() < PRESS_PROBABILITY;
+    }
+}
@@ -0,0 +1,211 @@
+package game.headless;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+import game.engine.Engine;
+import game.engine.EngineImpl;
+import game.engine.ExecutionMode;
+import game.profiling.LatencyHistogram;
+
+/**
+ * Hosts many independent game sessions in the same JVM, e.g. for bot
+ * tournaments and load tests. Each session has its own seeded
+ * {@link EngineImpl} and {@link InputSource} and is stepped at a fixed tick
+ * rate in real time by its own thread: a virtual thread when the JVM supports
+ * them, a platform thread otherwise. The game targets Java 17, that has no
+ * virtual threads, so a build run as intended gets a platform thread per
+ * session, and the number of sessions is bounded by the threads the OS allows.
+ */
+public class SessionHost {
+    /**
+     * Default number of ticks per second of each session.
+     */
+    public static final int DEFAULT_TICK_RATE = 200;
+    private static final int DEFAULT_SESSIONS = 100;
+    private static final long DEFAULT_MAX_TIME = 30_000L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long MILLIS_PER_SECOND = 1_000L;
+    private final long periodNanos;
+    private final long stepMillis;
+    private final long maxTime;
+    private final ExecutionMode mode;
+
+    /**
+     * Constructor.
+     *
+     * @param tickRate the number of ticks per second of each session, at most
+     *                 one per simulated ms.
+     * @param maxTime  the maximum simulated time of a session in ms.
+     * @param mode     how each engine updates its minigames, with many sessions
+     *                 {@link ExecutionMode#SERIAL} avoids competing for the
+     *                 pool that the host shares among the sessions in
+     *                 {@link ExecutionMode#PARALLEL} mode.
+     */
+    public SessionHost(final int tickRate, final long maxTime, final ExecutionMode mode) {
+        if (tickRate <= 0 || tickRate > MILLIS_PER_SECOND || maxTime <= 0) {
+            throw new IllegalArgumentException("Tick rate must be in [1, 1000] and maximum time positive");
+        }
+        this.periodNanos = NANOS_PER_SECOND / tickRate;
+        this.stepMillis = MILLIS_PER_SECOND / tickRate;
+        this.maxTime = maxTime;
+        this.mode = mode;
+    }
+
+    /**
+     * Runs the sessions concurrently until all of them are over.
+     *
+     * @param sessions the number of sessions.
+     * @param inputs   the source of the input of each session, given its index,
+     *                 that is also the seed of its engine.
+     * @return the report of the run.
+     */
+    public SessionHostReport run(final int sessions, final LongFunction<InputSource> inputs) {
+        if (sessions <= 0) {
+            throw new IllegalArgumentException("There must be at least a session");
+        }
+        /* in parallel the minigames of the sessions are updated and built by a pool of the host, not of the JVM */
+        final ForkJoinPool workers = mode == ExecutionMode.PARALLEL
+                ? new ForkJoinPool(Runtime.getRuntime().availableProcessors())
+                : null;
+        final List<Session> list = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            final Engine engine = workers == null ? new EngineImpl(Engine.FIELD_HEIGHT, mode, i)
+                    : new EngineImpl(Engine.FIELD_HEIGHT, mode, i, workers, workers);
+            list.add(new Session(new HeadlessGame(engine, inputs.apply(i))));
+        }
+        final ExecutorService executor = newSessionExecutor();
+        final long cpuStart = processCpuNanos();
+        final long start = System.nanoTime();
+        try {
+            final List<Future<?>> futures = new ArrayList<>(sessions);
+            list.forEach(s -> futures.add(executor.submit(() -> s.play(start))));
+            for (final Future<?> f : futures) {
+                f.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+            if (workers != null) {
+                workers.shutdownNow();
+            }
+        }
+        final long wall = System.nanoTime() - start;
+        final long cpu = processCpuNanos() - cpuStart;
+        final List<LatencyHistogram> latencies = new ArrayList<>(sessions);
+        final long[] ticks = new long[sessions];
+        final long[] points = new long[sessions];
+        long busy = 0;
+        long missed = 0;
+        for (int i = 0; i < sessions; i++) {
+            final Session s = list.get(i);
+            latencies.add(s.latency);
+            ticks[i] = s.game.getTicks();
+            points[i] = s.game.getPoints();
+            busy += s.busyNanos;
+            missed += s.missedTicks;
+        }
+        /* a thread descheduled in the middle of a tick inflates its latency, the CPU time doesn't */
+        return new SessionHostReport(periodNanos, wall, cpuStart < 0 ? busy : cpu, missed, ticks, points, latencies);
+    }
+
+    /**
+     * Method to get the CPU time used by the whole process, it includes the
+     * garbage collection and the preloading of the minigames.
+     *
+     * @return the CPU time in ns, or -1 if the JVM doesn't measure it.
+     */
+    private static long processCpuNanos() {
+        final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        return os instanceof com.sun.management.OperatingSystemMXBean
+                ? ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime()
+                : -1;
+    }
+
+    /**
+     * Creates an executor that starts a new thread for each session. Virtual
+     * threads are looked up at run time so that the game still runs on JVMs
+     * that don't have them, as Java 17 that the game targets: there the
+     * sessions run on the cached platform threads.
+     *
+     * @return the executor.
+     */
+    private static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(r -> {
+                final Thread t = new Thread(r, "game-session");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /**
+     * A game and the statistics of its ticks, written only by the thread that
+     * plays it and read after it has finished.
+     */
+    private final class Session {
+        private final HeadlessGame game;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private long busyNanos;
+        private long missedTicks;
+
+        Session(final HeadlessGame game) {
+            this.game = game;
+        }
+
+        /**
+         * Plays the game, a tick every period. A late session runs the ticks it
+         * missed back to back to catch up.
+         *
+         * @param start the instant of the first tick.
+         */
+        void play(final long start) {
+            long deadline = start;
+            while (!game.isOver() && game.getPoints() < maxTime) {
+                for (long wait = deadline - System.nanoTime(); wait > 0; wait = deadline - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                final long tickStart = System.nanoTime();
+                if (tickStart - deadline > periodNanos) {
+                    missedTicks++;
+                }
+                game.step(stepMillis);
+                final long cost = System.nanoTime() - tickStart;
+                latency.record(cost);
+                busyNanos += cost;
+                deadline += periodNanos;
+            }
+        }
+    }
+
+    /**
+     * Runs some sessions with random bots and prints the report.
+     *
+     * @param args optionally the number of sessions, the tick rate and the
+     *             maximum simulated time of a session in ms.
+     */
+    public static void main(final String[] args) {
+        final int sessions = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SESSIONS;
+        final int tickRate = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TICK_RATE;
+        final long maxTime = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_MAX_TIME;
+        final ExecutionMode mode = Boolean.getBoolean("mtsk.parallel") ? ExecutionMode.PARALLEL
+                : ExecutionMode.SERIAL;
+        System.out.print(new SessionHost(tickRate, maxTime, mode).run(sessions, RandomBotInput::new));
+    }
+}
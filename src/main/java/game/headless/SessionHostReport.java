@@ -0,0 +1,191 @@
+package game.headless;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import game.profiling.LatencyHistogram;
+
+/**
+ * Results of a {@link SessionHost} run: the aggregate throughput, the latency
+ * of the ticks of each session and how many sessions the host could sustain.
+ */
+public final class SessionHostReport {
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double NANOS_PER_MICRO = 1e3;
+    private static final double MEDIAN = 50;
+    private static final double P99 = 99;
+    private final long periodNanos;
+    private final long wallNanos;
+    private final long cpuNanos;
+    private final long missedTicks;
+    private final long[] ticks;
+    private final long[] points;
+    private final List<LatencyHistogram> latencies;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final int cores;
+
+    /**
+     * Constructor.
+     *
+     * @param periodNanos the real time between two ticks of a session in ns.
+     * @param wallNanos   the real time taken by the run in ns.
+     * @param cpuNanos    the CPU time used by the whole process during the run
+     *                    in ns, garbage collection and preloading included, or
+     *                    the time the sessions spent performing ticks if the
+     *                    JVM doesn't measure the CPU time of the process.
+     * @param missedTicks the number of ticks started more than a period late.
+     * @param ticks       the number of ticks performed by each session.
+     * @param points      the points scored by each session.
+     * @param latencies   the latency of the ticks of each session.
+     */
+    public SessionHostReport(final long periodNanos, final long wallNanos, final long cpuNanos,
+            final long missedTicks, final long[] ticks, final long[] points, final List<LatencyHistogram> latencies) {
+        if (ticks.length != points.length || ticks.length != latencies.size()) {
+            throw new IllegalArgumentException("The statistics of the sessions don't match");
+        }
+        this.periodNanos = periodNanos;
+        this.wallNanos = wallNanos;
+        this.cpuNanos = cpuNanos;
+        this.missedTicks = missedTicks;
+        this.ticks = ticks.clone();
+        this.points = points.clone();
+        this.latencies = Collections.unmodifiableList(new ArrayList<>(latencies));
+        this.latencies.forEach(latency::add);
+        this.cores = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Getter for the number of sessions.
+     *
+     * @return the number of sessions.
+     */
+    public int getSessions() {
+        return ticks.length;
+    }
+
+    /**
+     * Method to get the total number of ticks of all the sessions.
+     *
+     * @return the number of ticks.
+     */
+    public long getTicks() {
+        long total = 0;
+        for (final long t : ticks) {
+            total += t;
+        }
+        return total;
+    }
+
+    /**
+     * Getter for the number of ticks of a session.
+     *
+     * @param session the index of the session.
+     * @return the number of ticks.
+     */
+    public long getTicks(final int session) {
+        return ticks[session];
+    }
+
+    /**
+     * Getter for the points of a session.
+     *
+     * @param session the index of the session.
+     * @return the simulated ms survived.
+     */
+    public long getPoints(final int session) {
+        return points[session];
+    }
+
+    /**
+     * Getter for the real time taken by the run.
+     *
+     * @return the real time in ns.
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * Method to get the aggregate throughput of the sessions.
+     *
+     * @return the ticks performed per wall clock second.
+     */
+    public double getTicksPerSecond() {
+        return getTicks() / (Math.max(wallNanos, 1) / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Getter for the latency of the ticks of a session.
+     *
+     * @param session the index of the session.
+     * @return the histogram of the time taken by each tick in ns.
+     */
+    public LatencyHistogram getLatency(final int session) {
+        return latencies.get(session);
+    }
+
+    /**
+     * Getter for the latency of the ticks of all the sessions.
+     *
+     * @return the histogram of the time taken by each tick in ns.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Getter for the number of ticks started more than a period late, they show
+     * that the host couldn't sustain the sessions.
+     *
+     * @return the number of late ticks.
+     */
+    public long getMissedTicks() {
+        return missedTicks;
+    }
+
+    /**
+     * Method to get the average CPU time taken by a tick, that is the CPU time
+     * of the process during the run shared among the ticks.
+     *
+     * @return the average ns per tick, 0 if no tick was performed.
+     */
+    public double getNanosPerTick() {
+        final long total = getTicks();
+        return total == 0 ? 0 : cpuNanos / (double) total;
+    }
+
+    /**
+     * Method to estimate how many sessions a core can keep at the tick rate:
+     * how many average ticks fit in a period.
+     *
+     * @return the sustainable sessions per core, 0 if no tick was performed.
+     */
+    public double getSustainableSessionsPerCore() {
+        final double perTick = getNanosPerTick();
+        return perTick == 0 ? 0 : periodNanos / perTick;
+    }
+
+    /**
+     * Getter for the number of cores available to the host.
+     *
+     * @return the number of cores.
+     */
+    public int getCores() {
+        return cores;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("sessions: %d, cores: %d, ticks: %d, wall: %.3f s, ticks/s: %.0f%n",
+                getSessions(), cores, getTicks(), wallNanos / NANOS_PER_SECOND, getTicksPerSecond())
+                + String.format("tick latency: p50 %.1f us, p99 %.1f us, max %.1f us, late ticks: %d%n",
+                        latency.getPercentile(MEDIAN) / NANOS_PER_MICRO, latency.getPercentile(P99) / NANOS_PER_MICRO,
+                        latency.getMax() / NANOS_PER_MICRO, missedTicks)
+                + String.format("sustainable sessions: %.0f per core, %.0f total%n",
+                        getSustainableSessionsPerCore(), getSustainableSessionsPerCore() * cores);
+    }
+}
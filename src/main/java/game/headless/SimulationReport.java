@@ -0,0 +1,146 @@
+package game.headless;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Results of a headless simulation: how fast the games ran compared to real
+ * time, where the time was spent and how well the object pools were sized.
+ */
+public final class SimulationReport {
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double MILLIS_PER_SECOND = 1e3;
+    private final int games;
+    private final long ticks;
+    private final long simulatedMillis;
+    private final long wallNanos;
+    private final Map<String, MinigameStats> minigames;
+    private final Map<String, PoolStats> pools;
+
+    /**
+     * Constructor.
+     * 
+     * @param games           the number of games played.
+     * @param ticks           the total number of steps performed.
+     * @param simulatedMillis the total simulated time in ms.
+     * @param wallNanos       the real time taken in ns.
+     * @param minigames       the counters of each minigame, by minigame name.
+     * @param pools           the counters of the object pools, by name of the
+     *                        pooled objects.
+     */
+    public SimulationReport(final int games, final long ticks, final long simulatedMillis, final long wallNanos,
+            final Map<String, MinigameStats> minigames, final Map<String, PoolStats> pools) {
+        this.games = games;
+        this.ticks = ticks;
+        this.simulatedMillis = simulatedMillis;
+        this.wallNanos = wallNanos;
+        this.minigames = Collections.unmodifiableMap(new LinkedHashMap<>(minigames));
+        this.pools = Collections.unmodifiableMap(new LinkedHashMap<>(pools));
+    }
+
+    /**
+     * Getter for the number of games played.
+     * 
+     * @return the number of games.
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Getter for the total number of steps performed.
+     * 
+     * @return the number of steps.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Getter for the total simulated time.
+     * 
+     * @return the simulated time in ms.
+     */
+    public long getSimulatedMillis() {
+        return simulatedMillis;
+    }
+
+    /**
+     * Getter for the real time taken by the simulation.
+     * 
+     * @return the real time in ns.
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * Method to get how much faster than real time the games ran.
+     * 
+     * @return the simulated seconds per wall clock second.
+     */
+    public double getSpeedup() {
+        return simulatedMillis / MILLIS_PER_SECOND / wallSeconds();
+    }
+
+    /**
+     * Method to get the throughput of the simulation.
+     * 
+     * @return the steps performed per wall clock second.
+     */
+    public double getTicksPerSecond() {
+        return ticks / wallSeconds();
+    }
+
+    /**
+     * Getter for the counters of each minigame: the time spent computing it,
+     * the steps it was active for and the pairs its collision checks tested.
+     * 
+     * @return the counters of each minigame, by minigame name.
+     */
+    public Map<String, MinigameStats> getMinigames() {
+        return minigames;
+    }
+
+    /**
+     * Method to get the average cost of a step of each minigame.
+     * 
+     * @param minigame the name of the minigame.
+     * @return the average ns per step, 0 if the minigame was never active.
+     */
+    public double getNanosPerTick(final String minigame) {
+        final MinigameStats stats = minigames.get(minigame);
+        return stats == null ? 0 : stats.getNanosPerTick();
+    }
+
+    /**
+     * Getter for the counters of the object pools of the minigames.
+     * 
+     * @return the counters of each pool, by name of the pooled objects.
+     */
+    public Map<String, PoolStats> getPools() {
+        return pools;
+    }
+
+    private double wallSeconds() {
+        return Math.max(wallNanos, 1) / NANOS_PER_SECOND;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format("games: %d, ticks: %d, simulated: %.1f s, wall: %.3f s%n",
+                games, ticks, simulatedMillis / MILLIS_PER_SECOND, wallSeconds()));
+        sb.append(String.format("simulated s / wall s: %.1f, ticks/s: %.0f%n", getSpeedup(), getTicksPerSecond()));
+        minigames.forEach((name, stats) -> sb.append(String.format(
+                "  %-20s %10.3f ms total, %8.0f ns/tick, %7.4f pairs/tick%n", name,
+                stats.getComputeNanos() / NANOS_PER_SECOND * MILLIS_PER_SECOND, stats.getNanosPerTick(),
+                stats.getPairsPerTick())));
+        pools.forEach((name, stats) -> sb.append(String.format("  pool %-15s %s%n", name, stats)));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package game.profiling;
+
+/**
+ * The phases of a frame of the game loop that are timed separately.
+ */
+public enum FramePhase {
+    /**
+     * Fetching the input from the view.
+     */
+    INPUT,
+    /**
+     * Updating the minigames.
+     */
+    UPDATE,
+    /**
+     * Recording the objects for the view.
+     */
+    SNAPSHOT,
+    /**
+     * Drawing the objects, on the thread of the view.
+     */
+    DRAW
+}
@@ -0,0 +1,46 @@
+package game.profiling;
+
+/**
+ * Collects the timings of the game loop, it can be fed by the game thread and
+ * the view thread while another thread reads it.
+ */
+public interface FrameProfiler {
+
+    /**
+     * Records the duration of a phase of a frame.
+     * 
+     * @param phase the phase.
+     * @param nanos the duration in nanoseconds.
+     */
+    void record(FramePhase phase, long nanos);
+
+    /**
+     * Records the end of a frame.
+     * 
+     * @param frameNanos the time elapsed since the end of the previous frame in
+     *                   nanoseconds.
+     */
+    void frameCompleted(long frameNanos);
+
+    /**
+     * Getter for the histogram of a phase.
+     * 
+     * @param phase the phase.
+     * @return the durations of the phase.
+     */
+    LatencyHistogram getHistogram(FramePhase phase);
+
+    /**
+     * Method to get the frames per second over the most recent frames.
+     * 
+     * @return the frame rate, 0 if no frame has been completed.
+     */
+    double getFps();
+
+    /**
+     * Method to get the durations of the most recent frames.
+     * 
+     * @return the durations in nanoseconds, from the oldest to the newest.
+     */
+    long[] getRecentFrameTimes();
+}
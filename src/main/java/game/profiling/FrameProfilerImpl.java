@@ -0,0 +1,86 @@
+package game.profiling;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Implementation of {@link FrameProfiler} that keeps a
+ * {@link LatencyHistogram} for each phase and a ring of the last frame
+ * durations.
+ */
+public class FrameProfilerImpl implements FrameProfiler {
+    /**
+     * Number of frames kept to compute the frame rate and draw the graph.
+     */
+    public static final int HISTORY = 120;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private final Map<FramePhase, LatencyHistogram> histograms;
+    private final AtomicLongArray frameTimes = new AtomicLongArray(HISTORY);
+    private final AtomicLong frames = new AtomicLong();
+
+    /**
+     * Constructor.
+     */
+    public FrameProfilerImpl() {
+        final Map<FramePhase, LatencyHistogram> map = new EnumMap<>(FramePhase.class);
+        for (final FramePhase phase : FramePhase.values()) {
+            map.put(phase, new LatencyHistogram());
+        }
+        this.histograms = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(final FramePhase phase, final long nanos) {
+        histograms.get(phase).record(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void frameCompleted(final long frameNanos) {
+        frameTimes.set((int) (frames.get() % HISTORY), frameNanos);
+        frames.incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LatencyHistogram getHistogram(final FramePhase phase) {
+        return histograms.get(phase);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getFps() {
+        long total = 0;
+        final long[] times = getRecentFrameTimes();
+        for (final long t : times) {
+            total += t;
+        }
+        return total == 0 ? 0 : times.length * NANOS_PER_SECOND / total;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] getRecentFrameTimes() {
+        final long completed = frames.get();
+        final int size = (int) Math.min(completed, HISTORY);
+        final long[] times = new long[size];
+        for (int i = 0; i < size; i++) {
+            times[i] = frameTimes.get((int) ((completed - size + i) % HISTORY));
+        }
+        return times;
+    }
+}
@@ -0,0 +1,119 @@
+package game.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of durations that can be recorded by a thread and read by another
+ * without locks.
+ * 
+ * The buckets are log-linear: every power of two is split in
+ * {@value #SUB_BUCKETS} linear sub-buckets, so any value is stored with a
+ * relative error below 1/{@value #SUB_BUCKETS} in a fixed, small array.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final double PERCENT = 100;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Adds a value to the histogram.
+     * 
+     * @param nanos the duration to record, negative values are recorded as 0.
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(nanos, 0);
+        counts.incrementAndGet(index(value));
+        count.incrementAndGet();
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Getter for the number of recorded values.
+     * 
+     * @return the number of values.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Getter for the largest recorded value.
+     * 
+     * @return the maximum, 0 if nothing has been recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Method to get a percentile of the recorded values.
+     * 
+     * @param percentile the percentile, in (0, 100].
+     * @return the upper bound of the bucket that contains the percentile, 0 if
+     *         nothing has been recorded.
+     */
+    public long getPercentile(final double percentile) {
+        if (percentile <= 0 || percentile > PERCENT) {
+            throw new IllegalArgumentException("The percentile must be in (0, 100]");
+        }
+        final long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        final long target = (long) Math.ceil(total * percentile / PERCENT);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(upperBound(i), getMax());
+            }
+        }
+        return getMax(); // values recorded while scanning
+    }
+
+    /**
+     * Adds all the values recorded by another histogram, e.g. to aggregate the
+     * histograms recorded by different threads.
+     *
+     * @param other the histogram to add.
+     */
+    public void add(final LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.addAndGet(i, other.counts.get(i));
+        }
+        count.addAndGet(other.getCount());
+        max.accumulateAndGet(other.getMax(), Math::max);
+    }
+
+    /**
+     * Removes all the recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        max.set(0);
+    }
+
+    private static int index(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long upperBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        return ((long) (SUB_BUCKETS + index % SUB_BUCKETS + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,166 @@
+package game.replay;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+import game.controlling.Input;
+
+/**
+ * Constants and encodings of the session files.
+ * 
+ * A session file starts with the {@link #MAGIC} bytes, the {@link #VERSION},
+ * the field height as a varint and the seed of the engine as 8 bytes. Then
+ * each record describes a run of identical steps: a varint header made of the
+ * number of steps, shifted left by {@value #FLAG_BITS}, and the flags telling
+ * if a minigame is added before the run and which values follow. The elapsed
+ * time follows as a varint and the input as the varint XOR of its bitmask with
+ * the previous one, each only when it changes.
+ */
+final class SessionFormat {
+    /**
+     * The bytes every session file starts with.
+     */
+    static final byte[] MAGIC = { 'M', 'T', 'S', 'R' };
+    /**
+     * The version of the format.
+     */
+    static final int VERSION = 1;
+    /**
+     * Flag of the records that add a minigame before their steps.
+     */
+    static final int ADD_MINIGAME = 1;
+    /**
+     * Flag of the records followed by a new elapsed time.
+     */
+    static final int ELAPSED = 1 << 1;
+    /**
+     * Flag of the records followed by a new input.
+     */
+    static final int INPUT = 1 << 2;
+    /**
+     * Number of bits of the header used by the flags.
+     */
+    static final int FLAG_BITS = 3;
+    private static final int FLAG_MASK = (1 << FLAG_BITS) - 1;
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MASK = (1 << VARINT_BITS) - 1;
+    private static final int VARINT_MORE = 1 << VARINT_BITS;
+    private static final int UP = 1;
+    private static final int DOWN = 1 << 1;
+    private static final int LEFT = 1 << 2;
+    private static final int RIGHT = 1 << 3;
+    private static final int JUMP = 1 << 4;
+    private static final int FORWARD = 1 << 5;
+    private static final int BACKWARDS = 1 << 6;
+    private static final int NUMBER_SHIFT = 7;
+
+    private SessionFormat() {
+    }
+
+    /**
+     * Method to get the flags of a record header.
+     * 
+     * @param header the header.
+     * @return the flags.
+     */
+    static int flags(final long header) {
+        return (int) (header & FLAG_MASK);
+    }
+
+    /**
+     * Method to get the number of steps of a record header.
+     * 
+     * @param header the header.
+     * @return the number of steps.
+     */
+    static long count(final long header) {
+        return header >>> FLAG_BITS;
+    }
+
+    /**
+     * Encodes an input as a bitmask: one bit for each key and the number
+     * pressed, if any, above them.
+     * 
+     * @param input the input to encode.
+     * @return the bitmask.
+     */
+    static long encode(final Input input) {
+        long mask = input.isMoveUp() ? UP : 0;
+        mask |= input.isMoveDown() ? DOWN : 0;
+        mask |= input.isMoveLeft() ? LEFT : 0;
+        mask |= input.isMoveRight() ? RIGHT : 0;
+        mask |= input.isJump() ? JUMP : 0;
+        mask |= input.isForward() ? FORWARD : 0;
+        mask |= input.isBackwards() ? BACKWARDS : 0;
+        return mask | (long) input.getNumberPressed().orElse(0) << NUMBER_SHIFT;
+    }
+
+    /**
+     * Sets an input as described by a bitmask.
+     * 
+     * @param mask  the bitmask made by {@link #encode(Input)}.
+     * @param input the input to set.
+     */
+    static void decode(final long mask, final Input input) {
+        input.setMoveUp((mask & UP) != 0);
+        input.setMoveDown((mask & DOWN) != 0);
+        input.setMoveLeft((mask & LEFT) != 0);
+        input.setMoveRight((mask & RIGHT) != 0);
+        input.setJump((mask & JUMP) != 0);
+        input.setForward((mask & FORWARD) != 0);
+        input.setBackwards((mask & BACKWARDS) != 0);
+        final int number = (int) (mask >>> NUMBER_SHIFT);
+        input.setNumberPressed(number == 0 ? Optional.empty() : Optional.of(number));
+    }
+
+    /**
+     * Writes a non negative value using 7 bits per byte, the least significant
+     * first, with the highest bit set on all the bytes but the last.
+     * 
+     * @param out   the stream to write to.
+     * @param value the value to write.
+     * @throws IOException if the stream can't be written.
+     */
+    static void writeVarLong(final OutputStream out, final long value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("Only non negative values can be written: " + value);
+        }
+        long v = value;
+        while (v >= VARINT_MORE) {
+            out.write((int) (v & VARINT_MASK) | VARINT_MORE);
+            v >>>= VARINT_BITS;
+        }
+        out.write((int) v);
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarLong(OutputStream, long)}.
+     * 
+     * @param in the stream to read from.
+     * @return the value, or empty if the stream is over before its first byte.
+     * @throws IOException if the stream can't be read or ends within the value.
+     */
+    static Optional<Long> readVarLong(final InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            return Optional.empty();
+        }
+        long value = 0;
+        int shift = 0;
+        while ((b & VARINT_MORE) != 0) {
+            if (shift >= Long.SIZE) {
+                throw new IOException("Malformed varint");
+            }
+            value |= (long) (b & VARINT_MASK) << shift;
+            shift += VARINT_BITS;
+            b = in.read();
+            if (b < 0) {
+                throw new EOFException("The stream ends within a varint");
+            }
+        }
+        return Optional.of(value | (long) b << shift);
+    }
+}
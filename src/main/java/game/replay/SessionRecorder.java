@@ -0,0 +1,202 @@
+package game.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import api.ObjectPool;
+import game.controlling.Input;
+import game.engine.Engine;
+import game.engine.gameobject.GameObject;
+import game.engine.minigame.Minigame;
+
+/**
+ * {@link Engine} that writes the minigames added and the input and time of
+ * each step of another engine, in the format of {@link SessionFormat}, so that
+ * the session can be reproduced exactly by a {@link SessionReplayer}.
+ */
+public class SessionRecorder implements Engine, Closeable {
+    private final Engine engine;
+    private final DataOutputStream out;
+    private boolean runAdds;
+    private long runCount;
+    private long runElapsed;
+    private long runInput;
+    private long writtenElapsed;
+    private long writtenInput;
+
+    /**
+     * Constructor, it writes the header of the session.
+     * 
+     * @param engine      the engine to record, without minigames.
+     * @param fieldHeight the height of the field of the engine.
+     * @param out         the stream to write the session to, it's closed with
+     *                    this recorder.
+     * @throws IOException if the header can't be written.
+     */
+    public SessionRecorder(final Engine engine, final int fieldHeight, final OutputStream out) throws IOException {
+        if (engine.activeMinigames() != 0) {
+            throw new IllegalArgumentException("The engine must not have been started yet");
+        }
+        this.engine = engine;
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.out.write(SessionFormat.MAGIC);
+        this.out.write(SessionFormat.VERSION);
+        SessionFormat.writeVarLong(this.out, fieldHeight);
+        this.out.writeLong(engine.getSeed());
+    }
+
+    /**
+     * Creates a recorder that writes to a file.
+     * 
+     * @param engine      the engine to record, without minigames.
+     * @param fieldHeight the height of the field of the engine.
+     * @param file        the file to write, replaced if it exists.
+     * @return the recorder.
+     */
+    public static SessionRecorder toFile(final Engine engine, final int fieldHeight, final Path file) {
+        try {
+            return new SessionRecorder(engine, fieldHeight, Files.newOutputStream(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to record the session to " + file, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String addMinigame() {
+        flush();
+        runAdds = true;
+        return engine.addMinigame();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void step(final long elapsed, final Input input) {
+        final long mask = SessionFormat.encode(input);
+        if (runCount > 0 && (elapsed != runElapsed || mask != runInput)) {
+            flush();
+        }
+        runElapsed = elapsed;
+        runInput = mask;
+        runCount++;
+        engine.step(elapsed, input);
+    }
+
+    /**
+     * Writes the current run of identical steps.
+     */
+    private void flush() {
+        if (runCount == 0 && !runAdds) {
+            return;
+        }
+        final boolean newElapsed = runCount > 0 && runElapsed != writtenElapsed;
+        final boolean newInput = runCount > 0 && runInput != writtenInput;
+        final int flags = (runAdds ? SessionFormat.ADD_MINIGAME : 0)
+                | (newElapsed ? SessionFormat.ELAPSED : 0)
+                | (newInput ? SessionFormat.INPUT : 0);
+        try {
+            SessionFormat.writeVarLong(out, runCount << SessionFormat.FLAG_BITS | flags);
+            if (newElapsed) {
+                SessionFormat.writeVarLong(out, runElapsed);
+                writtenElapsed = runElapsed;
+            }
+            if (newInput) {
+                SessionFormat.writeVarLong(out, runInput ^ writtenInput);
+                writtenInput = runInput;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to record the session", e);
+        }
+        runAdds = false;
+        runCount = 0;
+    }
+
+    /**
+     * Writes the last steps and closes the stream.
+     */
+    @Override
+    public void close() {
+        flush();
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to record the session", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<List<GameObject>> getMinigameObjects() {
+        return engine.getMinigameObjects();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isGameOver() {
+        return engine.isGameOver();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSeed() {
+        return engine.getSeed();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> getComputeTimes() {
+        return engine.getComputeTimes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> getCandidatePairs() {
+        return engine.getCandidatePairs();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, ObjectPool<?>> getPools() {
+        return engine.getPools();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int activeMinigames() {
+        return engine.activeMinigames();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Class<? extends Minigame>> getMinigameSequence() {
+        return engine.getMinigameSequence();
+    }
+}
@@ -0,0 +1,186 @@
+package game.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import game.controlling.Input;
+import game.controlling.KeyboardInput;
+import game.engine.Engine;
+import game.engine.EngineImpl;
+import game.engine.ExecutionMode;
+import game.headless.MinigameStats;
+import game.headless.PoolStats;
+import game.headless.SimulationReport;
+
+/**
+ * Reads a session written by a {@link SessionRecorder} and plays it again on
+ * an {@link Engine}, as fast as the CPU allows.
+ */
+public class SessionReplayer {
+    private final DataInputStream in;
+    private final int fieldHeight;
+    private final long seed;
+    private final List<Long> addTicks = new ArrayList<>();
+    private long ticks;
+    private long simulatedMillis;
+
+    /**
+     * Constructor, it reads the header of the session.
+     * 
+     * @param in the stream of the session, it's read until its end.
+     * @throws IOException if the stream can't be read or isn't a session.
+     */
+    public SessionReplayer(final InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        final byte[] magic = new byte[SessionFormat.MAGIC.length];
+        this.in.readFully(magic);
+        if (!Arrays.equals(magic, SessionFormat.MAGIC)) {
+            throw new IOException("Not a session file");
+        }
+        final int version = this.in.read();
+        if (version != SessionFormat.VERSION) {
+            throw new IOException("Unsupported session version " + version);
+        }
+        this.fieldHeight = (int) SessionFormat.readVarLong(this.in)
+                .orElseThrow(() -> new EOFException("Truncated session header"))
+                .longValue();
+        this.seed = this.in.readLong();
+    }
+
+    /**
+     * Getter for the height of the field of the recorded engine.
+     * 
+     * @return the field height.
+     */
+    public int getFieldHeight() {
+        return fieldHeight;
+    }
+
+    /**
+     * Getter for the seed of the recorded engine.
+     * 
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Creates an engine equal to the recorded one.
+     * 
+     * @param mode how the engine updates the minigames, it doesn't change the
+     *             result.
+     * @return an engine with the field height and seed of the session.
+     */
+    public Engine createEngine(final ExecutionMode mode) {
+        return new EngineImpl(fieldHeight, mode, seed);
+    }
+
+    /**
+     * Plays the whole session on an engine.
+     * 
+     * @param engine the engine, created by {@link #createEngine(ExecutionMode)}
+     *               and never used before.
+     * @return the engine in the state it had at the end of the session.
+     * @throws IOException if the session can't be read.
+     */
+    public Engine replay(final Engine engine) throws IOException {
+        final Input input = new KeyboardInput();
+        long elapsed = 0;
+        long mask = 0;
+        for (var header = SessionFormat.readVarLong(in); header.isPresent(); header = SessionFormat.readVarLong(in)) {
+            final int flags = SessionFormat.flags(header.get());
+            if ((flags & SessionFormat.ADD_MINIGAME) != 0) {
+                engine.addMinigame();
+                addTicks.add(ticks);
+            }
+            if ((flags & SessionFormat.ELAPSED) != 0) {
+                elapsed = readValue();
+            }
+            if ((flags & SessionFormat.INPUT) != 0) {
+                mask ^= readValue();
+                SessionFormat.decode(mask, input);
+            }
+            for (long i = SessionFormat.count(header.get()); i > 0; i--) {
+                engine.step(elapsed, input);
+                ticks++;
+                simulatedMillis += elapsed;
+            }
+        }
+        return engine;
+    }
+
+    private long readValue() throws IOException {
+        return SessionFormat.readVarLong(in).orElseThrow(() -> new EOFException("Truncated session record"));
+    }
+
+    /**
+     * Getter for the number of steps replayed.
+     * 
+     * @return the number of steps.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Method to get for how many of the replayed steps a minigame was active.
+     * 
+     * @param minigame the index of the minigame, in the order they were added.
+     * @return the number of steps.
+     */
+    public long getTicks(final int minigame) {
+        return ticks - addTicks.get(minigame);
+    }
+
+    /**
+     * Getter for the simulated time replayed.
+     * 
+     * @return the simulated time in ms.
+     */
+    public long getSimulatedMillis() {
+        return simulatedMillis;
+    }
+
+    /**
+     * Replays a session file and prints how fast it was played.
+     * 
+     * @param args the path of the session file.
+     * @throws IOException if the file can't be read.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: SessionReplayer <session file>");
+        }
+        try (InputStream file = Files.newInputStream(Path.of(args[0]))) {
+            final SessionReplayer replayer = new SessionReplayer(file);
+            final Engine engine = replayer.createEngine(
+                    Boolean.getBoolean("mtsk.serial") ? ExecutionMode.SERIAL : ExecutionMode.PARALLEL);
+            final long start = System.nanoTime();
+            replayer.replay(engine);
+            final long wall = System.nanoTime() - start;
+            final Map<String, MinigameStats> minigames = new LinkedHashMap<>();
+            final List<Long> times = engine.getComputeTimes();
+            final List<Long> pairs = engine.getCandidatePairs();
+            for (int i = 0; i < times.size(); i++) {
+                final String name = engine.getMinigameSequence().get(i).getSimpleName();
+                minigames.put(name, new MinigameStats(times.get(i), replayer.getTicks(i), pairs.get(i)));
+            }
+            final Map<String, PoolStats> pools = new LinkedHashMap<>();
+            engine.getPools().forEach((name, pool) -> pools.put(name, PoolStats.of(pool)));
+            System.out.print(new SimulationReport(1, replayer.getTicks(), replayer.getSimulatedMillis(), wall,
+                    minigames, pools));
+            System.out.println("game over: " + engine.isGameOver());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package game.view;
+
+import api.ColorRGB;
+
+/**
+ * The instructions on how to paint the primitives a {@link RenderFrame} is
+ * made of, in field coordinates.
+ */
+public interface FramePainter {
+
+    /**
+     * Paints a circle.
+     * 
+     * @param x      the x of the centre.
+     * @param y      the y of the centre.
+     * @param color  the color of the circle.
+     * @param radius the radius of the circle.
+     */
+    void paintCircle(double x, double y, ColorRGB color, double radius);
+
+    /**
+     * Paints a rectangle.
+     * 
+     * @param x      the x of the centre.
+     * @param y      the y of the centre.
+     * @param color  the color of the rectangle.
+     * @param width  the width of the rectangle.
+     * @param height the height of the rectangle.
+     * @param filled whether the figure should be filled with color or not.
+     */
+    void paintRectangle(double x, double y, ColorRGB color, double width, double height, boolean filled);
+
+    /**
+     * Paints a triangle.
+     * 
+     * @param x        the x of the centre.
+     * @param y        the y of the centre.
+     * @param color    the color of the triangle.
+     * @param side     the side lenght of the triangle.
+     * @param rotAngle the angle of rotation of the triangle.
+     */
+    void paintTriangle(double x, double y, ColorRGB color, double side, double rotAngle);
+
+    /**
+     * Paints a label.
+     * 
+     * @param x      the x of the centre.
+     * @param y      the y of the centre.
+     * @param color  the color of the label.
+     * @param size   the size of the label.
+     * @param string the string to paint.
+     */
+    void paintLabel(double x, double y, ColorRGB color, int size, String string);
+
+    /**
+     * Paints a mole.
+     * 
+     * @param x       the x of the mole.
+     * @param y       the y of the mole.
+     * @param beenHit indicates which of the two aspects to represent.
+     */
+    void paintMole(double x, double y, boolean beenHit);
+
+    /**
+     * Paints a bomb of the Whac-a-mole.
+     * 
+     * @param x       the x of the bomb.
+     * @param y       the y of the bomb.
+     * @param beenHit indicates which of the two aspects to represent.
+     */
+    void paintWamBomb(double x, double y, boolean beenHit);
+
+    /**
+     * Paints the upper part of a hole.
+     * 
+     * @param x the x of the hole.
+     * @param y the y of the hole.
+     */
+    void paintHoleUpperPart(double x, double y);
+
+    /**
+     * Paints the lower part of a hole.
+     * 
+     * @param x the x of the hole.
+     * @param y the y of the hole.
+     */
+    void paintHoleLowerPart(double x, double y);
+}
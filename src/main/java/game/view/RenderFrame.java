@@ -0,0 +1,212 @@
+package game.view;
+
+import java.util.Arrays;
+import java.util.List;
+
+import api.ColorRGB;
+import api.Point2D;
+import game.engine.gameobject.GameObject;
+
+/**
+ * A frame to draw, recorded from the {@link GameObject}s as a list of
+ * primitives (kind, position and parameters of each shape) so that it can be
+ * painted by another thread while the objects keep changing.
+ * 
+ * The frame is meant to be reused: recording a new frame overwrites the
+ * previous one without allocating once the arrays are large enough.
+ */
+public class RenderFrame {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int INITIAL_MINIGAMES = 4;
+
+    /**
+     * The kinds of primitive, one for each method of {@link Drawings}.
+     */
+    private enum Kind {
+        CIRCLE, RECTANGLE, TRIANGLE, LABEL, MOLE, WAM_BOMB, HOLE_UPPER_PART, HOLE_LOWER_PART
+    }
+
+    private final Recorder recorder = new Recorder();
+    private Kind[] kinds = new Kind[INITIAL_CAPACITY];
+    private double[] xs = new double[INITIAL_CAPACITY];
+    private double[] ys = new double[INITIAL_CAPACITY];
+    private double[] firsts = new double[INITIAL_CAPACITY];
+    private double[] seconds = new double[INITIAL_CAPACITY];
+    private boolean[] flags = new boolean[INITIAL_CAPACITY];
+    private ColorRGB[] colors = new ColorRGB[INITIAL_CAPACITY];
+    private String[] labels = new String[INITIAL_CAPACITY];
+    private int size;
+    private int[] minigameEnds = new int[INITIAL_MINIGAMES];
+    private int[] objectCounts = new int[INITIAL_MINIGAMES];
+    private int minigames;
+    private int fieldHeight;
+
+    /**
+     * Records the aspect of the objects, replacing the previous content of the
+     * frame.
+     * 
+     * @param objectsList the objects of each minigame.
+     * @param fieldHeight the height in points of the field the objects are in.
+     * @param alpha       the fraction of simulation step to interpolate the
+     *                    objects positions with.
+     */
+    public void record(final List<List<GameObject>> objectsList, final int fieldHeight, final double alpha) {
+        size = 0;
+        minigames = 0;
+        this.fieldHeight = fieldHeight;
+        recorder.alpha = alpha;
+        if (minigameEnds.length < objectsList.size()) {
+            minigameEnds = new int[objectsList.size()];
+            objectCounts = new int[objectsList.size()];
+        }
+        /* indexed loops, so that recording a frame doesn't create iterators */
+        for (int m = 0; m < objectsList.size(); m++) {
+            final List<GameObject> objects = objectsList.get(m);
+            for (int i = 0; i < objects.size(); i++) {
+                objects.get(i).updateAspect(recorder);
+            }
+            objectCounts[minigames] = objects.size();
+            minigameEnds[minigames] = size;
+            minigames++;
+        }
+        Arrays.fill(labels, size, labels.length, null); // doesn't keep old strings alive
+    }
+
+    /**
+     * Getter for the height of the field the objects of the frame are in.
+     * 
+     * @return the height in points.
+     */
+    public int getFieldHeight() {
+        return fieldHeight;
+    }
+
+    /**
+     * Getter for the number of minigames in the frame.
+     * 
+     * @return the number of minigames.
+     */
+    public int getMinigames() {
+        return minigames;
+    }
+
+    /**
+     * Method to get the number of objects recorded for a minigame.
+     * 
+     * @param minigame the index of the minigame.
+     * @return the number of objects.
+     */
+    public int getObjectCount(final int minigame) {
+        checkMinigame(minigame);
+        return objectCounts[minigame];
+    }
+
+    /**
+     * Paints the primitives of a minigame, in the order they were recorded.
+     * 
+     * @param minigame the index of the minigame.
+     * @param painter  the painter to use.
+     */
+    public void paint(final int minigame, final FramePainter painter) {
+        checkMinigame(minigame);
+        for (int i = minigame == 0 ? 0 : minigameEnds[minigame - 1]; i < minigameEnds[minigame]; i++) {
+            switch (kinds[i]) {
+                case CIRCLE -> painter.paintCircle(xs[i], ys[i], colors[i], firsts[i]);
+                case RECTANGLE -> painter.paintRectangle(xs[i], ys[i], colors[i], firsts[i], seconds[i], flags[i]);
+                case TRIANGLE -> painter.paintTriangle(xs[i], ys[i], colors[i], firsts[i], seconds[i]);
+                case LABEL -> painter.paintLabel(xs[i], ys[i], colors[i], (int) firsts[i], labels[i]);
+                case MOLE -> painter.paintMole(xs[i], ys[i], flags[i]);
+                case WAM_BOMB -> painter.paintWamBomb(xs[i], ys[i], flags[i]);
+                case HOLE_UPPER_PART -> painter.paintHoleUpperPart(xs[i], ys[i]);
+                case HOLE_LOWER_PART -> painter.paintHoleLowerPart(xs[i], ys[i]);
+                default -> throw new IllegalStateException("Unknown primitive " + kinds[i]);
+            }
+        }
+    }
+
+    private void checkMinigame(final int minigame) {
+        if (minigame < 0 || minigame >= minigames) {
+            throw new IndexOutOfBoundsException("No minigame " + minigame + " in the frame");
+        }
+    }
+
+    private void add(final Kind kind, final Point2D pos, final ColorRGB color, final double first,
+            final double second, final boolean flag, final String label) {
+        if (size == kinds.length) {
+            final int capacity = size * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            firsts = Arrays.copyOf(firsts, capacity);
+            seconds = Arrays.copyOf(seconds, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            colors = Arrays.copyOf(colors, capacity);
+            labels = Arrays.copyOf(labels, capacity);
+        }
+        kinds[size] = kind;
+        xs[size] = pos.getX();
+        ys[size] = pos.getY();
+        colors[size] = color;
+        firsts[size] = first;
+        seconds[size] = second;
+        flags[size] = flag;
+        labels[size] = label;
+        size++;
+    }
+
+    /**
+     * The {@link Drawings} that adds the primitives to this frame, at the
+     * interpolated position of the objects.
+     */
+    private final class Recorder implements Drawings {
+        private double alpha;
+
+        @Override
+        public void drawCircle(final GameObject object, final ColorRGB color, final double radius) {
+            add(Kind.CIRCLE, object.getInterpolatedCoor(alpha), color, radius, 0, false, null);
+        }
+
+        @Override
+        public void drawSquare(final GameObject object, final ColorRGB color, final double side,
+                final boolean filled) {
+            drawRectangle(object, color, side, side, filled);
+        }
+
+        @Override
+        public void drawRectangle(final GameObject object, final ColorRGB color, final double width,
+                final double height, final boolean filled) {
+            add(Kind.RECTANGLE, object.getInterpolatedCoor(alpha), color, width, height, filled, null);
+        }
+
+        @Override
+        public void drawTriangle(final GameObject object, final ColorRGB color, final double side,
+                final double rotAngle) {
+            add(Kind.TRIANGLE, object.getInterpolatedCoor(alpha), color, side, rotAngle, false, null);
+        }
+
+        @Override
+        public void drawMole(final GameObject object, final Boolean beenHit) {
+            add(Kind.MOLE, object.getInterpolatedCoor(alpha), null, 0, 0, beenHit, null);
+        }
+
+        @Override
+        public void drawWamBomb(final GameObject object, final Boolean beenHit) {
+            add(Kind.WAM_BOMB, object.getInterpolatedCoor(alpha), null, 0, 0, beenHit, null);
+        }
+
+        @Override
+        public void drawHoleUpperPart(final GameObject object) {
+            add(Kind.HOLE_UPPER_PART, object.getInterpolatedCoor(alpha), null, 0, 0, false, null);
+        }
+
+        @Override
+        public void drawHoleLowerPart(final GameObject object) {
+            add(Kind.HOLE_LOWER_PART, object.getInterpolatedCoor(alpha), null, 0, 0, false, null);
+        }
+
+        @Override
+        public void drawLabel(final GameObject object, final ColorRGB color, final int size, final String string) {
+            add(Kind.LABEL, object.getInterpolatedCoor(alpha), color, size, 0, false, string);
+        }
+    }
+}
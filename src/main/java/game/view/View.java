@@ -16,6 +16,18 @@ public interface View {
      */
     void render(List<List<GameObject>> objectsList);
 
+    /**
+     * The method to render the view between two simulation steps.
+     * 
+     * @param objectsList a list of list of gameObjects for each minigame.
+     * @param alpha       the fraction of simulation step elapsed since the last
+     *                    update, used to interpolate the positions of the
+     *                    objects.
+     */
+    default void render(List<List<GameObject>> objectsList, double alpha) {
+        render(objectsList);
+    }
+
     /**
      * Displays final score.
      * 
@@ -43,4 +55,17 @@ public interface View {
      * @return the input obtained.
      */
     Input getInput();
+
+    /**
+     * Method to get the input with the key events happened up to the given
+     * instant, so that each simulation step sees only the events of its own
+     * time slice. The returned instance may be reused by the next calls.
+     * 
+     * @param upToNanos the instant of the end of the step in nanoseconds, on the
+     *                  {@link System#nanoTime()} scale.
+     * @return the input obtained.
+     */
+    default Input pollInput(long upToNanos) {
+        return getInput();
+    }
 }
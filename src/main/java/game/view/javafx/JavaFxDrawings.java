@@ -4,8 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import api.ColorRGB;
 import api.Point2D;
-import game.engine.gameobject.GameObject;
-import game.view.Drawings;
+import game.view.FramePainter;
 import game.view.ImagesCache;
 import javafx.geometry.VPos;
 import javafx.scene.canvas.Canvas;
@@ -23,9 +22,9 @@ import static game.view.ImagesCache.HEIGHT_LOWER_PART;
 import static game.view.ImagesCache.HEIGHT_UPPER_PART;
 
 /**
- * Implementation of Drawings for JavaFX.
+ * Implementation of FramePainter for JavaFX.
  */
-public class JavaFxDrawings implements Drawings {
+public class JavaFxDrawings implements FramePainter {
     private static final double HOLE_POS_DIVIDER = 2.2;
     private final int coefficient;
     /* coordinates (related to the Jframe) of  */
@@ -61,14 +60,13 @@ public class JavaFxDrawings implements Drawings {
      * {@inheritDoc}
      */
     @Override
-    public void drawCircle(final GameObject object, final ColorRGB color, final double radius) {
-        final Point2D pos = object.getCoor();
-        final int x = (int) pos.getX(); // x of the centre
-        final int y = (int) pos.getY(); // y of the centre
+    public void paintCircle(final double x, final double y, final ColorRGB color, final double radius) {
+        final int centreX = (int) x;
+        final int centreY = (int) y;
         final int scaledRad = (int) Math.round(dimention / coefficient * radius);
         gc.setStroke(jfxColor(color));
-        gc.strokeOval(x * dimention / coefficient - scaledRad + startingPoint.getX(),
-                y * dimention / coefficient - scaledRad + startingPoint.getY(),
+        gc.strokeOval(centreX * dimention / coefficient - scaledRad + startingPoint.getX(),
+                centreY * dimention / coefficient - scaledRad + startingPoint.getY(),
                 scaledRad * 2, scaledRad * 2);
     }
 
@@ -76,15 +74,8 @@ public class JavaFxDrawings implements Drawings {
      * {@inheritDoc}
      */
     @Override
-    public void drawSquare(final GameObject object, final ColorRGB color, final double side, final boolean filled) {
-        drawRectangle(object, color, side, side, filled);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void drawRectangle(final GameObject object,
+    public void paintRectangle(final double x,
+            final double y,
             final ColorRGB color,
             final double width,
             final double height,
@@ -99,8 +90,8 @@ public class JavaFxDrawings implements Drawings {
                      * coordinates of the upper left corner of rectangle: the
                      * last addendum is necessary to enter the right play field
                      */
-                    (object.getCoor().getX() - width / 2) * dimention / coefficient + startingPoint.getX(),
-                    (object.getCoor().getY() - height / 2) * dimention / coefficient + startingPoint.getY(),
+                    (x - width / 2) * dimention / coefficient + startingPoint.getX(),
+                    (y - height / 2) * dimention / coefficient + startingPoint.getY(),
                     actualWidth,
                     actualHeight);
         } else {
@@ -110,8 +101,8 @@ public class JavaFxDrawings implements Drawings {
                      * coordinates of the upper left corner of rectangle: the
                      * last addendum is necessary to enter the right play field
                      */
-                    (object.getCoor().getX() - width / 2) * dimention / coefficient + startingPoint.getX(),
-                    (object.getCoor().getY() - height / 2) * dimention / coefficient + startingPoint.getY(),
+                    (x - width / 2) * dimention / coefficient + startingPoint.getX(),
+                    (y - height / 2) * dimention / coefficient + startingPoint.getY(),
                     actualWidth,
                     actualHeight);
         }
@@ -121,55 +112,56 @@ public class JavaFxDrawings implements Drawings {
      * {@inheritDoc}
      */
     @Override
-    public void drawTriangle(final GameObject object, final ColorRGB color, final double side, final double rotAngle) {
+    public void paintTriangle(final double x, final double y, final ColorRGB color, final double side,
+            final double rotAngle) {
         final double radius = side / Math.sqrt(3);
         final double rotAngle1 = rotAngle + Math.PI * 2 / 3;
         final double rotAngle2 = rotAngle + Math.PI * 4 / 3;
 
         final List<Double> xs = new ArrayList<>();
-        xs.add(object.getCoor().getX() + radius * Math.cos(rotAngle1));
-        xs.add(object.getCoor().getX() + radius * Math.cos(rotAngle2));
-        xs.add(object.getCoor().getX() + radius * Math.cos(rotAngle));
+        xs.add(x + radius * Math.cos(rotAngle1));
+        xs.add(x + radius * Math.cos(rotAngle2));
+        xs.add(x + radius * Math.cos(rotAngle));
 
         final List<Double> ys = new ArrayList<>();
-        ys.add(object.getCoor().getY() + radius * Math.sin(rotAngle1));
-        ys.add(object.getCoor().getY() + radius * Math.sin(rotAngle2));
-        ys.add(object.getCoor().getY() + radius * Math.sin(rotAngle));
+        ys.add(y + radius * Math.sin(rotAngle1));
+        ys.add(y + radius * Math.sin(rotAngle2));
+        ys.add(y + radius * Math.sin(rotAngle));
 
         gc.setFill(jfxColor(color));
-        gc.fillPolygon(xs.stream().mapToDouble(x -> x * dimention / coefficient + startingPoint.getX()).toArray(),
-                ys.stream().mapToDouble(y -> y * dimention / coefficient + startingPoint.getY()).toArray(), 3);
+        gc.fillPolygon(xs.stream().mapToDouble(px -> px * dimention / coefficient + startingPoint.getX()).toArray(),
+                ys.stream().mapToDouble(py -> py * dimention / coefficient + startingPoint.getY()).toArray(), 3);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void drawLabel(final GameObject object, final ColorRGB color, final int size, final String string) {
+    public void paintLabel(final double x, final double y, final ColorRGB color, final int size,
+            final String string) {
         gc.setFill(jfxColor(color));
         gc.setFont(new Font("futura", size * dimention / coefficient));
-        final double x = object.getCoor().getX() * dimention / coefficient;
-        final double y = object.getCoor().getY() * dimention / coefficient;
         gc.setTextAlign(TextAlignment.CENTER);
         gc.setTextBaseline(VPos.CENTER);
-        gc.fillText(string, x + startingPoint.getX(), y + startingPoint.getY());
+        gc.fillText(string, x * dimention / coefficient + startingPoint.getX(),
+                y * dimention / coefficient + startingPoint.getY());
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void drawMole(final GameObject object, final Boolean beenHit) {
+    public void paintMole(final double x, final double y, final boolean beenHit) {
         if (beenHit) {
             gc.drawImage(imagesCache.getHitMoleImage(), 
-                        (object.getCoor().getX() - MOLE_WIDTH / 2) * dimention / coefficient,
-                        object.getCoor().getY() * dimention / coefficient,
+                        (x - MOLE_WIDTH / 2) * dimention / coefficient,
+                        y * dimention / coefficient,
                         MOLE_WIDTH *  dimention / coefficient,
                         MOLE_HEIGHT *  dimention / coefficient);
         } else {
             gc.drawImage(imagesCache.getMoleImage(), 
-                        (object.getCoor().getX() - MOLE_WIDTH / 2) * dimention / coefficient,
-                        object.getCoor().getY() * dimention / coefficient,
+                        (x - MOLE_WIDTH / 2) * dimention / coefficient,
+                        y * dimention / coefficient,
                         MOLE_WIDTH *  dimention / coefficient,
                         MOLE_HEIGHT *  dimention / coefficient);
         }
@@ -179,17 +171,17 @@ public class JavaFxDrawings implements Drawings {
      * {@inheritDoc}
      */
     @Override
-    public void drawWamBomb(final GameObject object, final Boolean beenHit) {
+    public void paintWamBomb(final double x, final double y, final boolean beenHit) {
         if (beenHit) {
             gc.drawImage(imagesCache.getHitBombImage(), 
-                        (object.getCoor().getX() - BOMB_WIDTH / 2) * dimention / coefficient,
-                        object.getCoor().getY() * dimention / coefficient,
+                        (x - BOMB_WIDTH / 2) * dimention / coefficient,
+                        y * dimention / coefficient,
                         BOMB_WIDTH *  dimention / coefficient,
                         BOMB_HEIGHT *  dimention / coefficient);
         } else {
             gc.drawImage(imagesCache.getBombImage(), 
-                        (object.getCoor().getX() - BOMB_WIDTH / 2) * dimention / coefficient, 
-                        object.getCoor().getY() * dimention / coefficient,
+                        (x - BOMB_WIDTH / 2) * dimention / coefficient, 
+                        y * dimention / coefficient,
                         BOMB_WIDTH *  dimention / coefficient,
                         BOMB_HEIGHT *  dimention / coefficient);
         }
@@ -199,10 +191,10 @@ public class JavaFxDrawings implements Drawings {
      * {@inheritDoc}
      */
     @Override
-    public void drawHoleUpperPart(final GameObject object) {
+    public void paintHoleUpperPart(final double x, final double y) {
         gc.drawImage(imagesCache.getHoleUpperPartImage(), 
-                    (object.getCoor().getX() - HOLE_WIDTH / 2) * dimention / coefficient, 
-                    (object.getCoor().getY() - HEIGHT_UPPER_PART / HOLE_POS_DIVIDER) * dimention / coefficient,
+                    (x - HOLE_WIDTH / 2) * dimention / coefficient, 
+                    (y - HEIGHT_UPPER_PART / HOLE_POS_DIVIDER) * dimention / coefficient,
                     HOLE_WIDTH *  dimention / coefficient,
                     HEIGHT_UPPER_PART *  dimention / coefficient);
     }
@@ -211,10 +203,10 @@ public class JavaFxDrawings implements Drawings {
      * {@inheritDoc}
      */
     @Override
-    public void drawHoleLowerPart(final GameObject object) {
+    public void paintHoleLowerPart(final double x, final double y) {
         gc.drawImage(imagesCache.getHoleLowerPartImage(), 
-                    (object.getCoor().getX() - HOLE_WIDTH / 2) * dimention / coefficient, 
-                    object.getCoor().getY() * dimention / coefficient,
+                    (x - HOLE_WIDTH / 2) * dimention / coefficient, 
+                    y * dimention / coefficient,
                     HOLE_WIDTH *  dimention / coefficient,
                     HEIGHT_LOWER_PART *  dimention / coefficient);
     }
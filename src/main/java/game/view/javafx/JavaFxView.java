@@ -10,6 +10,7 @@ import game.ControllerImpl;
 import game.controlling.Input;
 import game.controlling.KeyboardInput;
 import game.engine.gameobject.GameObject;
+import game.profiling.FrameProfiler;
 import game.view.javafx.viewstate.GameOverState;
 import game.view.javafx.viewstate.ViewStateMenu;
 import game.view.javafx.viewstate.gamestate.GameState;
@@ -74,8 +75,16 @@ public final class JavaFxView extends Application implements JavaFxViewCoordinat
      */
     @Override
     public void render(final List<List<GameObject>> objectsList) {
+        render(objectsList, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void render(final List<List<GameObject>> objectsList, final double alpha) {
         if (gameState.isPresent()) {
-            gameState.get().refresh(objectsList, stage.getScene(), controller.getFieldHeight());
+            gameState.get().refresh(objectsList, stage.getScene(), controller.getFieldHeight(), alpha);
         }
     }
 
@@ -122,8 +131,16 @@ public final class JavaFxView extends Application implements JavaFxViewCoordinat
 
     @Override
     public Input getInput() {
+        return pollInput(System.nanoTime());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Input pollInput(final long upToNanos) {
         if (gameState.isPresent()) {
-            return gameState.get().getInput();
+            return gameState.get().pollInput(upToNanos);
         }
         return new KeyboardInput();
     }
@@ -164,4 +181,12 @@ public final class JavaFxView extends Application implements JavaFxViewCoordinat
     public Map<Timestamp, Long> getStats() {
         return controller.getStats();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FrameProfiler getProfiler() {
+        return controller.getProfiler();
+    }
 }
@@ -4,6 +4,7 @@ import java.sql.Timestamp;
 import java.util.Map;
 import java.util.Optional;
 
+import game.profiling.FrameProfiler;
 import game.view.View;
 import game.view.javafx.viewstate.gamestate.GameState;
 /**
@@ -41,4 +42,12 @@ public interface JavaFxViewCoordinator extends View {
      * @return the save data.
      */
     Map<Timestamp, Long> getStats();
+
+    /**
+     * Getter for the timings of the game loop, to show them and to add the ones
+     * of the drawing.
+     * 
+     * @return the profiler of the game.
+     */
+    FrameProfiler getProfiler();
 }
@@ -12,19 +12,26 @@ import javafx.scene.Scene;
  */
 public interface GameState extends ViewState {
     /**
-     * Method to refresh the view.
+     * Method to refresh the view, it records the objects to display on the
+     * calling thread and they are drawn on the JavaFX thread later, so the
+     * objects can change as soon as it returns.
      * 
      * @param objectList       the new list of object to display.
      * @param scene            the scene to update.
      * @param heightCoefficent the height in points of the game field that the view
      *                         shall display.
+     * @param alpha            the fraction of simulation step elapsed since the
+     *                         last update, to interpolate the objects positions.
      */
-    void refresh(List<List<GameObject>> objectList, Scene scene, int heightCoefficent);
+    void refresh(List<List<GameObject>> objectList, Scene scene, int heightCoefficent, double alpha);
 
     /**
-     * Method to get the {@link Input} created by the view.
+     * Method to get the {@link Input} with the key events happened up to the
+     * given instant applied, it must be called always by the game thread. The
+     * same instance is returned at each call and updated in place.
      * 
+     * @param upToNanos the instant of the end of the tick in nanoseconds.
      * @return the {@link Input} created by the view.
      */
-    Input getInput();
+    Input pollInput(long upToNanos);
 }
@@ -4,18 +4,25 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import api.Point2D;
+import api.TripleBuffer;
 import game.controlling.Input;
+import game.controlling.InputEventQueue;
+import game.controlling.InputKey;
 import game.controlling.KeyboardInput;
 import game.engine.gameobject.GameObject;
-import game.view.Drawings;
+import game.profiling.FramePhase;
+import game.profiling.FrameProfiler;
 import game.view.ImagesCache;
+import game.view.RenderFrame;
 import game.view.javafx.JavaFxDrawings;
 import game.view.javafx.JavaFxViewCoordinator;
-import javafx.application.Platform;
+import javafx.animation.AnimationTimer;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundImage;
 import javafx.scene.layout.BackgroundPosition;
@@ -37,6 +44,9 @@ import javafx.stage.Stage;
  * horizontally),
  * and each container is organized into a gridpane, its sizes are proportional
  * to the active minigames number.
+ * The game thread records each frame into a {@link TripleBuffer} of
+ * {@link RenderFrame}s, the JavaFX thread paints the newest one at each pulse.
+ * A {@link PerformanceHud} can be shown on top of the game with F3.
  */
 public class GameStateImpl implements GameState {
     private static final int ASPECT_WIDTH = 16;
@@ -48,9 +58,15 @@ public class GameStateImpl implements GameState {
     private static final List<Color> BACKGROUND_COLORS = List.of(Color.YELLOW, Color.WHITE, Color.CYAN, Color.MAGENTA);
     private final List<Canvas> minigameCanvases = new ArrayList<>();
 
-    private final Input input;
+    private final InputEventQueue inputEvents = new InputEventQueue();
+    private final Input input = new KeyboardInput();
     private final GridPane gp;
+    private final StackPane root;
     private final ImagesCache imagesCache;
+    private final FrameProfiler profiler;
+    private final PerformanceHud hud;
+    private final TripleBuffer<RenderFrame> frames = new TripleBuffer<>(RenderFrame::new);
+    private final AnimationTimer painter;
 
     /**
      * Constructor to initialize the state.
@@ -59,7 +75,6 @@ public class GameStateImpl implements GameState {
      * @param scene the {@link Scene} where this state will be applied.
      */
     public GameStateImpl(final JavaFxViewCoordinator jView, final Scene scene) {
-        this.input = new KeyboardInput();
         jView.setGameState(Optional.of(this));
         final Canvas canvas = new Canvas(START_WINDOW_WIDTH, START_WINDOW_HEIGHT);
         gp = new GridPane();
@@ -81,8 +96,26 @@ public class GameStateImpl implements GameState {
                 newValue) -> {
             minigameCanvases.forEach(c -> c.setHeight(boxHeight(scene)));
         });
-        new InputButtonsImpl().attach(scene, input);
+        new InputButtonsImpl().attach(scene, inputEvents);
         this.imagesCache = new ImagesCache();
+        this.profiler = jView.getProfiler();
+        this.hud = new PerformanceHud(profiler);
+        hud.getCanvas().widthProperty().bind(scene.widthProperty());
+        hud.getCanvas().heightProperty().bind(scene.heightProperty());
+        this.root = new StackPane(gp, hud.getCanvas());
+        this.painter = new AnimationTimer() {
+            @Override
+            public void handle(final long now) {
+                if (frames.acquire()) {
+                    paint(frames.getReadBuffer(), scene);
+                }
+            }
+        };
+        scene.addEventHandler(KeyEvent.KEY_PRESSED, e -> {
+            if (e.getCode().equals(KeyCode.F3)) {
+                hud.toggle();
+            }
+        });
     }
 
     /**
@@ -91,60 +124,71 @@ public class GameStateImpl implements GameState {
     @Override
     public void display(final JavaFxViewCoordinator jView, final Stage stage) {
         new Thread(() -> jView.gameStarter()).start();
-        stage.getScene().setRoot(gp);
+        stage.getScene().setRoot(root);
+        painter.start();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void refresh(final List<List<GameObject>> objectsList, final Scene scene, final int heightCoefficent) {
-        Platform.runLater(() -> {
-            while (objectsList.size() > minigameCanvases.size()) {
-                final Canvas c = new Canvas();
-                input.reset();
-                minigameCanvases.add(c);
-                final StackPane container = new StackPane(c);
-                gp.add(container,
-                        (minigameCanvases.size() - 1) % 2, (minigameCanvases.size() - 1) / 2);
-                setGridNumbers(gp, gp.getRowCount(), gp.getColumnCount());
-            }
-            if (objectsList.size() < minigameCanvases.size()) {
-                minigameCanvases.remove(minigameCanvases.size() - 1);
-            }
-            if (!minigameCanvases.isEmpty()) {
-                minigameCanvases.forEach(c -> {
-                    final GraphicsContext gc = c.getGraphicsContext2D();
-                    c.setHeight(boxHeight(scene));
-                    c.setWidth(boxWidth(scene));
-
-                    gc.clearRect(0, 0, c.getWidth(), c.getHeight());
-                    gc.setStroke(Color.BLACK);
-                    gc.strokeRect(
-                            /*
-                             * coordinates of the upper left corner of rectangle: the
-                             * last addendum is necessary to enter the right play field
-                             */
-                            getStartingPoint(scene).getX(),
-                            getStartingPoint(scene).getY(),
-                            boxWidth(scene),
-                            boxHeight(scene));
-                    gc.setFill(BACKGROUND_COLORS.size() > minigameCanvases.indexOf(c)
-                            ? BACKGROUND_COLORS.get(minigameCanvases.indexOf(c))
-                            : BACKGROUND_COLORS.get(BACKGROUND_COLORS.size() - 1));
-                    gc.fillRect(
-                            getStartingPoint(scene).getX(),
-                            getStartingPoint(scene).getY(),
-                            boxWidth(scene),
-                            boxHeight(scene));
-                    Drawings d;
-                    d = new JavaFxDrawings(c, this.getStartingPoint(scene), this.boxHeight(scene),
-                                heightCoefficent, this.imagesCache);
-                    objectsList.get(minigameCanvases.indexOf(c)).forEach(o -> o.updateAspect(d));
-                });
-            }
-        });
+    public void refresh(final List<List<GameObject>> objectsList, final Scene scene, final int heightCoefficent,
+            final double alpha) {
+        /* the height travels with the frame, that is published to the JavaFX thread */
+        frames.getWriteBuffer().record(objectsList, heightCoefficent, alpha);
+        frames.publish();
+    }
 
+    /**
+     * Paints a frame, on the JavaFX thread.
+     * 
+     * @param frame the frame to paint.
+     * @param scene the scene that contains the canvases.
+     */
+    private void paint(final RenderFrame frame, final Scene scene) {
+        final long drawStart = System.nanoTime();
+        while (frame.getMinigames() > minigameCanvases.size()) {
+            final Canvas c = new Canvas();
+            inputEvents.offer(System.nanoTime(), InputKey.RESET, false);
+            minigameCanvases.add(c);
+            final StackPane container = new StackPane(c);
+            gp.add(container,
+                    (minigameCanvases.size() - 1) % 2, (minigameCanvases.size() - 1) / 2);
+            setGridNumbers(gp, gp.getRowCount(), gp.getColumnCount());
+        }
+        if (frame.getMinigames() < minigameCanvases.size()) {
+            minigameCanvases.remove(minigameCanvases.size() - 1);
+        }
+        for (int i = 0; i < frame.getMinigames(); i++) {
+            final Canvas c = minigameCanvases.get(i);
+            final GraphicsContext gc = c.getGraphicsContext2D();
+            c.setHeight(boxHeight(scene));
+            c.setWidth(boxWidth(scene));
+
+            gc.clearRect(0, 0, c.getWidth(), c.getHeight());
+            gc.setStroke(Color.BLACK);
+            gc.strokeRect(
+                    /*
+                     * coordinates of the upper left corner of rectangle: the
+                     * last addendum is necessary to enter the right play field
+                     */
+                    getStartingPoint(scene).getX(),
+                    getStartingPoint(scene).getY(),
+                    boxWidth(scene),
+                    boxHeight(scene));
+            gc.setFill(BACKGROUND_COLORS.size() > i
+                    ? BACKGROUND_COLORS.get(i)
+                    : BACKGROUND_COLORS.get(BACKGROUND_COLORS.size() - 1));
+            gc.fillRect(
+                    getStartingPoint(scene).getX(),
+                    getStartingPoint(scene).getY(),
+                    boxWidth(scene),
+                    boxHeight(scene));
+            frame.paint(i, new JavaFxDrawings(c, this.getStartingPoint(scene), this.boxHeight(scene),
+                    frame.getFieldHeight(), this.imagesCache));
+        }
+        profiler.record(FramePhase.DRAW, System.nanoTime() - drawStart);
+        hud.draw(frame);
     }
 
     private void setGridNumbers(final GridPane gp, final int rows, final int cols) {
@@ -169,8 +213,9 @@ public class GameStateImpl implements GameState {
      * {@inheritDoc}
      */
     @Override
-    public Input getInput() {
-        return input.clone();
+    public Input pollInput(final long upToNanos) {
+        inputEvents.drainTo(input, upToNanos);
+        return input;
     }
 
     /**
@@ -1,6 +1,6 @@
 package game.view.javafx.viewstate.gamestate;
 
-import game.controlling.Input;
+import game.controlling.InputEventQueue;
 import javafx.scene.Scene;
 
 /**
@@ -11,8 +11,8 @@ public interface InputButtons {
      * To actuate the attachment to a specific scene.
      * 
      * @param scene the {@link Scene} that will be attached.
-     * @param input the {@link Input} that will be edited.
+     * @param queue the {@link InputEventQueue} where the key events are sent.
      */
-    void attach(Scene scene, Input input);
+    void attach(Scene scene, InputEventQueue queue);
 
 }
@@ -1,7 +1,8 @@
 package game.view.javafx.viewstate.gamestate;
 
 import java.util.Optional;
-import game.controlling.Input;
+import game.controlling.InputEventQueue;
+import game.controlling.InputKey;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
@@ -19,59 +20,79 @@ public class InputButtonsImpl implements InputButtons {
     private static final int NUMPAD_NINE = 105;
     private static final int KEYCODE_NUMPAD_DIFF = 96;
     private static final int DIFF = 6;
+    private static final int NO_NUMBER = 0;
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void attach(final Scene scene, final Input input) {
-        scene.addEventHandler(KeyEvent.KEY_PRESSED, e -> {
-            if (e.getCode().equals(KeyCode.W)) {
-                input.setMoveUp(true);
-            } else if (e.getCode().equals(KeyCode.A)) {
-                input.setMoveLeft(true);
-            } else if (e.getCode().equals(KeyCode.S)) {
-                input.setMoveDown(true);
-            } else if (e.getCode().equals(KeyCode.D)) {
-                input.setMoveRight(true);
-            } else if (e.getCode().getCode() >= ONE_BUTTON && e.getCode().getCode() <= NINE_BUTTON) {
-                input.setNumberPressed(Optional.of(e.getCode().getCode() - KEYCODE_NUM_DIFF));
-            } else if (e.getCode().getCode() >= NUMPAD_FOUR && e.getCode().getCode() <= NUMPAD_SIX) {
-                input.setNumberPressed(Optional.of(e.getCode().getCode() - KEYCODE_NUMPAD_DIFF));
-            } else if (e.getCode().getCode() >= NUMPAD_ONE && e.getCode().getCode() < NUMPAD_FOUR) {
-                /* Since the placement of the numbers on the numpad is        */
-                /* counterintuitive for the purposes of the Whac-a-Mole game, */
-                /* I consider the layout rather than the numbers on the keys  */
-                input.setNumberPressed(Optional.of(e.getCode().getCode() + DIFF - KEYCODE_NUMPAD_DIFF));
-            } else if (e.getCode().getCode() > NUMPAD_SIX && e.getCode().getCode() <= NUMPAD_NINE) {
-                input.setNumberPressed(Optional.of(e.getCode().getCode() - DIFF - KEYCODE_NUMPAD_DIFF));
-            } else if (e.getCode().equals(KeyCode.SPACE)) {
-                input.setJump(true);
-            } else if (e.getCode().equals(KeyCode.UP)) {
-                input.setForward(true);
-            } else if (e.getCode().equals(KeyCode.DOWN)) {
-                input.setBackwards(true);
-            }
-        });
-        scene.addEventHandler(KeyEvent.KEY_RELEASED, e -> {
-            if (e.getCode().equals(KeyCode.W)) {
-                input.setMoveUp(false);
-            } else if (e.getCode().equals(KeyCode.A)) {
-                input.setMoveLeft(false);
-            } else if (e.getCode().equals(KeyCode.S)) {
-                input.setMoveDown(false);
-            } else if (e.getCode().equals(KeyCode.D)) {
-                input.setMoveRight(false);
-            } else if (e.getCode().getCode() >= ONE_BUTTON && e.getCode().getCode() <= NINE_BUTTON
-                    || e.getCode().getCode() >= NUMPAD_ONE && e.getCode().getCode() <= NUMPAD_NINE) {
-                input.setNumberPressed(Optional.empty());
-            } else if (e.getCode().equals(KeyCode.SPACE)) {
-                input.setJump(false);
-            } else if (e.getCode().equals(KeyCode.UP)) {
-                input.setForward(false);
-            } else if (e.getCode().equals(KeyCode.DOWN)) {
-                input.setBackwards(false);
-            }
-        });
+    public void attach(final Scene scene, final InputEventQueue queue) {
+        scene.addEventHandler(KeyEvent.KEY_PRESSED, e -> send(queue, e.getCode(), true));
+        scene.addEventHandler(KeyEvent.KEY_RELEASED, e -> send(queue, e.getCode(), false));
+    }
+
+    /**
+     * Sends to the queue the event of a key, if it is used by the game.
+     * 
+     * @param queue   the queue of the events.
+     * @param code    the code of the key.
+     * @param pressed whether the key was pressed or released.
+     */
+    private void send(final InputEventQueue queue, final KeyCode code, final boolean pressed) {
+        final long time = System.nanoTime();
+        final int number = number(code);
+        if (number != NO_NUMBER) {
+            queue.offer(time, InputKey.NUMBER, pressed, number);
+        } else {
+            key(code).ifPresent(k -> queue.offer(time, k, pressed));
+        }
+    }
+
+    /**
+     * Method to get the key of the game a key code is mapped to.
+     * 
+     * @param code the code of the key.
+     * @return the key of the game, if the code is mapped.
+     */
+    private Optional<InputKey> key(final KeyCode code) {
+        if (code.equals(KeyCode.W)) {
+            return Optional.of(InputKey.UP);
+        } else if (code.equals(KeyCode.A)) {
+            return Optional.of(InputKey.LEFT);
+        } else if (code.equals(KeyCode.S)) {
+            return Optional.of(InputKey.DOWN);
+        } else if (code.equals(KeyCode.D)) {
+            return Optional.of(InputKey.RIGHT);
+        } else if (code.equals(KeyCode.SPACE)) {
+            return Optional.of(InputKey.JUMP);
+        } else if (code.equals(KeyCode.UP)) {
+            return Optional.of(InputKey.FORWARD);
+        } else if (code.equals(KeyCode.DOWN)) {
+            return Optional.of(InputKey.BACKWARDS);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Method to get the number a key code is mapped to.
+     * 
+     * @param code the code of the key.
+     * @return the number of the key, or {@value #NO_NUMBER} if it isn't a number.
+     */
+    private int number(final KeyCode code) {
+        final int c = code.getCode();
+        if (c >= ONE_BUTTON && c <= NINE_BUTTON) {
+            return c - KEYCODE_NUM_DIFF;
+        } else if (c >= NUMPAD_FOUR && c <= NUMPAD_SIX) {
+            return c - KEYCODE_NUMPAD_DIFF;
+        } else if (c >= NUMPAD_ONE && c < NUMPAD_FOUR) {
+            /* Since the placement of the numbers on the numpad is        */
+            /* counterintuitive for the purposes of the Whac-a-Mole game, */
+            /* I consider the layout rather than the numbers on the keys  */
+            return c + DIFF - KEYCODE_NUMPAD_DIFF;
+        } else if (c > NUMPAD_SIX && c <= NUMPAD_NINE) {
+            return c - DIFF - KEYCODE_NUMPAD_DIFF;
+        }
+        return NO_NUMBER;
     }
 }
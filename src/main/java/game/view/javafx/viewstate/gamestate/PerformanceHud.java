@@ -0,0 +1,107 @@
+package game.view.javafx.viewstate.gamestate;
+
+import game.profiling.FramePhase;
+import game.profiling.FrameProfiler;
+import game.profiling.LatencyHistogram;
+import game.view.RenderFrame;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+/**
+ * Overlay that shows the performance of the game: frame rate, timings of each
+ * phase of the frame, a graph of the last frame times and the number of
+ * objects of each minigame.
+ */
+public class PerformanceHud {
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double MARGIN = 10;
+    private static final double LINE_HEIGHT = 16;
+    private static final double WIDTH = 360;
+    private static final double GRAPH_HEIGHT = 60;
+    private static final double GRAPH_MAX_MILLIS = 50;
+    private static final double TARGET_MILLIS = 1000 / 60d;
+    private static final double P50 = 50;
+    private static final double P99 = 99;
+    private static final double BACKGROUND_OPACITY = 0.6;
+    private static final int FONT_SIZE = 13;
+    private final Canvas canvas = new Canvas();
+    private final FrameProfiler profiler;
+    private boolean visible;
+
+    /**
+     * Constructor, the overlay starts hidden.
+     * 
+     * @param profiler the source of the timings to show.
+     */
+    public PerformanceHud(final FrameProfiler profiler) {
+        this.profiler = profiler;
+        canvas.setMouseTransparent(true);
+        canvas.setVisible(false);
+    }
+
+    /**
+     * Getter for the canvas to add on top of the game.
+     * 
+     * @return the canvas of the overlay.
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Shows the overlay if it's hidden and hides it otherwise.
+     */
+    public void toggle() {
+        visible = !visible;
+        canvas.setVisible(visible);
+    }
+
+    /**
+     * Draws the overlay, if visible, must be called on the JavaFX thread.
+     * 
+     * @param frame the frame just painted, to count its objects.
+     */
+    public void draw(final RenderFrame frame) {
+        if (!visible) {
+            return;
+        }
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        final int lines = 1 + FramePhase.values().length + frame.getMinigames();
+        gc.setFill(Color.gray(0, BACKGROUND_OPACITY));
+        gc.fillRect(0, 0, WIDTH, MARGIN * 3 + LINE_HEIGHT * lines + GRAPH_HEIGHT);
+        gc.setFont(Font.font("Monospaced", FONT_SIZE));
+        gc.setFill(Color.WHITE);
+        double y = MARGIN + LINE_HEIGHT;
+        gc.fillText(String.format("FPS %.1f", profiler.getFps()), MARGIN, y);
+        for (final FramePhase phase : FramePhase.values()) {
+            y += LINE_HEIGHT;
+            final LatencyHistogram h = profiler.getHistogram(phase);
+            gc.fillText(String.format("%-8s p50 %6.2f  p99 %6.2f  max %6.2f ms", phase,
+                    h.getPercentile(P50) / NANOS_PER_MILLI, h.getPercentile(P99) / NANOS_PER_MILLI,
+                    h.getMax() / NANOS_PER_MILLI), MARGIN, y);
+        }
+        for (int i = 0; i < frame.getMinigames(); i++) {
+            y += LINE_HEIGHT;
+            gc.fillText("minigame " + (i + 1) + ": " + frame.getObjectCount(i) + " objects", MARGIN, y);
+        }
+        drawGraph(gc, y + MARGIN);
+    }
+
+    private void drawGraph(final GraphicsContext gc, final double top) {
+        final long[] times = profiler.getRecentFrameTimes();
+        final double bottom = top + GRAPH_HEIGHT;
+        final double barWidth = (WIDTH - 2 * MARGIN) / Math.max(times.length, 1);
+        for (int i = 0; i < times.length; i++) {
+            final double millis = times[i] / NANOS_PER_MILLI;
+            final double height = Math.min(millis / GRAPH_MAX_MILLIS, 1) * GRAPH_HEIGHT;
+            gc.setFill(millis > TARGET_MILLIS ? Color.ORANGERED : Color.LIMEGREEN);
+            gc.fillRect(MARGIN + i * barWidth, bottom - height, barWidth, height);
+        }
+        final double target = bottom - TARGET_MILLIS / GRAPH_MAX_MILLIS * GRAPH_HEIGHT;
+        gc.setStroke(Color.WHITE);
+        gc.strokeLine(MARGIN, target, WIDTH - MARGIN, target);
+    }
+}
@@ -0,0 +1,45 @@
+package controllertest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import game.FixedStepClock;
+
+/**
+ * Class to check the {@link FixedStepClock} accumulator.
+ */
+class FixedStepClockTest {
+    private static final long STEP = 5_000_000L;
+    private static final int MAX_STEPS = 4;
+    private static final long START = 1_000L;
+    private static final double DELTA = 1e-9;
+
+    /**
+     * The time not enough for a whole step is kept for the next frames.
+     */
+    @Test
+    void accumulates() {
+        final FixedStepClock clock = new FixedStepClock(STEP, MAX_STEPS);
+        clock.reset(START);
+        assertEquals(0, clock.advance(START + STEP / 2));
+        assertEquals(0.5, clock.getAlpha(), DELTA);
+        assertEquals(1, clock.advance(START + STEP));
+        assertEquals(0, clock.getAlpha(), DELTA);
+        assertEquals(2, clock.advance(START + STEP * 3 + STEP / 4));
+        assertEquals(0.25, clock.getAlpha(), DELTA);
+    }
+
+    /**
+     * A very long frame is capped and the exceeding time is dropped.
+     */
+    @Test
+    void spiralOfDeathCap() {
+        final FixedStepClock clock = new FixedStepClock(STEP, MAX_STEPS);
+        clock.reset(START);
+        assertEquals(MAX_STEPS, clock.advance(START + STEP * MAX_STEPS * 10));
+        assertTrue(clock.getAlpha() < 1);
+        assertEquals(1, clock.advance(START + STEP * MAX_STEPS * 10 + STEP));
+    }
+}
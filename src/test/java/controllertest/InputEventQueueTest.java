@@ -0,0 +1,90 @@
+package controllertest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import game.controlling.Input;
+import game.controlling.InputEventQueue;
+import game.controlling.InputKey;
+import game.controlling.KeyboardInput;
+
+/**
+ * Class to check how the {@link InputEventQueue} applies the key events.
+ */
+class InputEventQueueTest {
+    private static final long TICK = 10L;
+    private static final int CAPACITY = 4;
+    private static final int FIRST = 3;
+    private static final int SECOND = 5;
+
+    /**
+     * Only the events happened before the end of the tick are applied.
+     */
+    @Test
+    void drainsUpToTime() {
+        final InputEventQueue queue = new InputEventQueue();
+        final Input input = new KeyboardInput();
+        queue.offer(TICK / 2, InputKey.UP, true);
+        queue.offer(TICK + 1, InputKey.JUMP, true);
+        assertEquals(1, queue.drainTo(input, TICK));
+        assertTrue(input.isMoveUp());
+        assertFalse(input.isJump());
+        assertEquals(1, queue.drainTo(input, TICK * 2));
+        assertTrue(input.isJump());
+    }
+
+    /**
+     * A key pressed and released within the same tick is seen for one tick.
+     */
+    @Test
+    void tapLastsOneTick() {
+        final InputEventQueue queue = new InputEventQueue();
+        final Input input = new KeyboardInput();
+        queue.offer(1, InputKey.LEFT, true);
+        queue.offer(2, InputKey.LEFT, false);
+        queue.drainTo(input, TICK);
+        assertTrue(input.isMoveLeft());
+        queue.drainTo(input, TICK * 2);
+        assertFalse(input.isMoveLeft());
+        assertEquals(0, queue.size());
+    }
+
+    /**
+     * Releasing a number clears it only if it is still the last pressed.
+     */
+    @Test
+    void numbers() {
+        final InputEventQueue queue = new InputEventQueue();
+        final Input input = new KeyboardInput();
+        queue.offer(1, InputKey.NUMBER, true, FIRST);
+        queue.drainTo(input, TICK);
+        queue.offer(TICK + 1, InputKey.NUMBER, true, SECOND);
+        queue.offer(TICK + 2, InputKey.NUMBER, false, FIRST);
+        queue.drainTo(input, TICK * 2);
+        assertEquals(Optional.of(SECOND), input.getNumberPressed());
+        queue.offer(TICK * 2 + 1, InputKey.RESET, false);
+        queue.drainTo(input, TICK * 3);
+        assertEquals(Optional.empty(), input.getNumberPressed());
+    }
+
+    /**
+     * When events are lost because the queue is full no key remains pressed.
+     */
+    @Test
+    void overflowReleasesKeys() {
+        final InputEventQueue queue = new InputEventQueue(CAPACITY);
+        final Input input = new KeyboardInput();
+        queue.offer(1, InputKey.RIGHT, true);
+        for (int i = 0; i < CAPACITY; i++) {
+            queue.offer(2, InputKey.FORWARD, i % 2 == 0);
+        }
+        queue.drainTo(input, TICK);
+        assertFalse(input.isMoveRight());
+        assertFalse(input.isForward());
+    }
+}
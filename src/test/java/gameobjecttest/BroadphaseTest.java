@@ -0,0 +1,69 @@
+package gameobjecttest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import api.Point2D;
+import api.Vector2D;
+import game.engine.gameobject.GameObject;
+import game.engine.gameobject.ObjectStore;
+import game.engine.gameobject.hitboxmodel.Broadphase;
+import game.engine.gameobject.hitboxmodel.BruteForceBroadphase;
+import game.engine.gameobject.hitboxmodel.Collider;
+import game.engine.gameobject.hitboxmodel.ColliderImpl;
+import game.engine.gameobject.hitboxmodel.RectangleHitBoxModel;
+import game.engine.gameobject.hitboxmodel.SpatialHashGrid;
+import game.engine.gameobject.hitboxmodel.SweepAndPrune;
+
+/**
+ * Class to check that the broadphases don't miss any collision.
+ */
+class BroadphaseTest {
+    private static final int HEIGHT = 900;
+    private static final int OBJECTS = 300;
+    private static final int SIZE = 150;
+    private static final int SPEED = 200;
+    private static final long SEED = 5;
+    private static final long DT = 16;
+    private static final int TICKS = 20;
+
+    /**
+     * The broadphases give the same collisions as the plain check of the store,
+     * also for objects outside the field and larger than a cell, while the
+     * objects move and leave the store.
+     */
+    @Test
+    void sameCollisionsAsBruteForce() {
+        final Random r = new Random(SEED);
+        final ObjectStore store = new ObjectStore();
+        for (int i = 0; i < OBJECTS; i++) {
+            final GameObject o = new GameObject(new Point2D(r.nextInt(-SIZE, HEIGHT * 2), r.nextInt(-SIZE, HEIGHT)),
+                    new Vector2D(r.nextInt(-SPEED, SPEED), r.nextInt(-SPEED, SPEED)));
+            o.setHitBoxModel(new RectangleHitBoxModel(r.nextInt(SIZE) + 1, r.nextInt(SIZE) + 1));
+            store.add(o);
+        }
+        final Collider collider = new ColliderImpl();
+        final List<Broadphase> broadphases = List.of(new BruteForceBroadphase(), new SpatialHashGrid(HEIGHT),
+                new SweepAndPrune());
+        final BitSet expected = new BitSet();
+        final BitSet actual = new BitSet();
+        for (int t = 0; t < TICKS; t++) {
+            store.integrate(DT);
+            store.remove(store.get(r.nextInt(store.size())));
+            for (final Broadphase b : broadphases) {
+                b.update(store);
+                for (int i = 0; i < store.size(); i++) {
+                    collider.collide(store.get(i), store, expected);
+                    assertEquals(expected, collider.collide(store.get(i), store, b, actual));
+                }
+                assertTrue(b.getCandidates() >= store.size());
+            }
+        }
+    }
+}
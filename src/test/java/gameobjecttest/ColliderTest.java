@@ -0,0 +1,274 @@
+package gameobjecttest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import api.Point2D;
+import api.Vector2D;
+import game.engine.gameobject.GameObject;
+import game.engine.gameobject.ObjectStore;
+import game.engine.gameobject.hitboxmodel.BruteForceBroadphase;
+import game.engine.gameobject.hitboxmodel.CircleHitBoxModel;
+import game.engine.gameobject.hitboxmodel.Collider;
+import game.engine.gameobject.hitboxmodel.ColliderImpl;
+import game.engine.gameobject.hitboxmodel.RectangleHitBoxModel;
+import game.engine.gameobject.hitboxmodel.SquareHitBoxModel;
+import game.engine.gameobject.hitboxmodel.TriangleHitBoxModel;
+
+/**
+ * Class to check the collisions computed on the cached bounding boxes.
+ */
+class ColliderTest {
+    private static final int OBJECTS = 200;
+    private static final int FIELD = 1000;
+    private static final int SIZE = 60;
+    private static final long SEED = 3;
+    private static final long DT = 16;
+    private static final double SIDE = 10;
+    private static final double STEP = 100;
+    private static final double DELTA = 1e-9;
+    private static final int SHAPES = 3;
+
+    private final Collider collider = new ColliderImpl();
+
+    /**
+     * The batch check of a store gives the same pairs as the single checks,
+     * also after the store has moved the objects.
+     */
+    @Test
+    void batchMatchesPairs() {
+        final Random r = new Random(SEED);
+        final ObjectStore store = new ObjectStore();
+        final List<GameObject> objects = new ArrayList<>();
+        for (int i = 0; i < OBJECTS; i++) {
+            final GameObject o = new GameObject(new Point2D(r.nextInt(FIELD), r.nextInt(FIELD)),
+                    new Vector2D(r.nextInt(SIZE) - SIZE / 2, r.nextInt(SIZE) - SIZE / 2));
+            o.setHitBoxModel(i % 2 == 0
+                    ? new CircleHitBoxModel(r.nextInt(SIZE) + 1)
+                    : new RectangleHitBoxModel(r.nextInt(SIZE) + 1, r.nextInt(SIZE) + 1));
+            store.add(o);
+            objects.add(o);
+        }
+        final GameObject probe = new GameObject(new Point2D(FIELD / 2, FIELD / 2), Vector2D.nullVector());
+        probe.setHitBoxModel(new CircleHitBoxModel(FIELD / 4));
+        final BitSet hits = new BitSet();
+        for (int step = 0; step < 2; step++) {
+            collider.collide(probe, store, hits);
+            for (int i = 0; i < store.size(); i++) {
+                assertEquals(collider.isColliding(probe, store.get(i)), hits.get(i));
+            }
+            assertEquals(hits.cardinality(), collider.collide(probe, objects, new BitSet()).cardinality());
+            store.integrate(DT);
+        }
+    }
+
+    /**
+     * The box follows the object when it moves and when its hitbox is resized.
+     */
+    @Test
+    void boxFollowsObject() {
+        final GameObject circle = new GameObject(Point2D.origin(), Vector2D.nullVector());
+        circle.setHitBoxModel(new CircleHitBoxModel(SIDE));
+        final RectangleHitBoxModel hitBox = new RectangleHitBoxModel(SIDE, SIDE);
+        final GameObject rectangle = new GameObject(new Point2D(SIDE * 2, 0), Vector2D.nullVector());
+        rectangle.setHitBoxModel(hitBox);
+        assertFalse(collider.isColliding(circle, rectangle));
+        rectangle.setCoor(SIDE, SIDE);
+        assertTrue(collider.isColliding(circle, rectangle));
+        /* the boxes touch, but the corner is farther than the radius */
+        rectangle.setCoor(SIDE * 1.5, SIDE * 1.5);
+        assertFalse(collider.isColliding(circle, rectangle));
+        hitBox.setSize(SIDE * 2, SIDE * 2);
+        rectangle.setHitBoxModel(hitBox);
+        assertEquals(SIDE / 2, rectangle.getMinX());
+        assertTrue(collider.isColliding(circle, rectangle));
+    }
+
+    /**
+     * A thin wall that crosses a circle in a single step is found by the swept
+     * test, at the time its side reaches the circle, but not by the test of the
+     * current positions.
+     */
+    @Test
+    void sweptCatchesTunneling() {
+        final GameObject circle = new GameObject(Point2D.origin(), Vector2D.nullVector());
+        circle.setHitBoxModel(new CircleHitBoxModel(SIDE));
+        final ObjectStore walls = new ObjectStore();
+        final GameObject wall = new GameObject(new Point2D(-STEP / 2, 0), Vector2D.nullVector());
+        wall.setHitBoxModel(new RectangleHitBoxModel(2, SIDE * 2));
+        walls.add(wall);
+        wall.setCoor(STEP / 2, 0);
+        assertFalse(collider.isColliding(circle, wall));
+        assertEquals((STEP / 2 - 1 - SIDE) / STEP, collider.timeOfImpact(circle, wall), DELTA);
+        assertEquals(collider.timeOfImpact(circle, wall), collider.timeOfImpact(wall, circle), DELTA);
+        final BruteForceBroadphase broadphase = new BruteForceBroadphase();
+        broadphase.update(walls);
+        assertTrue(collider.sweep(circle, walls, broadphase, new BitSet()).get(wall.getSlot()));
+        /* passing beside the corner, out of the radius */
+        wall.storePreviousCoor();
+        wall.setCoor(-STEP / 2, SIDE * 2 + 1);
+        wall.storePreviousCoor();
+        wall.setCoor(STEP / 2, SIDE * 2 + 1);
+        assertEquals(Collider.NO_IMPACT, collider.timeOfImpact(circle, wall));
+    }
+
+    /**
+     * Two rectangles that start overlapped hit at the start of the step, and
+     * the ones that move side by side, touching, don't hit.
+     */
+    @Test
+    void sweptRectangles() {
+        final GameObject still = new GameObject(Point2D.origin(), Vector2D.nullVector());
+        still.setHitBoxModel(new RectangleHitBoxModel(SIDE, SIDE));
+        final GameObject moving = new GameObject(new Point2D(SIDE / 2, 0), Vector2D.nullVector());
+        moving.setHitBoxModel(new RectangleHitBoxModel(SIDE, SIDE));
+        moving.setCoor(STEP, 0);
+        assertEquals(0, collider.timeOfImpact(moving, still));
+        moving.setCoor(-STEP, SIDE);
+        moving.storePreviousCoor();
+        moving.setCoor(STEP, SIDE);
+        assertEquals(Collider.NO_IMPACT, collider.timeOfImpact(moving, still));
+        moving.setCoor(STEP, SIDE / 2);
+        assertEquals((STEP - SIDE) / (STEP * 2), collider.timeOfImpact(moving, still), DELTA);
+    }
+
+    /**
+     * A triangle that crosses a square in a single step is found by the swept
+     * test, at the time they start to overlap, and so is a triangle crossing
+     * another one.
+     */
+    @Test
+    void sweptTriangles() {
+        final GameObject square = new GameObject(Point2D.origin(), Vector2D.nullVector());
+        square.setHitBoxModel(new SquareHitBoxModel(SIDE));
+        final GameObject triangle = new GameObject(new Point2D(-STEP, 0), Vector2D.nullVector());
+        triangle.setHitBoxModel(new TriangleHitBoxModel(SIDE * 2, 0));
+        triangle.setCoor(STEP, 0);
+        assertFalse(collider.isColliding(square, triangle));
+        final double t = collider.timeOfImpact(triangle, square);
+        assertTrue(t > 0 && t < 1);
+        assertEquals(t, collider.timeOfImpact(square, triangle), DELTA);
+        triangle.setCoor(-STEP + 2 * STEP * (t - DELTA), 0);
+        assertFalse(collider.isColliding(square, triangle));
+        triangle.setCoor(-STEP + 2 * STEP * (t + DELTA), 0);
+        assertTrue(collider.isColliding(square, triangle));
+        final GameObject other = new GameObject(Point2D.origin(), Vector2D.nullVector());
+        other.setHitBoxModel(new TriangleHitBoxModel(SIDE * 2, Math.PI));
+        triangle.setCoor(STEP, 0);
+        assertTrue(collider.timeOfImpact(triangle, other) < 1);
+        triangle.setCoor(-STEP, SIDE * 2);
+        triangle.storePreviousCoor();
+        triangle.setCoor(STEP, SIDE * 2);
+        assertEquals(Collider.NO_IMPACT, collider.timeOfImpact(triangle, square));
+    }
+
+    /**
+     * A circle and a triangle can't be swept, so a sweep reports them if they
+     * collide at the end of the step.
+     */
+    @Test
+    void sweptTrianglesFallBack() {
+        final GameObject circle = new GameObject(Point2D.origin(), Vector2D.nullVector());
+        circle.setHitBoxModel(new CircleHitBoxModel(SIDE));
+        final ObjectStore triangles = new ObjectStore();
+        final GameObject triangle = new GameObject(new Point2D(-STEP, 0), Vector2D.nullVector());
+        triangle.setHitBoxModel(new TriangleHitBoxModel(SIDE * 2, 0));
+        triangles.add(triangle);
+        triangle.setCoor(SIDE, 0);
+        assertEquals(1, collider.timeOfImpact(circle, triangle));
+        assertEquals(1, collider.timeOfImpact(triangle, circle));
+        final BruteForceBroadphase broadphase = new BruteForceBroadphase();
+        broadphase.update(triangles);
+        assertTrue(collider.sweep(circle, triangles, broadphase, new BitSet()).get(triangle.getSlot()));
+        triangle.setCoor(STEP, 0);
+        assertEquals(Collider.NO_IMPACT, collider.timeOfImpact(circle, triangle));
+        broadphase.update(triangles);
+        assertFalse(collider.sweep(circle, triangles, broadphase, new BitSet()).get(triangle.getSlot()));
+    }
+
+    /**
+     * Two circles collide when their centers are nearer than the sum of the
+     * radii.
+     */
+    @Test
+    void circles() {
+        final GameObject g = new GameObject(Point2D.origin(), Vector2D.nullVector());
+        g.setHitBoxModel(new CircleHitBoxModel(SIDE));
+        final GameObject h = new GameObject(new Point2D(SIDE * 2, 0), Vector2D.nullVector());
+        h.setHitBoxModel(new CircleHitBoxModel(SIDE));
+        assertTrue(collider.isColliding(g, h));
+        /* the boxes overlap, the circles don't */
+        h.setCoor(SIDE * 1.5, SIDE * 1.5);
+        assertFalse(collider.isColliding(g, h));
+    }
+
+    /**
+     * A triangle collides only with what touches its sides, not with what is
+     * in the corners of its box.
+     */
+    @Test
+    void triangles() {
+        final GameObject triangle = new GameObject(Point2D.origin(), Vector2D.nullVector());
+        final TriangleHitBoxModel hitBox = new TriangleHitBoxModel(SIDE * 2, 0);
+        triangle.setHitBoxModel(hitBox);
+        final double tip = hitBox.getRadius();
+        final GameObject square = new GameObject(new Point2D(tip - 1, SIDE - 1), Vector2D.nullVector());
+        square.setHitBoxModel(new SquareHitBoxModel(1));
+        assertFalse(collider.isColliding(triangle, square));
+        square.setCoor(tip - 1, 0);
+        assertTrue(collider.isColliding(square, triangle));
+        final GameObject circle = new GameObject(new Point2D(tip + 2, 0), Vector2D.nullVector());
+        circle.setHitBoxModel(new CircleHitBoxModel(1));
+        assertFalse(collider.isColliding(triangle, circle));
+        circle.setHitBoxModel(new CircleHitBoxModel(SHAPES));
+        assertTrue(collider.isColliding(circle, triangle));
+        /* two triangles one over the other touch only in a vertex */
+        final GameObject other = new GameObject(new Point2D(0, SIDE * 2), Vector2D.nullVector());
+        other.setHitBoxModel(hitBox);
+        assertFalse(collider.isColliding(triangle, other));
+        other.setCoor(0, SIDE * 2 - 1);
+        assertTrue(collider.isColliding(triangle, other));
+        other.setHitBoxModel(new TriangleHitBoxModel(SIDE * 2, Math.PI));
+        other.setCoor(tip * 2, 0);
+        assertFalse(collider.isColliding(other, triangle));
+        other.setCoor(tip * 2 - 1, 0);
+        assertTrue(collider.isColliding(other, triangle));
+    }
+
+    /**
+     * The table gives the same answer for a pair in both orders, whatever the
+     * shapes.
+     */
+    @Test
+    void pairsAreSymmetric() {
+        final Random r = new Random(SEED);
+        final List<GameObject> objects = new ArrayList<>();
+        for (int i = 0; i < OBJECTS; i++) {
+            final GameObject o = new GameObject(new Point2D(r.nextInt(FIELD / 4), r.nextInt(FIELD / 4)),
+                    Vector2D.nullVector());
+            final int size = r.nextInt(SIZE) + 1;
+            o.setHitBoxModel(switch (i % SHAPES) {
+                case 0 -> new CircleHitBoxModel(size);
+                case 1 -> new RectangleHitBoxModel(size, r.nextInt(SIZE) + 1);
+                default -> new TriangleHitBoxModel(size, r.nextDouble() * Math.PI * 2);
+            });
+            objects.add(o);
+        }
+        int hits = 0;
+        for (final GameObject g : objects) {
+            for (final GameObject h : objects) {
+                assertEquals(collider.isColliding(g, h), collider.isColliding(h, g));
+                hits += collider.isColliding(g, h) ? 1 : 0;
+            }
+        }
+        assertTrue(hits > OBJECTS);
+    }
+}
@@ -0,0 +1,101 @@
+package gameobjecttest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import api.ObjectPool;
+import game.controlling.Input;
+import game.controlling.KeyboardInput;
+import game.engine.minigame.CatchTheSquare;
+import game.engine.minigame.DodgeATriangle;
+import game.engine.minigame.FlappyBirdAlike;
+import game.engine.minigame.Minigame;
+import game.engine.minigame.whacamoleminigame.WhacAMole;
+
+/**
+ * Class to check that the ticks of the minigames, input processing and
+ * {@link Minigame#compute(long)} included, don't allocate.
+ */
+class InPlaceUpdateAllocationTest {
+    private static final int HEIGHT = 900;
+    /* a seed that keeps all the games going through the ticks measured, with no input */
+    private static final long SEED = 3;
+    private static final long STEP = 5;
+    private static final int WARMUP_TICKS = 1_000;
+    private static final int TICKS = 900;
+    private static final int RUNS = 5;
+    private static final Input NO_INPUT = new KeyboardInput();
+
+    /**
+     * The steady-state ticks of all the four minigames allocate zero bytes.
+     * The ticks measured are after the pools of the games have grown and
+     * before they end, since the growth of a pool and the game over are
+     * allowed to allocate. The games are played again a few times, and the
+     * best run counts: the compiler can allocate now and then while it
+     * optimizes the code, an allocation of the ticks shows up in every run.
+     */
+    @Test
+    void steadyStateTicksDoNotAllocate() {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS && best != 0; run++) {
+            best = Math.min(best, steadyStateBytes());
+        }
+        assertEquals(0, best);
+    }
+
+    /**
+     * Plays new games and measures the bytes allocated by the ticks after the
+     * warm-up.
+     */
+    private static long steadyStateBytes() {
+        final Minigame[] games = games();
+        play(games, WARMUP_TICKS);
+        final long[] misses = new long[games.length];
+        for (int i = 0; i < games.length; i++) {
+            misses[i] = misses(games[i]);
+        }
+        final long overhead = -allocatedBytes() + allocatedBytes();
+        final long start = allocatedBytes();
+        play(games, TICKS);
+        final long allocated = allocatedBytes() - start - overhead;
+        for (int i = 0; i < games.length; i++) {
+            assertFalse(games[i].isGameOver());
+            assertEquals(misses[i], misses(games[i]));
+        }
+        return allocated;
+    }
+
+    private static Minigame[] games() {
+        return new Minigame[] { new CatchTheSquare(HEIGHT, new Random(SEED)),
+            new DodgeATriangle(HEIGHT, new Random(SEED)), new FlappyBirdAlike(HEIGHT, new Random(SEED)),
+            new WhacAMole(HEIGHT, new Random(SEED)), };
+    }
+
+    /**
+     * Performs some ticks of each minigame as the engine does, with no input.
+     */
+    private static void play(final Minigame[] games, final int ticks) {
+        for (int t = 0; t < ticks; t++) {
+            for (final Minigame m : games) {
+                m.step(NO_INPUT, STEP);
+            }
+        }
+    }
+
+    /**
+     * The objects created by the pools of a minigame so far.
+     */
+    private static long misses(final Minigame m) {
+        return m.getPools().values().stream().mapToLong(ObjectPool::getMisses).sum();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,113 @@
+package gameobjecttest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import api.ObjectPool;
+import api.Point2D;
+import api.Vector2D;
+import game.engine.gameobject.GameObject;
+import game.engine.minigame.CatchTheSquare;
+import game.engine.minigame.DodgeATriangle;
+import game.engine.minigame.FlappyBirdAlike;
+import game.engine.minigame.Minigame;
+import game.engine.minigame.whacamoleminigame.DrawStrategy;
+import game.engine.minigame.whacamoleminigame.DrawStrategyImpl;
+import game.engine.minigame.whacamoleminigame.LevelThree;
+
+/**
+ * Class to check that the minigames recycle their short-lived objects.
+ */
+class ObjectPoolTest {
+    private static final int HEIGHT = 900;
+    private static final long SEED = 11;
+    private static final long STEP = 5;
+    private static final int TICKS = 20_000;
+    private static final double MIN_HIT_RATE = 0.5;
+    private static final int MAX_FREE = 2;
+    private static final int HOLES = 9;
+    private static final int DRAWS = 100;
+
+    /**
+     * A released object is the next one acquired, and the metrics count it.
+     */
+    @Test
+    void reuse() {
+        final ObjectPool<StringBuilder> pool = new ObjectPool<>(StringBuilder::new, sb -> sb.setLength(0), MAX_FREE);
+        final StringBuilder first = pool.acquire();
+        first.append("used");
+        final StringBuilder second = pool.acquire();
+        assertEquals(2, pool.getHighWaterMark());
+        pool.release(first);
+        assertEquals(0, first.length());
+        assertSame(first, pool.acquire());
+        assertEquals(1, pool.getHits());
+        assertEquals(2, pool.getMisses());
+        pool.release(first);
+        pool.release(second);
+        /* the object past the maximum is dropped without running the hook */
+        final StringBuilder dropped = new StringBuilder("dropped");
+        pool.release(dropped);
+        assertEquals("dropped", dropped.toString());
+        assertEquals(MAX_FREE, pool.getFree());
+        assertEquals(0, pool.getInUse());
+        assertEquals(2, pool.getHighWaterMark());
+    }
+
+    /**
+     * Once the minigames are running, most of their spawns reuse an object.
+     */
+    @Test
+    void minigamesRecycle() {
+        final List<Minigame> minigames = List.of(new CatchTheSquare(HEIGHT, new Random(SEED)),
+                new DodgeATriangle(HEIGHT, new Random(SEED)), new FlappyBirdAlike(HEIGHT, new Random(SEED)));
+        final Minigame cts = minigames.get(0);
+        for (int i = 0; i < TICKS; i++) {
+            /* the defuser jumps on a bomb, so that they don't explode */
+            final List<GameObject> bombs = cts.getObjects();
+            if (bombs.size() > 1) {
+                bombs.get(0).setCoor(bombs.get(bombs.size() - 1).getCoor());
+            }
+            minigames.forEach(m -> m.compute(STEP));
+        }
+        for (final Minigame m : minigames) {
+            /* a draw can miss a kind of objects for the whole game */
+            final List<ObjectPool<?>> used = m.getPools().values().stream()
+                    .filter(pool -> pool.getHits() + pool.getMisses() > 0)
+                    .toList();
+            assertFalse(used.isEmpty());
+            used.forEach(pool -> {
+                assertTrue(pool.getHitRate() > MIN_HIT_RATE, pool.toString());
+                assertTrue(pool.getHighWaterMark() < pool.getHits() + pool.getMisses(), pool.toString());
+            });
+        }
+    }
+
+    /**
+     * The moles and the bombs given back to the draw strategy are the ones of
+     * the next draws.
+     */
+    @Test
+    void drawsRecycle() {
+        final List<GameObject> holes = new ArrayList<>();
+        for (int i = 0; i < HOLES; i++) {
+            holes.add(new GameObject(new Point2D(i, i), Vector2D.nullVector()));
+        }
+        final DrawStrategy draw = new DrawStrategyImpl(holes, new Random(SEED));
+        for (int i = 0; i < DRAWS; i++) {
+            draw.draw(new LevelThree(), i).forEach(draw::recycle);
+        }
+        draw.getPools().values().forEach(pool -> {
+            assertTrue(pool.getHitRate() > MIN_HIT_RATE, pool.toString());
+            assertEquals(0, pool.getInUse());
+        });
+    }
+}
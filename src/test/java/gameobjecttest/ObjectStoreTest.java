@@ -0,0 +1,117 @@
+package gameobjecttest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import api.Point2D;
+import api.Vector2D;
+import game.engine.gameobject.GameObject;
+import game.engine.gameobject.ObjectStore;
+import game.engine.gameobject.SimplePhysics;
+
+/**
+ * Class to check that the {@link GameObject}s keep their state when they move
+ * in and out of an {@link ObjectStore}.
+ */
+class ObjectStoreTest {
+    private static final int OBJECTS = 40;
+    private static final long DT = 16;
+    private static final double DELTA = 1e-12;
+    private static final int MOVES = 10_000;
+    private static final long MAX_OBJECT_BYTES = 112;
+
+    /**
+     * Removing objects moves the others without changing their state.
+     */
+    @Test
+    void swapRemove() {
+        final ObjectStore store = new ObjectStore(2);
+        final List<GameObject> objects = new ArrayList<>();
+        for (int i = 0; i < OBJECTS; i++) {
+            final GameObject o = new GameObject(new Point2D(i, -i), new Vector2D(1, i));
+            o.setRotation(i);
+            store.add(o);
+            objects.add(o);
+        }
+        final GameObject removed = objects.get(0);
+        store.removeIf(objects, o -> o.getRotation() % 2 == 0, o -> { });
+        assertEquals(OBJECTS / 2, store.size());
+        assertEquals(OBJECTS / 2, objects.size());
+        for (int i = 1; i < objects.size(); i++) {
+            assertTrue(objects.get(i - 1).getRotation() < objects.get(i).getRotation());
+        }
+        assertNull(removed.getStore());
+        assertEquals(new Point2D(0, 0), removed.getCoor());
+        for (final GameObject o : objects) {
+            assertSame(o, store.get(o.getSlot()));
+            assertEquals(new Point2D(o.getRotation(), -o.getRotation()), o.getCoor());
+            assertEquals(new Vector2D(1, o.getRotation()), o.getVel());
+        }
+    }
+
+    /**
+     * Moving the whole store is the same as moving each object.
+     */
+    @Test
+    void integrate() {
+        final ObjectStore store = new ObjectStore();
+        final List<GameObject> single = new ArrayList<>();
+        for (int i = 0; i < OBJECTS; i++) {
+            final Point2D coor = new Point2D(i * 0.3, i * 1.7);
+            final Vector2D vel = new Vector2D(-i, i / 3.0);
+            store.add(new GameObject(coor, vel));
+            single.add(new GameObject(coor, vel));
+        }
+        store.storePrevious();
+        store.integrate(DT);
+        single.forEach(o -> new SimplePhysics().update(DT, o, null));
+        for (int i = 0; i < OBJECTS; i++) {
+            assertEquals(single.get(i).getCoor(), store.get(i).getCoor());
+            assertEquals(single.get(i).getPreviousCoor().getX(), store.get(i).getInterpolatedCoor(0).getX(),
+                    DELTA);
+        }
+    }
+
+    /**
+     * An object out of a store costs about as much as its fields, and moving it
+     * in and out of a store doesn't allocate once the store is large enough.
+     */
+    @Test
+    void detachedObjectsAreLight() {
+        final Point2D coor = new Point2D(1, 2);
+        final Vector2D vel = new Vector2D(3, 4);
+        final GameObject[] objects = new GameObject[OBJECTS];
+        final long overhead = -allocatedBytes() + allocatedBytes();
+        long start = allocatedBytes();
+        for (int i = 0; i < OBJECTS; i++) {
+            objects[i] = new GameObject(coor, vel);
+        }
+        assertTrue(allocatedBytes() - start - overhead <= OBJECTS * MAX_OBJECT_BYTES);
+        final ObjectStore store = new ObjectStore(OBJECTS);
+        for (int i = 0; i < MOVES; i++) {
+            store.add(objects[i % OBJECTS]);
+            store.remove(objects[i % OBJECTS]);
+        }
+        start = allocatedBytes();
+        for (int i = 0; i < MOVES; i++) {
+            store.add(objects[i % OBJECTS]);
+            store.remove(objects[i % OBJECTS]);
+        }
+        assertEquals(0, allocatedBytes() - start - overhead);
+        assertEquals(coor, objects[0].getCoor());
+        assertEquals(vel, objects[0].getVel());
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
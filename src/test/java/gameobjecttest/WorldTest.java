@@ -0,0 +1,119 @@
+package gameobjecttest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import api.ColorRGB;
+import api.Point2D;
+import game.engine.gameobject.catchthesqareobjects.CtsBomb;
+import game.engine.gameobject.ecs.TimerSystem;
+import game.engine.gameobject.ecs.World;
+import game.engine.gameobject.ecs.WorldImpl;
+
+/**
+ * Class to check that the timers of a {@link World} run out in order.
+ */
+class WorldTest {
+    private static final int ENTITIES = 50;
+    private static final int SIDE = 10;
+    private static final long TIMER = 100;
+    private static final long DT = 30;
+    private static final long SEED = 9;
+
+    /**
+     * The ids of the destroyed entities are reused, without their timers.
+     */
+    @Test
+    void destroyedIdsAreReused() {
+        final World world = new WorldImpl();
+        final int e = world.create();
+        world.setTimer(e, TIMER);
+        world.start(e);
+        world.destroy(e);
+        assertFalse(world.isAlive(e));
+        assertThrows(IllegalArgumentException.class, () -> world.start(e));
+        assertEquals(e, world.create());
+        assertFalse(world.isRunning(e));
+        assertEquals(0, world.getTimer(e));
+        assertEquals(-1, world.nextDeadline());
+    }
+
+    /**
+     * The timer system runs the timers of the armed bombs only.
+     */
+    @Test
+    void timersOfArmedBombs() {
+        final World world = new WorldImpl();
+        final CtsBomb armed = new CtsBomb(world, Point2D.origin(), SIDE, ColorRGB.black());
+        final CtsBomb disarmed = new CtsBomb(world, Point2D.origin(), SIDE, ColorRGB.black());
+        armed.setTimer(TIMER);
+        disarmed.setTimer(TIMER);
+        disarmed.disarm();
+        new TimerSystem(world).update(DT);
+        assertEquals(TIMER - DT, armed.getTimer());
+        assertEquals(TIMER, disarmed.getTimer());
+        assertTrue(world.isRunning(armed.getEntity()));
+        assertFalse(world.isRunning(disarmed.getEntity()));
+        assertSame(armed, world.getObject(armed.getEntity()));
+    }
+
+    /**
+     * Each timer runs out once, in the update where it goes below zero, also
+     * when it is changed, stopped and restarted while it runs; the next
+     * deadline is always the one of the running timer with the least time.
+     */
+    @Test
+    void deadlinesInOrder() {
+        final Random r = new Random(SEED);
+        final World world = new WorldImpl(1);
+        for (int i = 0; i < ENTITIES; i++) {
+            final int e = world.create();
+            world.setTimer(e, r.nextInt((int) TIMER * ENTITIES));
+            world.start(e);
+        }
+        for (int e = 0; e < ENTITIES; e += 2) {
+            world.setTimer(e, r.nextInt((int) TIMER * ENTITIES));
+        }
+        for (int e = 0; e < ENTITIES; e += 3) {
+            world.stop(e);
+        }
+        world.advance(DT);
+        for (int e = 0; e < ENTITIES; e += 6) {
+            world.start(e);
+        }
+        final int timers = running(world);
+        final List<Integer> expired = new ArrayList<>();
+        final TimerSystem system = new TimerSystem(world, e -> {
+            assertTrue(world.getTimer(e) < 0 && world.getTimer(e) >= -DT);
+            expired.add(e);
+        });
+        while (world.nextDeadline() >= 0) {
+            final long least = world.getTimer(world.nextDeadline());
+            for (int e = 0; e < ENTITIES; e++) {
+                assertTrue(!world.isRunning(e) || least <= world.getTimer(e));
+            }
+            system.update(DT);
+        }
+        assertEquals(timers, expired.size());
+        assertEquals(timers, new HashSet<>(expired).size());
+        assertEquals(0, running(world));
+    }
+
+    private static int running(final World world) {
+        int running = 0;
+        for (int e = 0; e < ENTITIES; e++) {
+            running += world.isRunning(e) ? 1 : 0;
+        }
+        return running;
+    }
+}
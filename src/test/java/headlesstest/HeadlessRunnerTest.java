@@ -0,0 +1,40 @@
+package headlesstest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import game.engine.ExecutionMode;
+import game.headless.HeadlessRunner;
+import game.headless.RandomBotInput;
+import game.headless.SimulationReport;
+
+/**
+ * Class to check the games played by the {@link HeadlessRunner}.
+ */
+class HeadlessRunnerTest {
+    private static final int GAMES = 5;
+    private static final long STEP = 5;
+    private static final long MAX_TIME = 25_000L;
+
+    /**
+     * Every game ends within the time limit and the report accounts for all
+     * of them.
+     */
+    @Test
+    void runsGames() {
+        final SimulationReport report = new HeadlessRunner(STEP, MAX_TIME, ExecutionMode.SERIAL)
+                .run(GAMES, RandomBotInput::new);
+        assertEquals(GAMES, report.getGames());
+        assertTrue(report.getTicks() > 0);
+        assertTrue(report.getSimulatedMillis() <= GAMES * MAX_TIME);
+        assertEquals(report.getTicks() * STEP, report.getSimulatedMillis());
+        assertTrue(report.getSpeedup() > 0);
+        assertTrue(report.getMinigames().keySet().stream().allMatch(n -> report.getNanosPerTick(n) >= 0));
+        assertTrue(report.getMinigames().get("CatchTheSquare").getPairsPerTick() > 0);
+        assertTrue(report.getPools().containsKey("CtsBomb"));
+        assertTrue(report.getPools().values().stream()
+                .allMatch(p -> p.getHitRate() >= 0 && p.getHitRate() <= 1 && p.getMisses() >= p.getHighWaterMark()));
+    }
+}
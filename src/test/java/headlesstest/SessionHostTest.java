@@ -0,0 +1,50 @@
+package headlesstest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import game.engine.Engine;
+import game.engine.EngineImpl;
+import game.engine.ExecutionMode;
+import game.headless.HeadlessGame;
+import game.headless.RandomBotInput;
+import game.headless.SessionHost;
+import game.headless.SessionHostReport;
+
+/**
+ * Class to check the sessions run concurrently by the {@link SessionHost}.
+ */
+class SessionHostTest {
+    private static final int SESSIONS = 8;
+    private static final int TICK_RATE = 1_000;
+    private static final long STEP = 1;
+    private static final long MAX_TIME = 300L;
+
+    /**
+     * Every session is played as if it were alone and the report accounts for
+     * all of its ticks.
+     */
+    @Test
+    void runsSessions() {
+        final SessionHostReport report = new SessionHost(TICK_RATE, MAX_TIME, ExecutionMode.SERIAL)
+                .run(SESSIONS, RandomBotInput::new);
+        assertEquals(SESSIONS, report.getSessions());
+        long ticks = 0;
+        for (int i = 0; i < SESSIONS; i++) {
+            final HeadlessGame alone = new HeadlessGame(
+                    new EngineImpl(Engine.FIELD_HEIGHT, ExecutionMode.SERIAL, i), new RandomBotInput(i));
+            while (!alone.isOver() && alone.getPoints() < MAX_TIME) {
+                alone.step(STEP);
+            }
+            assertEquals(alone.getPoints(), report.getPoints(i));
+            assertEquals(report.getTicks(i), report.getLatency(i).getCount());
+            ticks += report.getTicks(i);
+        }
+        assertEquals(ticks, report.getTicks());
+        assertEquals(ticks, report.getLatency().getCount());
+        assertTrue(report.getTicksPerSecond() > 0);
+        assertTrue(report.getSustainableSessionsPerCore() > 0);
+    }
+}
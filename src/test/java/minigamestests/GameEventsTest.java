@@ -0,0 +1,81 @@
+package minigamestests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import game.controlling.KeyboardInput;
+import game.engine.Engine;
+import game.engine.EngineImpl;
+import game.engine.ExecutionMode;
+import game.engine.event.EventType;
+import game.engine.event.GameEvent;
+import game.engine.gameobject.catchthesqareobjects.CtsBomb;
+import game.engine.gameobject.dodgeatriangleobjects.DatTriangle;
+import game.engine.minigame.CatchTheSquare;
+import game.engine.minigame.DodgeATriangle;
+import game.engine.minigame.Minigame;
+
+/**
+ * Class to check that the minigames emit their events once, when they happen,
+ * and that the game over follows them.
+ */
+class GameEventsTest {
+    private static final int HEIGHT = 900;
+    private static final long SEED = 11;
+    private static final long ELAPSED_TIME = 10;
+    private static final int MAX_STEPS = 100_000;
+
+    /**
+     * A bomb that runs out of time ends the game with a single game over
+     * event, also if the minigame goes on.
+     */
+    @Test
+    void timerEndsGameOnce() {
+        final Minigame cts = new CatchTheSquare(HEIGHT, new Random(SEED));
+        final List<GameEvent> expired = new ArrayList<>();
+        final List<GameEvent> over = new ArrayList<>();
+        cts.getEvents().subscribe(EventType.TIMER_EXPIRED, expired::add);
+        cts.getEvents().subscribe(EventType.GAME_OVER, over::add);
+        for (int i = 0; i < MAX_STEPS && !cts.isGameOver(); i++) {
+            cts.compute(ELAPSED_TIME);
+            assertEquals(cts.isGameOver(), !over.isEmpty());
+        }
+        assertTrue(cts.isGameOver());
+        assertTrue(expired.get(0).getSource() instanceof CtsBomb);
+        assertEquals(expired.get(0).getSource(), over.get(0).getSource());
+        for (int i = 0; i < MAX_STEPS / 100; i++) {
+            cts.compute(ELAPSED_TIME);
+        }
+        assertEquals(1, over.size());
+    }
+
+    /**
+     * The collision that ends a game of DodgeATriangle is emitted with the
+     * triangle hit, and an engine sees the game over of its minigames from
+     * their events.
+     */
+    @Test
+    void collisionEndsEngine() {
+        final Engine engine = new EngineImpl(HEIGHT, ExecutionMode.SERIAL, SEED);
+        engine.addMinigame();
+        final Minigame dodge = new DodgeATriangle(HEIGHT, new Random(SEED));
+        final List<GameEvent> collisions = new ArrayList<>();
+        dodge.getEvents().subscribe(EventType.COLLISION, collisions::add);
+        for (int i = 0; i < MAX_STEPS && !dodge.isGameOver(); i++) {
+            dodge.compute(ELAPSED_TIME);
+        }
+        assertEquals(1, collisions.size());
+        assertTrue(collisions.get(0).getSource() instanceof DatTriangle);
+        final KeyboardInput input = new KeyboardInput();
+        for (int i = 0; i < MAX_STEPS && !engine.isGameOver(); i++) {
+            engine.step(ELAPSED_TIME, input);
+        }
+        assertTrue(engine.isGameOver());
+    }
+}
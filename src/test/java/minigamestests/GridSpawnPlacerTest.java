@@ -0,0 +1,70 @@
+package minigamestests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import api.Point2D;
+import api.Vector2D;
+import game.engine.gameobject.GameObject;
+import game.engine.spawnstrats.GridSpawnPlacer;
+import game.engine.spawnstrats.SpawnPlacer;
+
+/**
+ * Class to check that the {@link GridSpawnPlacer} finds valid points until the
+ * field is full, and then reports it.
+ */
+class GridSpawnPlacerTest {
+    private static final int WIDTH = 1600;
+    private static final int HEIGHT = 900;
+    private static final int DISTANCE = 300;
+    private static final int CELL = 75;
+    private static final long SEED = 5;
+    private static final int ROUNDS = 50;
+    private final SpawnPlacer placer = new GridSpawnPlacer(0, 0, WIDTH, HEIGHT, DISTANCE, CELL);
+
+    /**
+     * The points fill the field keeping the distance, until there is no space
+     * left, and a full field stays full.
+     */
+    @Test
+    void fillsField() {
+        final Random random = new Random(SEED);
+        for (int round = 0; round < ROUNDS; round++) {
+            final List<GameObject> occupants = new ArrayList<>();
+            GameObject placed = new GameObject(Point2D.origin(), Vector2D.nullVector());
+            while (placer.place(occupants, random, placed)) {
+                final Point2D point = placed.getCoor();
+                assertTrue(point.getX() >= 0 && point.getX() <= WIDTH);
+                assertTrue(point.getY() >= 0 && point.getY() <= HEIGHT);
+                assertTrue(occupants.stream().allMatch(o -> point.distance(o.getCoor()) >= DISTANCE));
+                occupants.add(placed);
+                placed = new GameObject(Point2D.origin(), Vector2D.nullVector());
+            }
+            assertTrue(occupants.size() > 1);
+            assertFalse(placer.place(occupants, random, placed));
+            assertEquals(Point2D.origin().getX(), placed.getX());
+        }
+    }
+
+    /**
+     * The same occupants and the same random generator give the same point.
+     */
+    @Test
+    void isDeterministic() {
+        final List<GameObject> occupants = List.of(
+                new GameObject(new Point2D(WIDTH / 2, HEIGHT / 2), Vector2D.nullVector()));
+        final GameObject first = new GameObject(Point2D.origin(), Vector2D.nullVector());
+        final GameObject second = new GameObject(Point2D.origin(), Vector2D.nullVector());
+        assertTrue(placer.place(occupants, new Random(SEED), first));
+        assertTrue(placer.place(occupants, new Random(SEED), second));
+        assertEquals(first.getX(), second.getX());
+        assertEquals(first.getY(), second.getY());
+    }
+}
@@ -23,14 +23,14 @@ class IncrRateStratTest {
     @Test
     void isIncreasing() {
 
-        assertTrue(s.apply(START1 + RANGE) - s.apply(START1) < s.apply(START2 + RANGE) - s.apply(START2));
+        assertTrue(s.applyAsLong(START1 + RANGE) - s.applyAsLong(START1) < s.applyAsLong(START2 + RANGE) - s.applyAsLong(START2));
     }
 
     @Test
     void isFlattening() {
 
-        assertEquals(s.apply(FLAT_START1 + RANGE) - s.apply(FLAT_START1), s.apply(FLAT_START2 + RANGE)
-                - s.apply(FLAT_START2));
+        assertEquals(s.applyAsLong(FLAT_START1 + RANGE) - s.applyAsLong(FLAT_START1), s.applyAsLong(FLAT_START2 + RANGE)
+                - s.applyAsLong(FLAT_START2));
     }
 
 }
@@ -22,18 +22,18 @@ class StepRateStratTest {
 
     @Test
     void intervalCheck() {
-        assertEquals(s.apply(STEP_LENGTH) - s.apply(0L), STEP_VALUE);
-        assertEquals(s.apply(STEP_LENGTH * 2) - s.apply(0L), STEP_VALUE * 2);
-        assertEquals(s.apply(STEP_LENGTH * 3) - s.apply(STEP_LENGTH), STEP_VALUE * 2);
+        assertEquals(s.applyAsInt(STEP_LENGTH) - s.applyAsInt(0L), STEP_VALUE);
+        assertEquals(s.applyAsInt(STEP_LENGTH * 2) - s.applyAsInt(0L), STEP_VALUE * 2);
+        assertEquals(s.applyAsInt(STEP_LENGTH * 3) - s.applyAsInt(STEP_LENGTH), STEP_VALUE * 2);
     }
 
     @Test
     void maxValueCheck() {
-        assertNotEquals(s.apply(STEP_LENGTH * (NUM_STEPS - 1)), s.apply(STEP_LENGTH * NUM_STEPS));
-        assertEquals(s.apply(STEP_LENGTH * (NUM_STEPS + 1)), s.apply(STEP_LENGTH * NUM_STEPS));
+        assertNotEquals(s.applyAsInt(STEP_LENGTH * (NUM_STEPS - 1)), s.applyAsInt(STEP_LENGTH * NUM_STEPS));
+        assertEquals(s.applyAsInt(STEP_LENGTH * (NUM_STEPS + 1)), s.applyAsInt(STEP_LENGTH * NUM_STEPS));
 
         for (final long multiplier : Stream.iterate(0L, x -> x + 1).limit(NUM_STEPS * 2).toList()) {
-            assertTrue(s.apply(STEP_LENGTH * multiplier) <= s.apply(STEP_LENGTH * NUM_STEPS));
+            assertTrue(s.applyAsInt(STEP_LENGTH * multiplier) <= s.applyAsInt(STEP_LENGTH * NUM_STEPS));
         }
     }
 }
@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Test;
 import api.ColorRGB;
 import api.Point2D;
 import game.engine.gameobject.catchthesqareobjects.CtsBomb;
+import game.engine.gameobject.ecs.World;
+import game.engine.gameobject.ecs.WorldImpl;
 
 /**
  * Test to check the {@link CtsBomb} {@link GameObject} properties.
@@ -18,10 +20,11 @@ class BombTest {
 
     @Test
     void timeDec() {
-        final CtsBomb b = new CtsBomb(Point2D.origin(), SIDE, ColorRGB.black());
+        final World world = new WorldImpl(1);
+        final CtsBomb b = new CtsBomb(world, Point2D.origin(), SIDE, ColorRGB.black());
         final long start = b.getTimer();
         for (int i = 0; i < ITERATIONS; i++) {
-            b.updatePhysics(DELTA, null);
+            world.advance(DELTA);
         }
         assertTrue(start > b.getTimer());
     }
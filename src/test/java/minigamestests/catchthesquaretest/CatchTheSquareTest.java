@@ -6,7 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,7 +38,7 @@ class CatchTheSquareTest {
     private static final int BOUND_LENGHT = 1600;
     private static final double BOMB_SPAWN_DIFF = 1.05;
     private static final double MAX_BOMB_RATE = 0.7;
-    private static final List<Function<Long, Long>> SPAWN_STRATS = List
+    private static final List<LongUnaryOperator> SPAWN_STRATS = List
             .of(new IncrRateStrat(BOMB_SPAWN_DIFF, MAX_BOMB_RATE));
     private static final List<InputModel> INPUT_MODEL_STRATS = List.of(new DirectionalInput(),
             new DirectionalLinearInput());
@@ -49,7 +49,7 @@ class CatchTheSquareTest {
     @Test
     void testExplosion() {
         for (final InputModel inputModel : INPUT_MODEL_STRATS) {
-            for (final Function<Long, Long> spawnStrat : SPAWN_STRATS) {
+            for (final LongUnaryOperator spawnStrat : SPAWN_STRATS) {
                 final Minigame cTS = new CatchTheSquare(spawnStrat,
                         inputModel, FRAME_HEIGHT);
                 for (int n = 0; n < REPETITIONS; n++) {
@@ -63,7 +63,7 @@ class CatchTheSquareTest {
     @Test
     void testDefusion() {
         for (final InputModel inputModel : INPUT_MODEL_STRATS) {
-            for (final Function<Long, Long> spawnStrat : SPAWN_STRATS) {
+            for (final LongUnaryOperator spawnStrat : SPAWN_STRATS) {
                 final Minigame cTS = new CatchTheSquare(spawnStrat,
                         inputModel, FRAME_HEIGHT);
                 final GameObject defuser = cTS.getObjects().get(0);
@@ -88,7 +88,7 @@ class CatchTheSquareTest {
     @Test
     void testControls() {
         for (final InputModel inputModel : INPUT_MODEL_STRATS) {
-            for (final Function<Long, Long> spawnStrat : SPAWN_STRATS) {
+            for (final LongUnaryOperator spawnStrat : SPAWN_STRATS) {
                 final Minigame cTS = new CatchTheSquare(spawnStrat,
                         inputModel, FRAME_HEIGHT);
                 final Input input = new KeyboardInput();
@@ -105,7 +105,7 @@ class CatchTheSquareTest {
     @Test
     void testBoundary() {
         for (final InputModel inputModel : INPUT_MODEL_STRATS) {
-            for (final Function<Long, Long> spawnStrat : SPAWN_STRATS) {
+            for (final LongUnaryOperator spawnStrat : SPAWN_STRATS) {
                 final Minigame cTS = new CatchTheSquare(spawnStrat,
                         inputModel, FRAME_HEIGHT);
                 final GameObject defuser = cTS.getObjects().get(0);
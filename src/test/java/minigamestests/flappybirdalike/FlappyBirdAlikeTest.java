@@ -3,6 +3,8 @@ package minigamestests.flappybirdalike;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 import game.controlling.Input;
@@ -22,6 +24,10 @@ class FlappyBirdAlikeTest {
     private static final int FIELD_MIDDLE = 450;
     private static final int CYCLES = 400;
     private static final long ELAPSED_TIME = 10L;
+    /* an obstacle moves by more than its width and the cursor's in a frame */
+    private static final long LONG_FRAME = 2000L;
+    private static final int HEIGHT = 900;
+    private static final long SEED = 7;
 
     @Test
     void boundaryCheck() {
@@ -67,6 +73,16 @@ class FlappyBirdAlikeTest {
         assertTrue(m.isGameOver());
     }
 
+    @Test
+    void longFrameCheck() {
+        final Minigame m = new FlappyBirdAlike(HEIGHT, new Random(SEED));
+        for (int i = 0; i < CYCLES && !m.isGameOver(); i++) {
+            m.compute(LONG_FRAME);
+        }
+
+        assertTrue(m.isGameOver());
+    }
+
     @Test
     void speedCheck() {
         final Minigame m = new FlappyBirdAlike();
@@ -0,0 +1,54 @@
+package minigamestests.whacamoletest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import api.Point2D;
+import api.Vector2D;
+import game.engine.gameobject.GameObject;
+import game.engine.gameobject.whacamoleobjects.WamObject;
+import game.engine.minigame.whacamoleminigame.DrawStrategy;
+import game.engine.minigame.whacamoleminigame.DrawStrategyImpl;
+import game.engine.minigame.whacamoleminigame.LevelThree;
+
+/**
+ * Unit test for the assignment of the holes in the draws.
+ */
+class DrawStrategyTest {
+    private static final int HOLES = 3;
+    private static final int DRAWS = 500;
+    private static final long SEED = 13;
+
+    @Test
+    void holesAreDistinctTest() {
+        final List<GameObject> holes = new ArrayList<>();
+        for (int i = 0; i < HOLES; i++) {
+            holes.add(new GameObject(new Point2D(i, i), Vector2D.nullVector()));
+        }
+        final DrawStrategy draw = new DrawStrategyImpl(holes, new Random(SEED));
+        final Set<Integer> used = new HashSet<>();
+        /* With as many holes as the objects of the level, the  */
+        /* draws that fill the board must still use each hole   */
+        /* once, at the coordinates of the hole it was given    */
+        for (int i = 0; i < DRAWS; i++) {
+            final Set<Integer> taken = new HashSet<>();
+            for (final GameObject o : draw.draw(new LevelThree(), i)) {
+                final int hole = ((WamObject) o).getHoleNumber();
+                assertTrue(hole >= 1 && hole <= HOLES);
+                assertTrue(taken.add(hole));
+                assertEquals(holes.get(hole - 1).getCoor(), ((WamObject) o).getStartCoor());
+                draw.recycle(o);
+            }
+            used.addAll(taken);
+        }
+        assertEquals(HOLES, used.size());
+    }
+}
@@ -1,12 +1,15 @@
 package minigamestests.whacamoletest;
 
 import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.function.BinaryOperator;
 import game.controlling.Input;
 import game.controlling.KeyboardInput;
@@ -24,6 +27,9 @@ import game.engine.minigame.whacamoleminigame.WhacAMole;
 class WhacAMoleTest {
     private static final int ELAPSED_TIME = 10;
     private static final int FRAME_HEIGHT = 900;
+    private static final int FRAMES = 2000;
+    private static final long SEED = 5;
+    private static final int LARGE_BOARD = 400;
 
     @Test
     void hitMoleTest() {
@@ -129,6 +135,54 @@ class WhacAMoleTest {
         assertTrue(bombToMiss.get().getStatus().equals(Status.MISSED) && !wam.isGameOver());
     }
 
+    @Test
+    void appearOnTimeTest() {
+        final WhacAMole wam = new WhacAMole(FRAME_HEIGHT, new Random(SEED));
+        /* Each mole or bomb must stay in its hole until its appearance */
+        /* time and come out in the first frame that reaches it, with   */
+        /* never two of them in the same hole                           */
+        for (int i = 0; i < FRAMES && !wam.isGameOver(); i++) {
+            final List<WamObject> waiting = wam.getObjects().stream()
+                    .map(o -> (WamObject) o)
+                    .filter(o -> o.getStatus().equals(Status.WAITING) && o.getAppearanceTime() > 0)
+                    .toList();
+            wam.compute(ELAPSED_TIME);
+            waiting.forEach(o -> assertEquals(o.getAppearanceTime() <= wam.getCurrentTime(),
+                    !o.getStatus().equals(Status.WAITING)));
+            final List<Integer> holes = wam.getObjects().stream()
+                    .filter(o -> o instanceof Mole || o instanceof WamBomb)
+                    .map(o -> ((WamObject) o).getHoleNumber())
+                    .toList();
+            assertEquals(holes.size(), holes.stream().distinct().count());
+        }
+    }
+
+    @Test
+    void largeBoardTest() {
+        assertThrows(IllegalArgumentException.class, () -> new WhacAMole(FRAME_HEIGHT, new Random(SEED), LARGE_BOARD - 1));
+        final WhacAMole wam = new WhacAMole(FRAME_HEIGHT, new Random(SEED), LARGE_BOARD);
+        assertEquals(LARGE_BOARD * 2, wam.getObjects().size());
+
+        while (wam.getObjects().stream()
+                .noneMatch(o -> o instanceof Mole && ((WamObject) o).getStatus().equals(Status.IN_MOTION))) {
+            wam.compute(ELAPSED_TIME);
+        }
+        final WamObject moleToHit = wam.getObjects().stream()
+                .filter(o -> o instanceof Mole && ((WamObject) o).getStatus().equals(Status.IN_MOTION))
+                .map(o -> (WamObject) o)
+                .findFirst()
+                .get();
+        /* Pressing the number of another hole doesn't reach */
+        /* the mole, pressing the number of its own hits it  */
+        final Input input = new KeyboardInput();
+        input.setNumberPressed(Optional.of(moleToHit.getHoleNumber() % LARGE_BOARD + 1));
+        wam.processInput(input, ELAPSED_TIME);
+        assertEquals(Status.IN_MOTION, moleToHit.getStatus());
+        input.setNumberPressed(Optional.of(moleToHit.getHoleNumber()));
+        wam.processInput(input, ELAPSED_TIME);
+        assertTrue(moleToHit.getStatus().equals(Status.HIT) && !wam.isGameOver());
+    }
+
     /** 
      * I need to eliminate all possible moles, since by not
      * handling their input (not hitting them) they could be the
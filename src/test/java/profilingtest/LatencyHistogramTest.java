@@ -0,0 +1,54 @@
+package profilingtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import game.profiling.LatencyHistogram;
+
+/**
+ * Class to check the percentiles of the {@link LatencyHistogram}.
+ */
+class LatencyHistogramTest {
+    private static final int VALUES = 1_000;
+    private static final long SCALE = 1_000L;
+    private static final double MAX_ERROR = 1 / 16d;
+
+    /**
+     * The percentiles of uniformly distributed values are within the error of
+     * a bucket.
+     */
+    @Test
+    void percentiles() {
+        final LatencyHistogram h = new LatencyHistogram();
+        for (int i = 1; i <= VALUES; i++) {
+            h.record(i * SCALE);
+        }
+        assertEquals(VALUES, h.getCount());
+        assertEquals(VALUES * SCALE, h.getMax());
+        assertClose(VALUES / 2 * SCALE, h.getPercentile(50));
+        assertClose(VALUES * 99 / 100 * SCALE, h.getPercentile(99));
+        assertEquals(h.getMax(), h.getPercentile(100));
+    }
+
+    /**
+     * Small values are stored exactly and reset empties the histogram.
+     */
+    @Test
+    void smallValuesAndReset() {
+        final LatencyHistogram h = new LatencyHistogram();
+        h.record(3);
+        h.record(-1);
+        assertEquals(0, h.getPercentile(50));
+        assertEquals(3, h.getPercentile(100));
+        h.reset();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getPercentile(99));
+    }
+
+    private static void assertClose(final long expected, final long actual) {
+        assertTrue(actual >= expected && actual <= expected * (1 + MAX_ERROR),
+                () -> "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,65 @@
+package replaytest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import api.Point2D;
+import game.engine.Engine;
+import game.engine.EngineImpl;
+import game.engine.ExecutionMode;
+import game.headless.HeadlessGame;
+import game.headless.RandomBotInput;
+import game.replay.SessionRecorder;
+import game.replay.SessionReplayer;
+
+/**
+ * Class to check that a recorded session is reproduced exactly.
+ */
+class SessionReplayTest {
+    private static final long SEED = 1234;
+    private static final long BOT_SEED = 99;
+    private static final long STEP = 5;
+    private static final long MAX_TIME = 45_000L;
+
+    /**
+     * Replaying a session gives the same objects in the same positions, even
+     * if the minigames are updated in a different way.
+     * 
+     * @throws IOException never, the session is in memory.
+     */
+    @Test
+    void roundTrip() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Engine original = new EngineImpl(Engine.FIELD_HEIGHT, ExecutionMode.PARALLEL, SEED);
+        final HeadlessGame game;
+        try (SessionRecorder recorder = new SessionRecorder(original, Engine.FIELD_HEIGHT, out)) {
+            game = new HeadlessGame(recorder, new RandomBotInput(BOT_SEED));
+            while (!game.isOver() && game.getPoints() < MAX_TIME) {
+                game.step(STEP);
+            }
+        }
+        assertTrue(out.size() < game.getTicks(), "runs of equal steps are stored once");
+
+        final SessionReplayer replayer = new SessionReplayer(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(SEED, replayer.getSeed());
+        final Engine replayed = replayer.replay(replayer.createEngine(ExecutionMode.SERIAL));
+        assertEquals(game.getTicks(), replayer.getTicks());
+        assertEquals(game.getPoints(), replayer.getSimulatedMillis());
+        assertEquals(original.activeMinigames(), replayed.activeMinigames());
+        assertEquals(original.isGameOver(), replayed.isGameOver());
+        assertEquals(positions(original), positions(replayed));
+    }
+
+    private static List<List<Point2D>> positions(final Engine engine) {
+        return engine.getMinigameObjects().stream()
+                .map(objects -> objects.stream().map(o -> o.getCoor()).toList())
+                .toList();
+    }
+}
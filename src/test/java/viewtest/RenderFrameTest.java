@@ -0,0 +1,118 @@
+package viewtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import api.ColorRGB;
+import api.Point2D;
+import api.TripleBuffer;
+import api.Vector2D;
+import game.engine.gameobject.Circle;
+import game.engine.gameobject.GameObject;
+import game.view.FramePainter;
+import game.view.RenderFrame;
+
+/**
+ * Class to check the recording of {@link RenderFrame}s and their exchange
+ * through a {@link TripleBuffer}.
+ */
+class RenderFrameTest {
+    private static final double RADIUS = 10;
+    private static final double X = 100;
+    private static final double Y = 50;
+    private static final int HEIGHT = 600;
+
+    /**
+     * The frame keeps the interpolated positions even if the object moves
+     * after the recording.
+     */
+    @Test
+    void recordsPositions() {
+        final GameObject circle = new Circle(new Point2D(0, Y), Vector2D.nullVector(), RADIUS);
+        circle.setCoor(new Point2D(X, Y));
+        final RenderFrame frame = new RenderFrame();
+        frame.record(List.of(List.of(circle), List.of()), HEIGHT, 0.5);
+        circle.setCoor(Point2D.origin());
+        final List<Point2D> painted = new ArrayList<>();
+        frame.paint(0, new PositionsPainter(painted));
+        assertEquals(List.of(new Point2D(X / 2, Y)), painted);
+        assertEquals(2, frame.getMinigames());
+        assertEquals(1, frame.getObjectCount(0));
+        assertEquals(0, frame.getObjectCount(1));
+        assertEquals(HEIGHT, frame.getFieldHeight());
+    }
+
+    /**
+     * The reader always gets the newest published buffer and never the one
+     * being written.
+     */
+    @Test
+    void tripleBufferGivesNewest() {
+        final TripleBuffer<StringBuilder> buffer = new TripleBuffer<>(StringBuilder::new);
+        assertFalse(buffer.acquire());
+        buffer.getWriteBuffer().append("first");
+        buffer.publish();
+        buffer.getWriteBuffer().append("second");
+        buffer.publish();
+        assertTrue(buffer.acquire());
+        assertEquals("second", buffer.getReadBuffer().toString());
+        assertFalse(buffer.acquire());
+        assertNotSame(buffer.getWriteBuffer(), buffer.getReadBuffer());
+        final StringBuilder read = buffer.getReadBuffer();
+        buffer.publish();
+        assertSame(read, buffer.getReadBuffer());
+    }
+
+    private record PositionsPainter(List<Point2D> positions) implements FramePainter {
+        @Override
+        public void paintCircle(final double x, final double y, final ColorRGB color, final double radius) {
+            positions.add(new Point2D(x, y));
+        }
+
+        @Override
+        public void paintRectangle(final double x, final double y, final ColorRGB color, final double width,
+                final double height, final boolean filled) {
+            positions.add(new Point2D(x, y));
+        }
+
+        @Override
+        public void paintTriangle(final double x, final double y, final ColorRGB color, final double side,
+                final double rotAngle) {
+            positions.add(new Point2D(x, y));
+        }
+
+        @Override
+        public void paintLabel(final double x, final double y, final ColorRGB color, final int size,
+                final String string) {
+            positions.add(new Point2D(x, y));
+        }
+
+        @Override
+        public void paintMole(final double x, final double y, final boolean beenHit) {
+            positions.add(new Point2D(x, y));
+        }
+
+        @Override
+        public void paintWamBomb(final double x, final double y, final boolean beenHit) {
+            positions.add(new Point2D(x, y));
+        }
+
+        @Override
+        public void paintHoleUpperPart(final double x, final double y) {
+            positions.add(new Point2D(x, y));
+        }
+
+        @Override
+        public void paintHoleLowerPart(final double x, final double y) {
+            positions.add(new Point2D(x, y));
+        }
+    }
+}